@@ -0,0 +1,208 @@
+package solid.backend.Docker.build;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.dto.BuildResultDto;
+import solid.backend.Docker.dto.DockerResultDto;
+import solid.backend.Docker.executor.ExecutionPhaseTimer;
+import solid.backend.Docker.runtime.LanguageRuntime;
+import solid.backend.common.DockerRun;
+import solid.backend.config.DockerProperties;
+import solid.backend.config.FileStorageConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 컴파일 언어 제출 코드의 컴파일 결과 캐시
+ * 제출마다 한 번만 실행 환경의 컴파일 명령을 실행하고, 결과 파일을 소스·컴파일 설정 해시 기준 디렉터리에 보관해 재사용한다.
+ * 컴파일 에러도 같은 해시로 보관해 동일 소스의 재컴파일을 막는다.
+ */
+@Slf4j
+@Component
+public class BuildCache {
+    private final DockerRun dockerRun;
+    private final ExecutionPhaseTimer phaseTimer;
+    private final DockerProperties.Build buildProperties;
+    private final Path cacheRoot;
+    private final Map<String, CompletableFuture<BuildResultDto>> inFlight = new ConcurrentHashMap<>();
+
+    public BuildCache(DockerRun dockerRun, ExecutionPhaseTimer phaseTimer, DockerProperties dockerProperties,
+                      FileStorageConfig fileStorageConfig) {
+        this.dockerRun = dockerRun;
+        this.phaseTimer = phaseTimer;
+        this.buildProperties = dockerProperties.getBuild();
+        this.cacheRoot = Path.of(fileStorageConfig.getUploadDir(), BUILD_CACHE_DIR).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 설명: 소스 컴파일 (캐시에 있으면 재사용)
+     * @param filePath
+     * @param runtime 컴파일 언어 실행 환경
+     * @return BuildResultDto
+     */
+    public BuildResultDto compile(String filePath, LanguageRuntime runtime) {
+        Path source = Path.of(filePath);
+        String fileName = source.getFileName().toString();
+        String hash = hash(fileName, source, runtime);
+
+        BuildResultDto cached = findCached(hash, runtime, fileName);
+        if (cached != null) return cached;
+
+        // 같은 소스에 대한 동시 컴파일은 하나만 실행
+        CompletableFuture<BuildResultDto> mine = new CompletableFuture<>();
+        CompletableFuture<BuildResultDto> running = inFlight.putIfAbsent(hash, mine);
+        if (running != null) return running.join();
+
+        try {
+            BuildResultDto result = doCompile(hash, source, fileName, runtime);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(hash);
+        }
+    }
+
+    /**
+     * 설명: 오래 사용되지 않은 컴파일 결과 삭제
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void evictExpired() {
+        if (!Files.isDirectory(cacheRoot)) return;
+        Instant threshold = Instant.now().minus(buildProperties.getCacheTtlHours(), ChronoUnit.HOURS);
+
+        try (Stream<Path> entries = Files.list(cacheRoot)) {
+            entries.filter(entry -> lastModified(entry).isBefore(threshold)).forEach(this::deleteRecursively);
+        } catch (IOException e) {
+            log.warn("컴파일 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설명: 캐시된 컴파일 결과 조회
+     * @param hash
+     * @param runtime
+     * @param fileName
+     * @return BuildResultDto
+     */
+    private BuildResultDto findCached(String hash, LanguageRuntime runtime, String fileName) {
+        Path buildDir = cacheRoot.resolve(hash);
+        if (!Files.isDirectory(buildDir)) return null;
+
+        try {
+            Files.setLastModifiedTime(buildDir, FileTime.from(Instant.now()));
+            Path errorFile = buildDir.resolve(COMPILE_ERROR_FILE);
+            if (Files.exists(errorFile)) {
+                return new BuildResultDto(false, buildDir.toString(), runtime.extension(), fileName, Files.readString(errorFile));
+            }
+            if (Files.exists(buildDir.resolve(runtime.artifact(fileName)))) {
+                return new BuildResultDto(true, buildDir.toString(), runtime.extension(), fileName, "");
+            }
+        } catch (IOException e) {
+            log.warn("컴파일 캐시 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 설명: 임시 디렉터리에서 컴파일 명령 실행 후 결과 디렉터리로 이동
+     * @param hash
+     * @param source
+     * @param fileName
+     * @param runtime
+     * @return BuildResultDto
+     */
+    private BuildResultDto doCompile(String hash, Path source, String fileName, LanguageRuntime runtime) {
+        Path buildDir = cacheRoot.resolve(hash);
+        Path tempDir = cacheRoot.resolve(hash + ".tmp-" + UUID.randomUUID());
+
+        try {
+            Files.createDirectories(tempDir);
+            Files.copy(source, tempDir.resolve(fileName));
+
+            String script = "cd " + WORK_DIR + " && " + runtime.compileCommand(fileName);
+            DockerResultDto result = dockerRun.runContainer(
+                    tempDir, runtime.extension(), script, buildProperties.getCompileMem(), buildProperties.getCompileTimeout());
+            phaseTimer.record(PHASE_COMPILE, runtime.extension(), result.getTime());
+
+            // 컴파일 시간 초과는 일시적인 문제일 수 있어 캐시하지 않음
+            if (TIME_OUT.equals(result.getOutput())) {
+                return new BuildResultDto(false, tempDir.toString(), runtime.extension(), fileName, "Compile " + TIME_OUT);
+            }
+
+            boolean success = Files.exists(tempDir.resolve(runtime.artifact(fileName)));
+            if (!success) {
+                Files.writeString(tempDir.resolve(COMPILE_ERROR_FILE), result.getOutput());
+            }
+
+            try {
+                Files.move(tempDir, buildDir, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                // 다른 요청이 먼저 같은 결과를 저장한 경우
+            }
+            return new BuildResultDto(success, buildDir.toString(), runtime.extension(), fileName, success ? "" : result.getOutput());
+        } catch (IOException e) {
+            throw new RuntimeException("컴파일 준비 실패: " + e.getMessage(), e);
+        } finally {
+            if (Files.exists(tempDir)) deleteRecursively(tempDir);
+        }
+    }
+
+    /**
+     * 설명: 파일 이름, 소스 내용, 컴파일 이미지와 명령으로 SHA-256 해시 생성 (컴파일 설정이 바뀌면 다시 컴파일)
+     * @param fileName
+     * @param source
+     * @param runtime
+     * @return String
+     */
+    private String hash(String fileName, Path source, LanguageRuntime runtime) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : new String[] {fileName, runtime.image(), runtime.compileCommand(fileName)}) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(Files.readAllBytes(source));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new RuntimeException("코드 파일 읽기 실패: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            return Instant.now();
+        }
+    }
+
+    private void deleteRecursively(Path path) {
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(entry -> entry.toFile().delete());
+        } catch (IOException e) {
+            log.warn("삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package solid.backend.Docker.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.service.GradedCase;
+import solid.backend.config.DockerProperties;
+import solid.backend.entity.Question;
+import solid.backend.entity.TestCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static solid.backend.Docker.constant.DockerConstants.TIME_OUT;
+
+/**
+ * 채점 결과 캐시
+ * (소스 SHA-256, 언어, 문제 시간/메모리 제한, 테스트케이스 내용 해시)가 같으면 이전 채점 결과를 그대로 돌려준다.
+ * 최근 사용 순(LRU)으로 최대 개수를 유지하고, 문제 수정 시 해당 문제의 결과를 모두 비운다.
+ */
+@Component
+public class JudgeResultCache {
+    private final DockerProperties.ResultCache cacheProperties;
+    private final Map<String, Entry> entries;
+    private final Map<Integer, Set<String>> keysByQuestion = new HashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public JudgeResultCache(DockerProperties dockerProperties, MeterRegistry meterRegistry) {
+        this.cacheProperties = dockerProperties.getResultCache();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= cacheProperties.getMaxEntries()) return false;
+                unindex(eldest.getKey(), eldest.getValue().questionId());
+                evictionCounter.increment();
+                return true;
+            }
+        };
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.evictionCounter = Counter.builder("docker.result.cache.evictions")
+                .description("채점 결과 캐시 LRU 제거 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("docker.result.cache.size", this, JudgeResultCache::size);
+    }
+
+    /**
+     * 설명: 캐시 사용 여부
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return cacheProperties.isEnabled();
+    }
+
+    /**
+     * 설명: 채점 결과 캐시 키 생성
+     * @param filePath
+     * @param extension
+     * @param question
+     * @param testcases 채점 대상 테스트케이스 (순서 포함)
+     * @return String
+     */
+    public String key(String filePath, String extension, Question question, List<TestCase> testcases) {
+        String sourceHash = sourceHash(filePath);
+
+        MessageDigest caseDigest = sha256();
+        for (TestCase testcase : testcases) {
+            update(caseDigest, String.valueOf(testcase.getCaseId()));
+            update(caseDigest, testcase.getCaseEx());
+            update(caseDigest, testcase.getCaseAnswer());
+            update(caseDigest, testcase.getCaseHash());
+        }
+        String caseHash = HexFormat.of().formatHex(caseDigest.digest());
+
+        return String.join(":", sourceHash, extension,
+                String.valueOf(question.getQuestionTime()), String.valueOf(question.getQuestionMem()), caseHash);
+    }
+
+    /**
+     * 설명: 코드 파일 SHA-256 (재채점 시 제출 이후 소스가 바뀌었는지 확인하는 데도 사용)
+     * @param filePath
+     * @return String
+     */
+    public String sourceHash(String filePath) {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(Path.of(filePath)), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("코드 파일 읽기 실패: " + e.getMessage(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 설명: 캐시된 채점 결과 조회
+     * @param key
+     * @return Optional<List<GradedCase>>
+     */
+    public synchronized Optional<List<GradedCase>> get(String key) {
+        Entry entry = entries.get(key);
+        (entry != null ? hitCounter : missCounter).increment();
+        return Optional.ofNullable(entry).map(Entry::gradedCases);
+    }
+
+    /**
+     * 설명: 채점 결과 저장 (시간 초과 결과는 서버 부하 영향이 있어 저장하지 않음)
+     * @param questionId
+     * @param key
+     * @param gradedCases
+     */
+    public synchronized void put(Integer questionId, String key, List<GradedCase> gradedCases) {
+        boolean timedOut = gradedCases.stream().anyMatch(graded -> TIME_OUT.equals(graded.result().getActual()));
+        if (timedOut) return;
+
+        entries.put(key, new Entry(questionId, List.copyOf(gradedCases)));
+        keysByQuestion.computeIfAbsent(questionId, id -> new HashSet<>()).add(key);
+    }
+
+    /**
+     * 설명: 문제의 채점 결과 모두 삭제 (문제, 테스트케이스 수정 시)
+     * @param questionId
+     */
+    public synchronized void invalidateQuestion(Integer questionId) {
+        Set<String> keys = keysByQuestion.remove(questionId);
+        if (keys != null) keys.forEach(entries::remove);
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private void unindex(String key, Integer questionId) {
+        Set<String> keys = keysByQuestion.get(questionId);
+        if (keys == null) return;
+        keys.remove(key);
+        if (keys.isEmpty()) keysByQuestion.remove(questionId);
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("docker.result.cache")
+                .description("채점 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목 (문제 ID, 채점 결과)
+     */
+    private record Entry(Integer questionId, List<GradedCase> gradedCases) {
+    }
+}
@@ -0,0 +1,134 @@
+package solid.backend.Docker.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.dto.TestcaseResultDto;
+import solid.backend.Docker.service.JudgeListener;
+import solid.backend.config.DockerProperties;
+import solid.backend.jpaRepository.CodeFileRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 진행 중인 동일 제출 합치기 (single-flight)
+ * 같은 멤버가 같은 소스(내용 해시)로 같은 문제를 동시에 다시 요청하면 새로 실행하지 않고 진행 중인 실행에 합류해 결과를 공유한다.
+ * 합류한 요청은 스케줄러 허가를 받지 않으며, 이미 전달된 테스트케이스 결과를 먼저 받은 뒤 이후 결과를 함께 받는다.
+ */
+@Component
+public class SubmissionCoalescer {
+    private final boolean enabled;
+    private final CodeFileRepository codeFileRepository;
+    private final JudgeResultCache judgeResultCache;
+    private final Map<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter joinedCounter;
+
+    public SubmissionCoalescer(DockerProperties dockerProperties, CodeFileRepository codeFileRepository,
+                               JudgeResultCache judgeResultCache, MeterRegistry meterRegistry) {
+        this.enabled = dockerProperties.getCoalesce().isEnabled();
+        this.codeFileRepository = codeFileRepository;
+        this.judgeResultCache = judgeResultCache;
+        this.leaderCounter = Counter.builder("docker.coalesce")
+                .description("동일 제출 합치기 결과 (leader: 새로 실행, joined: 진행 중인 실행에 합류)")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.joinedCounter = Counter.builder("docker.coalesce")
+                .description("동일 제출 합치기 결과 (leader: 새로 실행, joined: 진행 중인 실행에 합류)")
+                .tag("result", "joined")
+                .register(meterRegistry);
+        meterRegistry.gauge("docker.coalesce.in-flight", inFlight, Map::size);
+    }
+
+    /**
+     * 설명: 합치기 기준 생성 (사용하지 않거나 코드 파일을 읽을 수 없으면 null)
+     * @param kind 실행 종류 (JOB_TYPE_RUN, JOB_TYPE_TEST)
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param failFast
+     * @return FlightKey
+     */
+    public FlightKey key(String kind, String memberId, Integer codeFileId, Integer questionId, Boolean failFast) {
+        if (!enabled || memberId == null || codeFileId == null || questionId == null) return null;
+        try {
+            return codeFileRepository.findCodeFilePathByCodeFileId(codeFileId)
+                    .map(filePath -> new FlightKey(kind, memberId, judgeResultCache.sourceHash(filePath), questionId, failFast))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            // 코드 파일을 읽을 수 없으면 합치지 않고 실행 (실행 단계에서 오류 처리)
+            return null;
+        }
+    }
+
+    /**
+     * 설명: 같은 기준의 실행이 진행 중이면 합류하고, 없으면 새로 실행
+     * @param key 합치기 기준 (null 이면 항상 새로 실행)
+     * @param listener 이 요청의 테스트케이스별 결과 리스너
+     * @param task 리스너를 받아 실행하는 작업
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T run(FlightKey key, JudgeListener listener, Function<JudgeListener, T> task) {
+        if (key == null) return task.apply(listener);
+
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            joinedCounter.increment();
+            existing.attach(listener);
+            try {
+                return (T) existing.outcome.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        leaderCounter.increment();
+        flight.attach(listener);
+        try {
+            T result = task.apply(flight::broadcast);
+            flight.outcome.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.outcome.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 합치기 기준 (실행 종류, 멤버, 소스 내용 해시, 문제, 첫 실패 중단 여부)
+     */
+    public record FlightKey(String kind, String memberId, String sourceHash, Integer questionId, Boolean failFast) {
+    }
+
+    /**
+     * 진행 중인 실행 (전달된 테스트케이스 결과를 보관해 늦게 합류한 요청에 다시 전달)
+     */
+    private static class Flight {
+        private final CompletableFuture<Object> outcome = new CompletableFuture<>();
+        private final List<Event> events = new ArrayList<>();
+        private final List<JudgeListener> listeners = new ArrayList<>();
+
+        synchronized void attach(JudgeListener listener) {
+            events.forEach(event -> listener.onTestcaseResult(event.index(), event.result()));
+            listeners.add(listener);
+        }
+
+        synchronized void broadcast(int index, TestcaseResultDto result) {
+            events.add(new Event(index, result));
+            listeners.forEach(listener -> listener.onTestcaseResult(index, result));
+        }
+    }
+
+    private record Event(int index, TestcaseResultDto result) {
+    }
+}
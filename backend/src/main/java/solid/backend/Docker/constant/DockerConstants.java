@@ -0,0 +1,173 @@
+package solid.backend.Docker.constant;
+
+import java.util.List;
+
+/**
+ * 도커 실행 모듈 상수 정의
+ */
+public final class DockerConstants {
+
+    private DockerConstants() {
+        // 인스턴스 생성 방지
+    }
+
+    /** 컨테이너 내부 작업 디렉터리 */
+    public static final String WORK_DIR = "/app";
+
+    /** tmpfs 작업 디렉터리 마운트 옵션 (크기(MB)를 붙여 사용, 컴파일 결과를 실행할 수 있도록 exec) */
+    public static final String WORKSPACE_TMPFS_OPTIONS = "rw,exec,nosuid,nodev,mode=1777,size=";
+
+    /** 샌드박스 임시 디렉터리 (읽기 전용 루트 파일 시스템에서 작업 디렉터리 외에 쓸 수 있는 유일한 경로) */
+    public static final String SANDBOX_TMP_DIR = "/tmp";
+
+    /** 샌드박스 임시 디렉터리 tmpfs 마운트 옵션 (크기(MB)를 붙여 사용) */
+    public static final String SANDBOX_TMP_OPTIONS = "rw,noexec,nosuid,nodev,mode=1777,size=";
+
+    /** 컨테이너 보안 옵션 (setuid 실행 파일 등으로 권한을 다시 얻지 못하게 함) */
+    public static final String SANDBOX_SECURITY_OPT = "no-new-privileges";
+
+    /** 실행 감독 컨테이너(일괄 채점 하네스, zygote) 사용자, 사용자 코드는 docker.sandbox.user 로 권한을 내려 실행 */
+    public static final String SUPERVISOR_USER = "0:0";
+
+    /** 실행 감독 컨테이너에만 남기는 권한 (사용자 코드 uid/gid 전환, 남은 사용자 프로세스 종료, 연결한 작업 디렉터리 접근) */
+    public static final List<String> SUPERVISOR_CAPABILITIES = List.of("SETUID", "SETGID", "KILL", "DAC_OVERRIDE");
+
+    /**
+     * tmpfs 작업 디렉터리 준비 명령 (실행 스크립트 앞에 붙임)
+     * 표준 입력 앞부분의 크기(20자리 10진수)와 tar 묶음을 정확히 그 크기만큼만 읽어 작업 디렉터리에 풀고,
+     * 나머지 표준 입력은 그대로 프로그램에 넘긴다.
+     */
+    public static final String WORKSPACE_STAGE_SCRIPT = "judge_stage=$(head -c 20)"
+            + " && head -c \"$judge_stage\" > " + WORK_DIR + "/.stage.tar"
+            + " && tar -xf " + WORK_DIR + "/.stage.tar -C " + WORK_DIR
+            + " && rm -f " + WORK_DIR + "/.stage.tar || exit 125; ";
+
+    /** 실행 대상 전달 방식 메트릭 태그 (tmpfs 로 복사) */
+    public static final String WORKSPACE_TMPFS = "tmpfs";
+
+    /** 실행 대상 전달 방식 메트릭 태그 (호스트 디렉터리 연결) */
+    public static final String WORKSPACE_BIND = "bind";
+
+    /** 시간 초과 출력 */
+    public static final String TIME_OUT = "Time Out";
+
+    /** 메모리 초과 출력 (cgroup 최대 메모리가 제한을 넘었거나 메모리 부족으로 강제 종료된 경우) */
+    public static final String MEMORY_LIMIT_EXCEEDED = "Memory Limit Exceeded";
+
+    /** 첫 실패 중단 모드에서 실행하지 않은 테스트케이스 출력 */
+    public static final String SKIPPED = "Skipped";
+
+    /** 컴파일 실패로 실행하지 않은 테스트케이스 출력 (재채점용 테스트케이스별 결과에 기록) */
+    public static final String COMPILE_ERROR = "Compile Error";
+
+    /** 풀 컨테이너 이름 접두사 */
+    public static final String POOL_CONTAINER_PREFIX = "solid-pool-";
+
+    /** 풀 컨테이너 식별 라벨 */
+    public static final String POOL_LABEL = "solid.pool=true";
+
+    /** 컴파일 결과 캐시 디렉터리 (업로드 디렉터리 하위) */
+    public static final String BUILD_CACHE_DIR = ".build";
+
+    /** 컴파일 에러 출력 저장 파일 */
+    public static final String COMPILE_ERROR_FILE = "compile-error.txt";
+
+    /** 일괄 채점 작업 디렉터리 (업로드 디렉터리 하위) */
+    public static final String JUDGE_WORKSPACE_DIR = ".judge";
+
+    /** 기동 예열 작업 디렉터리 (업로드 디렉터리 하위) */
+    public static final String WARMUP_DIR = ".warmup";
+
+    /** 지연 저장 저널 디렉터리 (업로드 디렉터리 하위) */
+    public static final String WRITE_BEHIND_DIR = ".write-behind";
+
+    /** 기동 예열 프로그램 입력 */
+    public static final String WARMUP_INPUT = "1 2\n";
+
+    /** 기동 예열 프로그램 기대 출력 */
+    public static final String WARMUP_EXPECTED = "3";
+
+    /** 일괄 채점 하네스 출력 프레임 접두사 */
+    public static final String CASE_FRAME_PREFIX = "@@CASE ";
+
+    /** 일괄 채점 하네스가 사용자 코드를 격리할 수 없어 채점하지 않았을 때 출력하는 프레임 접두사 */
+    public static final String ISOLATION_FRAME_PREFIX = "@@ISOLATION ";
+
+    /** timeout 명령의 시간 초과 종료 코드 */
+    public static final int EXIT_TIME_OUT = 124;
+
+    /** 메모리 초과로 강제 종료(SIGKILL)된 프로세스 종료 코드 */
+    public static final int EXIT_KILLED = 137;
+
+    /** 실행 통계(종료 코드, 최대 메모리, CPU 시간) 출력 접두사 */
+    public static final String STAT_FRAME_PREFIX = "@@STAT ";
+
+    /** 실행 환경 기동 시간(us) 출력 접두사 (표준 에러 첫 줄, 자바 채점 실행기가 출력) */
+    public static final String STARTUP_FRAME_PREFIX = "@@START ";
+
+    /** 실행 단계 - 컨테이너 기동 (실행 요청부터 사용자 코드 시작까지) */
+    public static final String PHASE_START = "start";
+
+    /** 실행 단계 - 컴파일 */
+    public static final String PHASE_COMPILE = "compile";
+
+    /** 실행 단계 - 사용자 코드 실행 (벽시계 시간, 문제 제한 시간과 비교) */
+    public static final String PHASE_USER = "user";
+
+    /** 실행 단계 - 사용자 코드 CPU 시간 */
+    public static final String PHASE_CPU = "cpu";
+
+    /** 실행 단계 - 컨테이너 정리 (사용자 코드 종료부터 실행 결과 수신까지) */
+    public static final String PHASE_TEARDOWN = "teardown";
+
+    /** 채점 결과 전송 주소 접두사 */
+    public static final String JUDGE_DESTINATION_PREFIX = "/topic/judge/";
+
+    /** 대화형 실행 출력 전송 주소 접두사 */
+    public static final String INTERACTIVE_DESTINATION_PREFIX = "/topic/run/";
+
+    /** 대화형 실행 이벤트 - 출력 */
+    public static final String EVENT_OUTPUT = "OUTPUT";
+
+    /** 대화형 실행 이벤트 - 종료 */
+    public static final String EVENT_EXIT = "EXIT";
+
+    /** 대화형 실행 이벤트 - 오류 */
+    public static final String EVENT_ERROR = "ERROR";
+
+    /** 출력 스트림 - 표준 출력 */
+    public static final String STREAM_STDOUT = "stdout";
+
+    /** 출력 스트림 - 표준 에러 */
+    public static final String STREAM_STDERR = "stderr";
+
+    /** 채점 작업 종류 - 전체 실행 */
+    public static final String JOB_TYPE_RUN = "RUN";
+
+    /** 채점 작업 종류 - 테스트 실행 */
+    public static final String JOB_TYPE_TEST = "TEST";
+
+    /** 채점 작업 상태 - 대기 */
+    public static final String JOB_QUEUED = "QUEUED";
+
+    /** 채점 작업 상태 - 실행 중 */
+    public static final String JOB_RUNNING = "RUNNING";
+
+    /** 채점 작업 상태 - 완료 */
+    public static final String JOB_DONE = "DONE";
+
+    /** 채점 작업 상태 - 실패 */
+    public static final String JOB_FAILED = "FAILED";
+
+    /** 채점 이벤트 - 테스트케이스 결과 */
+    public static final String EVENT_TESTCASE = "TESTCASE";
+
+    /** 스케줄러 실행 구간 - 전체/테스트 채점 */
+    public static final String LANE_JUDGE = "JUDGE";
+
+    /** 스케줄러 실행 구간 - 사용자 입력 실행 */
+    public static final String LANE_CUSTOM = "CUSTOM";
+
+    /** 백그라운드 재채점의 스케줄러 공정 분배 단위 (docker.scheduler.member-weights 로 가중치 설정) */
+    public static final String REJUDGE_MEMBER_KEY = "system:rejudge";
+}
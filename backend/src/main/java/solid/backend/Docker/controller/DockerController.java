@@ -2,40 +2,77 @@ package solid.backend.Docker.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import solid.backend.Docker.cache.SubmissionCoalescer;
 import solid.backend.Docker.dto.*;
+import solid.backend.Docker.executor.JudgeScheduler;
+import solid.backend.Docker.executor.JudgeTicket;
 import solid.backend.Docker.service.DockerServiceImpl;
+import solid.backend.Docker.service.InteractiveRunService;
+import solid.backend.Docker.service.JudgeListener;
+import solid.backend.Docker.service.JudgeQueueService;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
 
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/api/docker")
 public class DockerController {
     private final DockerServiceImpl dockerService;
+    private final JudgeQueueService judgeQueueService;
+    private final JudgeScheduler judgeScheduler;
+    private final SubmissionCoalescer submissionCoalescer;
+    private final InteractiveRunService interactiveRunService;
 
     /**
-     * 설명: 전체 실행
+     * 설명: 전체 실행 (같은 멤버·소스·문제의 실행이 진행 중이면 합류해 결과 공유)
+     * 멤버는 요청 본문의 memberId 가 아닌 인증된 사용자로 정함
      * @param dockerRunDto
      * @return ResponseEntity<ExecutionResultDto>
      */
     @ResponseBody
     @PostMapping("/run")
     public ResponseEntity<ExecutionResultDto> runCodeFile(@RequestBody DockerRunDto dockerRunDto) {
-        return ResponseEntity.ok(dockerService.runCodeFile(dockerRunDto.getMemberId(), dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId()));
+        String memberId = currentMemberId();
+        SubmissionCoalescer.FlightKey key = submissionCoalescer.key(JOB_TYPE_RUN, memberId,
+                dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(), dockerRunDto.getFailFast());
+        return ResponseEntity.ok(submissionCoalescer.run(key, JudgeListener.NONE, listener -> {
+            JudgeTicket ticket = judgeScheduler.ticket(memberId, dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(), LANE_JUDGE);
+            return judgeScheduler.execute(ticket,
+                    () -> dockerService.runCodeFile(memberId, dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(),
+                            dockerRunDto.getFailFast(), listener));
+        }));
     }
 
     /**
-     * 설명: 테스트 실행
+     * 설명: 테스트 실행 (같은 멤버·소스·문제의 실행이 진행 중이면 합류해 결과 공유)
+     * 멤버는 요청 본문의 memberId 가 아닌 인증된 사용자로 정함
      * @param dockerRunDto
      * @return ResponseEntity<ExecutionResultDto>
      */
     @ResponseBody
     @PostMapping("/test")
     public ResponseEntity<ExecutionTestDto> runTestCodeFile(@RequestBody DockerRunDto dockerRunDto) {
-        return ResponseEntity.ok(dockerService.runTestCodeFile(dockerRunDto.getMemberId(), dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId()));
+        String memberId = currentMemberId();
+        SubmissionCoalescer.FlightKey key = submissionCoalescer.key(JOB_TYPE_TEST, memberId,
+                dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(), null);
+        return ResponseEntity.ok(submissionCoalescer.run(key, JudgeListener.NONE, listener -> {
+            JudgeTicket ticket = judgeScheduler.ticket(memberId, dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(), LANE_JUDGE);
+            return judgeScheduler.execute(ticket,
+                    () -> dockerService.runTestCodeFile(memberId, dockerRunDto.getCodeFileId(), dockerRunDto.getQuestionId(), listener));
+        }));
     }
 
     /**
@@ -46,6 +83,127 @@ public class DockerController {
     @ResponseBody
     @PostMapping("/custom")
     public ResponseEntity<CustomInputResultDto> runExctCodeFile(@RequestBody CustomInputDto customInputDto) {
-        return ResponseEntity.ok(dockerService.runExctCodeFile(customInputDto));
+        JudgeTicket ticket = judgeScheduler.ticket(currentMemberId(), customInputDto.getCodeFileId(), null, LANE_CUSTOM);
+        return ResponseEntity.ok(judgeScheduler.execute(ticket, () -> dockerService.runExctCodeFile(customInputDto)));
+    }
+
+    /**
+     * 설명: 사용자의 입력값으로 대화형 실행 생성 (출력은 /topic/run/{runId} 로 전송, 구독 후 /app/run/{runId}/start 로 시작)
+     * @param customInputDto
+     * @return ResponseEntity<InteractiveRunDto>
+     */
+    @ResponseBody
+    @PostMapping("/custom/interactive")
+    public ResponseEntity<InteractiveRunDto> createInteractiveRun(@RequestBody CustomInputDto customInputDto) {
+        return ResponseEntity.ok(interactiveRunService.create(currentMemberId(), customInputDto.getCodeFileId()));
+    }
+
+    /**
+     * 설명: 대화형 실행 시작
+     * @param runId
+     * @param accessor WebSocket 세션의 헤더 정보
+     */
+    @MessageMapping("/run/{runId}/start")
+    public void startInteractiveRun(@DestinationVariable("runId") String runId, SimpMessageHeaderAccessor accessor) {
+        interactiveRunService.start(runId, sessionMemberId(accessor));
+    }
+
+    /**
+     * 설명: 대화형 실행 표준 입력 전달 (한 줄)
+     * @param line
+     * @param runId
+     * @param accessor WebSocket 세션의 헤더 정보
+     */
+    @MessageMapping("/run/{runId}/stdin")
+    public void sendInteractiveInput(String line, @DestinationVariable("runId") String runId, SimpMessageHeaderAccessor accessor) {
+        interactiveRunService.input(runId, sessionMemberId(accessor), line);
+    }
+
+    /**
+     * 설명: 대화형 실행 표준 입력 닫기 (EOF)
+     * @param runId
+     * @param accessor WebSocket 세션의 헤더 정보
+     */
+    @MessageMapping("/run/{runId}/eof")
+    public void closeInteractiveInput(@DestinationVariable("runId") String runId, SimpMessageHeaderAccessor accessor) {
+        interactiveRunService.closeInput(runId, sessionMemberId(accessor));
+    }
+
+    /**
+     * 설명: 대화형 실행 출력 이벤트 확인 (받은 마지막 seq)
+     * @param seq
+     * @param runId
+     * @param accessor WebSocket 세션의 헤더 정보
+     */
+    @MessageMapping("/run/{runId}/ack")
+    public void ackInteractiveOutput(Long seq, @DestinationVariable("runId") String runId, SimpMessageHeaderAccessor accessor) {
+        if (seq != null) interactiveRunService.ack(runId, sessionMemberId(accessor), seq);
+    }
+
+    /**
+     * 설명: 대화형 실행 중지
+     * @param runId
+     * @param accessor WebSocket 세션의 헤더 정보
+     */
+    @MessageMapping("/run/{runId}/stop")
+    public void stopInteractiveRun(@DestinationVariable("runId") String runId, SimpMessageHeaderAccessor accessor) {
+        interactiveRunService.stop(runId, sessionMemberId(accessor));
+    }
+
+    /**
+     * 설명: 전체 실행 비동기 접수 (결과는 /topic/judge/{jobId} 로 전송)
+     * @param dockerRunDto
+     * @return ResponseEntity<JudgeJobDto>
+     */
+    @ResponseBody
+    @PostMapping("/run/async")
+    public ResponseEntity<JudgeJobDto> submitRun(@RequestBody DockerRunDto dockerRunDto) {
+        dockerRunDto.setMemberId(currentMemberId());
+        return ResponseEntity.accepted().body(judgeQueueService.submit(JOB_TYPE_RUN, dockerRunDto));
+    }
+
+    /**
+     * 설명: 테스트 실행 비동기 접수 (결과는 /topic/judge/{jobId} 로 전송)
+     * @param dockerRunDto
+     * @return ResponseEntity<JudgeJobDto>
+     */
+    @ResponseBody
+    @PostMapping("/test/async")
+    public ResponseEntity<JudgeJobDto> submitTest(@RequestBody DockerRunDto dockerRunDto) {
+        dockerRunDto.setMemberId(currentMemberId());
+        return ResponseEntity.accepted().body(judgeQueueService.submit(JOB_TYPE_TEST, dockerRunDto));
+    }
+
+    /**
+     * 설명: 비동기 채점 작업 상태 및 결과 조회
+     * @param jobId
+     * @return ResponseEntity<JudgeJobDto>
+     */
+    @ResponseBody
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<JudgeJobDto> getJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(judgeQueueService.getJob(jobId));
+    }
+
+    /**
+     * 설명: 로그인한 멤버 ID (인증 정보가 없으면 null)
+     * @return String
+     */
+    private String currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) return null;
+        return authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    /**
+     * 설명: WebSocket 세션의 멤버 ID
+     * @param accessor
+     * @return String
+     */
+    private String sessionMemberId(SimpMessageHeaderAccessor accessor) {
+        if (accessor.getSessionAttributes() == null || !accessor.getSessionAttributes().containsKey("memberId")) {
+            throw new IllegalStateException("No SessionAttributes or memberId. sessionId: " + accessor.getSessionId());
+        }
+        return (String) accessor.getSessionAttributes().get("memberId");
     }
 }
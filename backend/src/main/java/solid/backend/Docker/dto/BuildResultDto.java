@@ -0,0 +1,16 @@
+package solid.backend.Docker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildResultDto {
+    private boolean success;
+    private String buildPath;
+    private String extension;
+    private String fileName;
+    private String output;
+}
@@ -10,4 +10,17 @@ import lombok.NoArgsConstructor;
 public class DockerResultDto {
     private String output;
     private float time;
+    private Integer exitCode;
+    private Long peakMemory;
+    private Float cpuTime;
+    private Float startupTime;
+    private Float launchTime;
+    private Float teardownTime;
+    private Boolean matched;
+    private Boolean truncated;
+
+    public DockerResultDto(String output, float time) {
+        this.output = output;
+        this.time = time;
+    }
 }
@@ -11,4 +11,5 @@ public class DockerRunDto {
     private String memberId;
     private Integer codeFileId;
     private Integer questionId;
+    private Boolean failFast; // 첫 실패에서 채점 중단 여부 (null 이면 문제 설정 사용)
 }
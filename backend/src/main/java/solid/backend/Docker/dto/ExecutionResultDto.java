@@ -16,4 +16,5 @@ public class ExecutionResultDto {
     private Boolean isCorrect;
     private Integer progress;
     private List<TestcaseResultDto> testcaseResults;
+    private String compileError;
 }
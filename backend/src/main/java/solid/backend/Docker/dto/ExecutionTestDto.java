@@ -13,4 +13,5 @@ public class ExecutionTestDto {
     private String language;
     private Boolean isCorrect;
     private List<TestcaseResultDto> testcaseResults;
+    private String compileError;
 }
@@ -0,0 +1,22 @@
+package solid.backend.Docker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InteractiveEventDto {
+    private String type;
+    private String runId;
+    private Long seq;
+    private String stream;
+    private String data;
+    private Integer exitCode;
+    private Float time;
+    private Boolean truncated;
+    private String error;
+}
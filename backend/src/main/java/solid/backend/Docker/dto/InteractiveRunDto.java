@@ -0,0 +1,13 @@
+package solid.backend.Docker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractiveRunDto {
+    private String runId;
+    private String destination;
+}
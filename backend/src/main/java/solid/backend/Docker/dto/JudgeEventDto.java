@@ -0,0 +1,19 @@
+package solid.backend.Docker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JudgeEventDto {
+    private String type;
+    private String jobId;
+    private Integer index;
+    private TestcaseResultDto testcaseResult;
+    private Object result;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package solid.backend.Docker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JudgeJobDto {
+    private String jobId;
+    private String status;
+    private Long position;
+    private JsonNode result;
+    private String error;
+}
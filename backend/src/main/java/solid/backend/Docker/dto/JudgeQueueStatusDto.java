@@ -0,0 +1,14 @@
+package solid.backend.Docker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JudgeQueueStatusDto {
+    private String lane;
+    private Integer queuePosition;
+    private Integer queueLength;
+}
@@ -14,4 +14,5 @@ public class TestcaseResultDto {
     private String output;
     private String actual;
     private Boolean pass;
+    private Double cpuTime;
 }
@@ -0,0 +1,113 @@
+package solid.backend.Docker.engine;
+
+import org.springframework.stereotype.Component;
+import solid.backend.config.DockerProperties;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * docker CLI 실행 방식 (Engine API 를 쓸 수 없을 때 사용)
+ */
+@Component
+public class CliSandboxBackend implements SandboxBackend {
+    private final DockerProperties.Sandbox sandboxProperties;
+
+    public CliSandboxBackend(DockerProperties dockerProperties) {
+        this.sandboxProperties = dockerProperties.getSandbox();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Process run(String image, Path mountDir, String script, int mem, boolean supervised) throws IOException {
+        return new ProcessBuilder(buildRunCommand(image, mountDir, script, mem, supervised)).start();
+    }
+
+    @Override
+    public Process runOnTmpfs(String image, String script, int mem, int tmpfsMb, boolean supervised) throws IOException {
+        return new ProcessBuilder(buildTmpfsRunCommand(image, script, mem, tmpfsMb, supervised)).start();
+    }
+
+    @Override
+    public Process exec(String containerName, String script) throws IOException {
+        return new ProcessBuilder(buildExecCommand(containerName, script)).start();
+    }
+
+    /**
+     * 설명: 도커 컨테이너 생성 명령어 추출
+     * @param image
+     * @param mountDir
+     * @param script
+     * @param mem
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return String[]
+     */
+    public String[] buildRunCommand(String image, Path mountDir, String script, int mem, boolean supervised) {
+        List<String> command = new ArrayList<>(List.of("docker", "run", "--rm", "-i"));
+        command.addAll(isolationOptions(sandboxProperties, mem, supervised));
+        command.addAll(List.of("-v", mountDir + ":" + WORK_DIR, image, "sh", "-c", script));
+        return command.toArray(String[]::new);
+    }
+
+    /**
+     * 설명: tmpfs 작업 디렉터리 컨테이너 생성 명령어 추출
+     * @param image
+     * @param script
+     * @param mem
+     * @param tmpfsMb
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return String[]
+     */
+    public String[] buildTmpfsRunCommand(String image, String script, int mem, int tmpfsMb, boolean supervised) {
+        List<String> command = new ArrayList<>(List.of("docker", "run", "--rm", "-i"));
+        command.addAll(isolationOptions(sandboxProperties, mem, supervised));
+        command.addAll(List.of("--tmpfs", WORK_DIR + ":" + WORKSPACE_TMPFS_OPTIONS + tmpfsMb + "m", image, "sh", "-c", script));
+        return command.toArray(String[]::new);
+    }
+
+    /**
+     * 설명: 샌드박스 격리 옵션 (새 컨테이너와 풀 컨테이너 공통)
+     * 네트워크 없음, 읽기 전용 루트 파일 시스템, 루트가 아닌 사용자, 모든 권한 제거, 스왑 없는 메모리 제한, tmpfs /tmp
+     * 실행 감독 컨테이너는 root 로 시작하고 SUPERVISOR_CAPABILITIES 만 남긴다.
+     * @param sandbox
+     * @param mem
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return List<String>
+     */
+    public static List<String> isolationOptions(DockerProperties.Sandbox sandbox, int mem, boolean supervised) {
+        String memoryLimit = mem + "m";
+
+        List<String> options = new ArrayList<>(List.of(
+                "--network", "none", "--read-only", "--user", supervised ? SUPERVISOR_USER : sandbox.getUser(),
+                "--cap-drop", "ALL", "--security-opt", SANDBOX_SECURITY_OPT,
+                "--memory=" + memoryLimit, "--memory-swap=" + memoryLimit,
+                "--tmpfs", SANDBOX_TMP_DIR + ":" + SANDBOX_TMP_OPTIONS + sandbox.getTmpMb() + "m"
+        ));
+        if (supervised) {
+            for (String capability : SUPERVISOR_CAPABILITIES) {
+                options.addAll(List.of("--cap-add", capability));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * 설명: 컨테이너 내부 실행 명령어 추출
+     * @param containerName
+     * @param script
+     * @return String[]
+     */
+    public String[] buildExecCommand(String containerName, String script) {
+        return new String[]{
+                "docker", "exec", "-i", containerName, "sh", "-c", script
+        };
+    }
+}
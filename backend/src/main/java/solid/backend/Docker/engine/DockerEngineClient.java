@@ -0,0 +1,351 @@
+package solid.backend.Docker.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 유닉스 소켓으로 Docker Engine HTTP API 를 직접 호출하는 클라이언트
+ * 일반 요청은 keep-alive 연결을 재사용하고, attach/exec 스트림은 전용 연결을 가로채(hijack) 사용한다.
+ */
+public class DockerEngineClient implements Closeable {
+    private final UnixDomainSocketAddress address;
+    private final BlockingQueue<Connection> idle;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public DockerEngineClient(Path socketPath, int maxIdleConnections) {
+        this.address = UnixDomainSocketAddress.of(socketPath);
+        this.idle = new LinkedBlockingQueue<>(Math.max(1, maxIdleConnections));
+    }
+
+    /**
+     * 설명: 도커 데몬 응답 확인
+     * @return boolean
+     */
+    public boolean ping() {
+        try {
+            return request("GET", "/_ping", null).status() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 설명: 컨테이너 생성
+     * @param body 컨테이너 설정 (Image, Cmd, HostConfig 등)
+     * @return String 컨테이너 ID
+     */
+    public String createContainer(Map<String, Object> body) throws IOException {
+        Response response = expect(request("POST", "/containers/create", body), 201);
+        return json(response).path("Id").asText();
+    }
+
+    /**
+     * 설명: 컨테이너 입출력 스트림 연결 (시작 전에 연결해야 출력 유실 없음)
+     * @param containerId
+     * @return Connection
+     */
+    public Connection attachContainer(String containerId) throws IOException {
+        return hijack("POST", "/containers/" + containerId + "/attach?stream=1&stdin=1&stdout=1&stderr=1", null);
+    }
+
+    /**
+     * 설명: 컨테이너 시작
+     * @param containerId
+     */
+    public void startContainer(String containerId) throws IOException {
+        expect(request("POST", "/containers/" + containerId + "/start", null), 204, 304);
+    }
+
+    /**
+     * 설명: 컨테이너 종료 대기
+     * @param containerId
+     * @return int 종료 코드
+     */
+    public int waitContainer(String containerId) throws IOException {
+        Response response = expect(request("POST", "/containers/" + containerId + "/wait", null), 200);
+        return json(response).path("StatusCode").asInt(-1);
+    }
+
+    /**
+     * 설명: 컨테이너 강제 종료 (이미 종료된 경우 무시)
+     * @param containerId
+     */
+    public void killContainer(String containerId) throws IOException {
+        expect(request("POST", "/containers/" + containerId + "/kill", null), 204, 404, 409);
+    }
+
+    /**
+     * 설명: 컨테이너 삭제 (실행 중이면 강제 삭제)
+     * @param containerId
+     */
+    public void removeContainer(String containerId) throws IOException {
+        expect(request("DELETE", "/containers/" + containerId + "?force=1", null), 204, 404, 409);
+    }
+
+    /**
+     * 설명: 실행 중인 컨테이너에 실행 명령 생성
+     * @param containerName
+     * @param cmd
+     * @return String 실행 ID
+     */
+    public String createExec(String containerName, String... cmd) throws IOException {
+        Map<String, Object> body = Map.of("AttachStdin", true, "AttachStdout", true, "AttachStderr", true, "Cmd", cmd);
+        Response response = expect(request("POST", "/containers/" + containerName + "/exec", body), 201);
+        return json(response).path("Id").asText();
+    }
+
+    /**
+     * 설명: 실행 명령 시작 후 입출력 스트림 연결
+     * @param execId
+     * @return Connection
+     */
+    public Connection startExec(String execId) throws IOException {
+        return hijack("POST", "/exec/" + execId + "/start", Map.of("Detach", false, "Tty", false));
+    }
+
+    /**
+     * 설명: 실행 명령 종료 코드 조회
+     * @param execId
+     * @return int
+     */
+    public int inspectExec(String execId) throws IOException {
+        Response response = expect(request("GET", "/exec/" + execId + "/json", null), 200);
+        return json(response).path("ExitCode").asInt(-1);
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private Response request(String method, String path, Object body) throws IOException {
+        byte[] payload = body != null ? objectMapper.writeValueAsBytes(body) : null;
+        Connection pooled = idle.poll();
+        if (pooled != null) {
+            try {
+                return exchange(pooled, method, path, payload);
+            } catch (EOFException e) {
+                // 데몬이 닫은 유휴 연결, 새 연결로 재시도
+            }
+        }
+        return exchange(open(), method, path, payload);
+    }
+
+    private Response exchange(Connection connection, String method, String path, byte[] payload) throws IOException {
+        boolean reusable = false;
+        try {
+            try {
+                connection.send(method, path, payload, false);
+                connection.awaitResponse();
+            } catch (IOException e) {
+                // 데몬이 닫은 연결은 쓰기(EPIPE) 또는 첫 응답 바이트 읽기(EOF, ECONNRESET)에서 실패하므로 모두 연결 종료로 처리
+                EOFException closed = new EOFException("도커 소켓 연결이 종료되었습니다.");
+                closed.initCause(e);
+                throw closed;
+            }
+            Response response = connection.readResponse(false);
+            reusable = response.keepAlive();
+            return response;
+        } finally {
+            if (reusable) release(connection);
+            else connection.close();
+        }
+    }
+
+    private Connection hijack(String method, String path, Object body) throws IOException {
+        Connection connection = open();
+        try {
+            connection.send(method, path, body != null ? objectMapper.writeValueAsBytes(body) : null, true);
+            Response response = connection.readResponse(true);
+            if (response.status() != 101 && response.status() != 200) {
+                throw new IOException("Docker Engine API 오류 (" + response.status() + "): " + response.text());
+            }
+            return connection;
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private Response expect(Response response, int... statuses) throws IOException {
+        for (int status : statuses) {
+            if (response.status() == status) return response;
+        }
+        throw new IOException("Docker Engine API 오류 (" + response.status() + "): " + response.text());
+    }
+
+    private JsonNode json(Response response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private void release(Connection connection) {
+        if (!idle.offer(connection)) connection.close();
+    }
+
+    private Connection open() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new Connection(channel);
+    }
+
+    /**
+     * HTTP 응답
+     */
+    private record Response(int status, Map<String, String> headers, byte[] body) {
+        boolean keepAlive() {
+            return !"close".equalsIgnoreCase(headers.get("connection"));
+        }
+
+        String text() {
+            return new String(body, StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    /**
+     * 도커 소켓 연결 하나 (HTTP/1.1 요청/응답 및 가로챈 원시 스트림)
+     */
+    public static class Connection implements Closeable {
+        private final SocketChannel channel;
+        private final InputStream in;
+        private final OutputStream out;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.in = new BufferedInputStream(Channels.newInputStream(channel));
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel));
+        }
+
+        /**
+         * 설명: 가로챈 연결의 원시 출력 스트림
+         * @return InputStream
+         */
+        public InputStream getInputStream() {
+            return in;
+        }
+
+        /**
+         * 설명: 가로챈 연결의 표준 입력 채널 (닫으면 쓰기 방향만 종료해 컨테이너에 입력 끝 전달)
+         * @return WritableByteChannel
+         */
+        public WritableByteChannel getStdinChannel() {
+            return new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer src) throws IOException {
+                    return channel.write(src);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return channel.isOpen();
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        channel.shutdownOutput();
+                    } catch (IOException e) {
+                        // 이미 닫힌 연결
+                    }
+                }
+            };
+        }
+
+        private void send(String method, String path, byte[] body, boolean upgrade) throws IOException {
+            StringBuilder head = new StringBuilder()
+                    .append(method).append(' ').append(path).append(" HTTP/1.1\r\n")
+                    .append("Host: docker\r\n");
+            if (upgrade) head.append("Connection: Upgrade\r\nUpgrade: tcp\r\n");
+            if (body != null) head.append("Content-Type: application/json\r\n");
+            head.append("Content-Length: ").append(body != null ? body.length : 0).append("\r\n\r\n");
+
+            out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+            if (body != null) out.write(body);
+            out.flush();
+        }
+
+        private void awaitResponse() throws IOException {
+            in.mark(1);
+            if (in.read() == -1) throw new EOFException("도커 소켓 연결이 종료되었습니다.");
+            in.reset();
+        }
+
+        private Response readResponse(boolean hijacked) throws IOException {
+            String statusLine = readLine();
+            String[] status = statusLine.split(" ", 3);
+            if (status.length < 2) throw new IOException("잘못된 HTTP 응답: " + statusLine);
+
+            Map<String, String> headers = new HashMap<>();
+            String line;
+            while (!(line = readLine()).isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon > 0) headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+            }
+
+            int code = Integer.parseInt(status[1]);
+            // 가로챈 연결은 헤더 이후가 원시 스트림
+            if (hijacked && (code == 101 || code == 200)) return new Response(code, headers, new byte[0]);
+            return new Response(code, headers, readBody(code, headers));
+        }
+
+        private byte[] readBody(int status, Map<String, String> headers) throws IOException {
+            if (status == 204 || status == 304) return new byte[0];
+            if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                int size;
+                while ((size = Integer.parseInt(readLine().split(";")[0].trim(), 16)) > 0) {
+                    body.write(in.readNBytes(size));
+                    readLine();
+                }
+                while (!readLine().isEmpty()) {
+                    // 트레일러 헤더 무시
+                }
+                return body.toByteArray();
+            }
+            String length = headers.get("content-length");
+            if (length != null) return in.readNBytes(Integer.parseInt(length));
+            headers.put("connection", "close");
+            return in.readAllBytes();
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (b != '\r') line.write(b);
+            }
+            if (b == -1 && line.size() == 0) throw new EOFException("도커 소켓 연결이 종료되었습니다.");
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // 이미 닫힌 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package solid.backend.Docker.engine;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+/**
+ * Engine API 로 실행한 컨테이너/실행 명령을 Process 로 감싼 객체
+ * 도커의 다중화 스트림(8바이트 헤더 + 내용)을 표준 출력과 표준 에러로 나누어 전달하고,
+ * 표준 입력은 같은 연결에 그대로 쓴다.
+ */
+public abstract class EngineProcess extends Process {
+    /** 읽히지 않은 출력 조각 최대 개수 (가득 차면 도커 스트림 읽기를 멈춰 역압 전달) */
+    private static final int PENDING_CHUNKS = 64;
+    private static final int STREAM_STDERR = 2;
+
+    private final DockerEngineClient.Connection connection;
+    private final WritableByteChannel stdin;
+    private final ChunkInputStream stdout = new ChunkInputStream();
+    private final ChunkInputStream stderr = new ChunkInputStream();
+    private final CompletableFuture<Void> streamEnd = new CompletableFuture<>();
+    private final CompletableFuture<Integer> exit = new CompletableFuture<>();
+
+    protected EngineProcess(DockerEngineClient.Connection connection) {
+        this.connection = connection;
+        this.stdin = connection.getStdinChannel();
+    }
+
+    /**
+     * 설명: 스트림 분리 및 종료 대기 시작
+     * @return EngineProcess
+     */
+    protected EngineProcess start() {
+        Thread.ofVirtual().start(this::demultiplex);
+        Thread.ofVirtual().start(() -> {
+            try {
+                exit.complete(awaitExit());
+            } catch (Exception e) {
+                exit.completeExceptionally(e);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * 설명: 종료 코드 대기 (종료 후 정리 포함)
+     * @return int
+     */
+    protected abstract int awaitExit() throws Exception;
+
+    /**
+     * 설명: 실행 강제 종료
+     */
+    protected abstract void kill();
+
+    /**
+     * 설명: 출력 스트림이 끝날 때까지 대기
+     */
+    protected void awaitStreamEnd() {
+        streamEnd.join();
+    }
+
+    private void demultiplex() {
+        try {
+            DataInputStream in = new DataInputStream(connection.getInputStream());
+            byte[] header = new byte[8];
+            byte[] buffer = new byte[8192];
+            while (in.read(header, 0, 1) != -1) {
+                in.readFully(header, 1, 7);
+                ChunkInputStream sink = header[0] == STREAM_STDERR ? stderr : stdout;
+                long remaining = ((header[4] & 0xFFL) << 24) | ((header[5] & 0xFF) << 16)
+                        | ((header[6] & 0xFF) << 8) | (header[7] & 0xFF);
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) throw new EOFException();
+                    sink.offer(Arrays.copyOf(buffer, read));
+                    remaining -= read;
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // 강제 종료로 연결이 닫힌 경우
+        } finally {
+            connection.close();
+            stdout.finish();
+            stderr.finish();
+            streamEnd.complete(null);
+        }
+    }
+
+    /**
+     * 설명: 표준 입력 채널 (파일 입력을 소켓으로 바로 전송할 때 사용, 닫으면 입력 끝)
+     * @return WritableByteChannel
+     */
+    public WritableByteChannel getStdinChannel() {
+        return stdin;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return Channels.newOutputStream(stdin);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return stdout;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return stderr;
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        try {
+            return exit.get();
+        } catch (ExecutionException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            exit.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public int exitValue() {
+        if (!exit.isDone()) throw new IllegalThreadStateException("실행 중입니다.");
+        return exit.exceptionally(e -> -1).join();
+    }
+
+    @Override
+    public boolean isAlive() {
+        return !exit.isDone();
+    }
+
+    @Override
+    public void destroy() {
+        kill();
+        connection.close();
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        destroy();
+        return this;
+    }
+
+    /**
+     * 분리된 출력 조각을 순서대로 읽는 스트림
+     */
+    private static class ChunkInputStream extends InputStream {
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>(PENDING_CHUNKS);
+        private byte[] current;
+        private int position;
+        private volatile boolean closed;
+
+        void offer(byte[] chunk) throws InterruptedException {
+            if (!closed) chunks.put(chunk);
+        }
+
+        void finish() {
+            try {
+                while (!closed && !chunks.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                    // 읽는 쪽이 남은 출력을 가져갈 때까지 대기
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            try {
+                if (current == null || position == current.length) {
+                    current = chunks.take();
+                    position = 0;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (current == END) {
+                chunks.offer(END);
+                return -1;
+            }
+            int count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            chunks.clear();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package solid.backend.Docker.engine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import solid.backend.config.DockerProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * Docker Engine API 실행 방식
+ * docker CLI 프로세스를 띄우지 않고 유닉스 소켓으로 create/attach/start/wait/remove 를 직접 호출한다.
+ */
+@Slf4j
+@Component
+public class EngineSandboxBackend implements SandboxBackend {
+    private final DockerProperties.Engine engineProperties;
+    private final DockerProperties.Sandbox sandboxProperties;
+    private final DockerEngineClient client;
+    private volatile Boolean available;
+
+    public EngineSandboxBackend(DockerProperties dockerProperties) {
+        this.engineProperties = dockerProperties.getEngine();
+        this.sandboxProperties = dockerProperties.getSandbox();
+        this.client = new DockerEngineClient(Path.of(engineProperties.getSocket()), engineProperties.getMaxIdleConnections());
+    }
+
+    /**
+     * 설명: 설정에서 사용하도록 되어 있고 도커 소켓이 응답하는지 여부 (최초 1회 확인)
+     * @return boolean
+     */
+    @Override
+    public boolean isAvailable() {
+        if (!engineProperties.isEnabled()) return false;
+        if (available == null) {
+            available = Files.exists(Path.of(engineProperties.getSocket())) && client.ping();
+            log.info("Docker Engine API 사용 여부: {} ({})", available, engineProperties.getSocket());
+        }
+        return available;
+    }
+
+    @Override
+    public Process run(String image, Path mountDir, String script, int mem, boolean supervised) throws IOException {
+        Map<String, Object> hostConfig = isolationConfig(mem, Map.of(SANDBOX_TMP_DIR, tmpOptions()), supervised);
+        hostConfig.put("Binds", List.of(mountDir + ":" + WORK_DIR));
+        return runContainer(image, script, hostConfig, supervised);
+    }
+
+    @Override
+    public Process runOnTmpfs(String image, String script, int mem, int tmpfsMb, boolean supervised) throws IOException {
+        return runContainer(image, script, isolationConfig(mem, Map.of(
+                SANDBOX_TMP_DIR, tmpOptions(),
+                WORK_DIR, WORKSPACE_TMPFS_OPTIONS + tmpfsMb + "m"
+        ), supervised), supervised);
+    }
+
+    @Override
+    public Process exec(String containerName, String script) throws IOException {
+        String execId = client.createExec(containerName, "sh", "-c", script);
+        return new ExecProcess(client.startExec(execId), execId).start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        client.close();
+    }
+
+    /**
+     * 설명: 샌드박스 격리 설정 (CliSandboxBackend.isolationOptions 와 같은 격리)
+     * 네트워크 없음, 읽기 전용 루트 파일 시스템, 모든 권한 제거, 스왑 없는 메모리 제한, tmpfs 경로만 쓰기 가능
+     * @param mem
+     * @param tmpfs 마운트 경로별 tmpfs 옵션
+     * @param supervised 실행 감독 컨테이너 여부 (SUPERVISOR_CAPABILITIES 만 남김)
+     * @return Map<String, Object>
+     */
+    private Map<String, Object> isolationConfig(int mem, Map<String, String> tmpfs, boolean supervised) {
+        long memoryLimit = mem * 1024L * 1024L;
+        Map<String, Object> hostConfig = new HashMap<>();
+        hostConfig.put("Memory", memoryLimit);
+        hostConfig.put("MemorySwap", memoryLimit);
+        hostConfig.put("NetworkMode", "none");
+        hostConfig.put("ReadonlyRootfs", true);
+        hostConfig.put("Tmpfs", tmpfs);
+        hostConfig.put("CapDrop", List.of("ALL"));
+        hostConfig.put("SecurityOpt", List.of(SANDBOX_SECURITY_OPT));
+        if (supervised) hostConfig.put("CapAdd", SUPERVISOR_CAPABILITIES);
+        return hostConfig;
+    }
+
+    private String tmpOptions() {
+        return SANDBOX_TMP_OPTIONS + sandboxProperties.getTmpMb() + "m";
+    }
+
+    /**
+     * 설명: 컨테이너 생성 후 입출력 스트림을 연결하고 시작
+     * @param image
+     * @param script
+     * @param hostConfig 격리 설정, 작업 디렉터리 연결 방식
+     * @param supervised 실행 감독 컨테이너 여부 (root 로 시작)
+     * @return Process
+     */
+    private Process runContainer(String image, String script, Map<String, Object> hostConfig, boolean supervised) throws IOException {
+        Map<String, Object> body = Map.of(
+                "Image", image,
+                "User", supervised ? SUPERVISOR_USER : sandboxProperties.getUser(),
+                "Cmd", List.of("sh", "-c", script),
+                "OpenStdin", true,
+                "StdinOnce", true,
+                "AttachStdin", true,
+                "AttachStdout", true,
+                "AttachStderr", true,
+                "HostConfig", hostConfig
+        );
+        String containerId = client.createContainer(body);
+        DockerEngineClient.Connection stream = null;
+        try {
+            // 시작 전에 입출력 스트림을 연결해야 초기 출력이 유실되지 않음
+            stream = client.attachContainer(containerId);
+            client.startContainer(containerId);
+            return new ContainerProcess(stream, containerId).start();
+        } catch (IOException e) {
+            if (stream != null) stream.close();
+            removeQuietly(containerId);
+            throw e;
+        }
+    }
+
+    private void removeQuietly(String containerId) {
+        try {
+            client.removeContainer(containerId);
+        } catch (IOException e) {
+            log.warn("컨테이너 삭제 실패: {}", containerId);
+        }
+    }
+
+    /**
+     * 새 컨테이너 실행 (종료 대기 후 컨테이너 삭제)
+     */
+    private class ContainerProcess extends EngineProcess {
+        private final String containerId;
+
+        ContainerProcess(DockerEngineClient.Connection connection, String containerId) {
+            super(connection);
+            this.containerId = containerId;
+        }
+
+        @Override
+        protected int awaitExit() throws IOException {
+            try {
+                int code = client.waitContainer(containerId);
+                awaitStreamEnd();
+                return code;
+            } finally {
+                removeQuietly(containerId);
+            }
+        }
+
+        @Override
+        protected void kill() {
+            try {
+                client.killContainer(containerId);
+            } catch (IOException e) {
+                removeQuietly(containerId);
+            }
+        }
+    }
+
+    /**
+     * 풀 컨테이너 내부 실행 (출력 스트림 종료 후 종료 코드 조회)
+     * 강제 종료 시 연결만 끊으며, 남은 프로세스는 컨테이너 폐기 시 정리된다.
+     */
+    private class ExecProcess extends EngineProcess {
+        private final String execId;
+
+        ExecProcess(DockerEngineClient.Connection connection, String execId) {
+            super(connection);
+            this.execId = execId;
+        }
+
+        @Override
+        protected int awaitExit() throws IOException {
+            awaitStreamEnd();
+            return client.inspectExec(execId);
+        }
+
+        @Override
+        protected void kill() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package solid.backend.Docker.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 샌드박스 컨테이너 실행 방식
+ * 실행 결과는 표준 출력/에러 스트림과 종료 대기를 제공하는 Process 로 돌려준다.
+ * 실행 감독(supervised) 컨테이너는 root 로 시작하되 사용자 전환과 프로세스 종료에 필요한 권한만 남기며,
+ * 스크립트(일괄 채점 하네스, zygote)가 사용자 코드를 docker.sandbox.user 로 권한을 내려 실행한다.
+ */
+public interface SandboxBackend {
+
+    /**
+     * 설명: 사용 가능 여부
+     * @return boolean
+     */
+    boolean isAvailable();
+
+    /**
+     * 설명: 디렉터리를 작업 디렉터리에 연결한 새 컨테이너에서 스크립트 실행 (종료 후 컨테이너 삭제)
+     * @param image
+     * @param mountDir
+     * @param script
+     * @param mem
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return Process
+     */
+    Process run(String image, Path mountDir, String script, int mem, boolean supervised) throws IOException;
+
+    /**
+     * 설명: 작업 디렉터리를 tmpfs 로 만든 새 컨테이너에서 스크립트 실행 (실행 대상은 표준 입력으로 전달, 종료 후 컨테이너 삭제)
+     * @param image
+     * @param script
+     * @param mem
+     * @param tmpfsMb 작업 디렉터리 크기(MB)
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return Process
+     */
+    Process runOnTmpfs(String image, String script, int mem, int tmpfsMb, boolean supervised) throws IOException;
+
+    /**
+     * 설명: 실행 중인 컨테이너 내부에서 스크립트 실행
+     * @param containerName
+     * @param script
+     * @return Process
+     */
+    Process exec(String containerName, String script) throws IOException;
+}
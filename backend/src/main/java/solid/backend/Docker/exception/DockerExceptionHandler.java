@@ -0,0 +1,41 @@
+package solid.backend.Docker.exception;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import solid.backend.Docker.dto.JudgeQueueStatusDto;
+import solid.backend.common.ApiResponse;
+
+/**
+ * 코드 실행 기능 예외 처리기
+ */
+@Slf4j
+@RestControllerAdvice(basePackages = "solid.backend.Docker")
+public class DockerExceptionHandler {
+
+    /**
+     * 실행 요청 과부하 시 대기 순번과 함께 거절
+     *
+     * @param e JudgeOverloadedException 예외
+     * @param request HTTP 요청 정보
+     * @return 429 Too Many Requests 응답
+     */
+    @ExceptionHandler(JudgeOverloadedException.class)
+    public ResponseEntity<ApiResponse<JudgeQueueStatusDto>> handleJudgeOverloaded(
+            JudgeOverloadedException e, HttpServletRequest request) {
+        log.warn("Judge overloaded: {} (lane={}, position={}/{})",
+                e.getMessage(), e.getLane(), e.getQueuePosition(), e.getQueueLength());
+
+        ApiResponse<JudgeQueueStatusDto> response = ApiResponse.<JudgeQueueStatusDto>builder()
+                .success(false)
+                .message(e.getMessage())
+                .errorCode("JUDGE_OVERLOADED")
+                .path(request.getRequestURI())
+                .data(new JudgeQueueStatusDto(e.getLane(), e.getQueuePosition(), e.getQueueLength()))
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+    }
+}
@@ -0,0 +1,20 @@
+package solid.backend.Docker.exception;
+
+import lombok.Getter;
+
+/**
+ * 실행 요청이 많아 대기열에 넣을 수 없거나 대기 시간이 초과된 경우 발생
+ */
+@Getter
+public class JudgeOverloadedException extends RuntimeException {
+    private final String lane;
+    private final int queuePosition;
+    private final int queueLength;
+
+    public JudgeOverloadedException(String message, String lane, int queuePosition, int queueLength) {
+        super(message);
+        this.lane = lane;
+        this.queuePosition = queuePosition;
+        this.queueLength = queueLength;
+    }
+}
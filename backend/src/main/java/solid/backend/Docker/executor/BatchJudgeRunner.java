@@ -0,0 +1,222 @@
+package solid.backend.Docker.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.dto.BuildResultDto;
+import solid.backend.Docker.dto.DockerResultDto;
+import solid.backend.Docker.runtime.LanguageRuntime;
+import solid.backend.Docker.runtime.LanguageRuntimeRegistry;
+import solid.backend.common.DockerRun;
+import solid.backend.config.DockerProperties;
+import solid.backend.config.FileStorageConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 단일 컨테이너 일괄 채점기
+ * 제출 하나당 컨테이너를 한 번만 띄우고, 컨테이너 내부 하네스가 테스트케이스 입력을 순서대로 실행한다.
+ * 케이스별 표준 출력, 종료 코드, 실행 시간, 최대 메모리, CPU 시간, 기동 시간은 한 줄 단위 프레임으로 돌려받는다.
+ * 표준 에러는 채점하지 않으며 프레임에 담지 않는다.
+ * zygote 가 있는 실행 환경은 하네스 대신 zygote 가 초기화된 인터프리터에서 케이스마다 실행을 나누어 준다.
+ */
+@Slf4j
+@Component
+public class BatchJudgeRunner {
+    private static final String HARNESS_RESOURCE = "docker/judge-harness.sh";
+    private static final String HARNESS_DIR = ".judge";
+    /** 컨테이너 기동과 하네스 자체에 허용하는 추가 시간(초) */
+    private static final float STARTUP_SLACK_SECONDS = 5f;
+
+    private final DockerRun dockerRun;
+    private final LanguageRuntimeRegistry runtimeRegistry;
+    private final DockerProperties.Batch batchProperties;
+    private final int maxOutputBytes;
+    private final Path workspaceRoot;
+
+    public BatchJudgeRunner(DockerRun dockerRun, LanguageRuntimeRegistry runtimeRegistry, DockerProperties dockerProperties,
+                            FileStorageConfig fileStorageConfig) {
+        this.dockerRun = dockerRun;
+        this.runtimeRegistry = runtimeRegistry;
+        this.batchProperties = dockerProperties.getBatch();
+        this.maxOutputBytes = dockerProperties.getOutput().getMaxBytes();
+        this.workspaceRoot = Path.of(fileStorageConfig.getUploadDir(), JUDGE_WORKSPACE_DIR).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 설명: 일괄 채점 모드 사용 여부 (zygote 가 있는 실행 환경은 항상 사용)
+     * @param extension
+     * @return boolean
+     */
+    public boolean isEnabled(String extension) {
+        return batchProperties.isEnabled()
+                || runtimeRegistry.find(extension).map(runtime -> runtime.zygoteScript() != null).orElse(false);
+    }
+
+    /**
+     * 설명: 컨테이너 하나에서 모든 입력을 실행하고 입력 순서대로 결과 반환
+     * @param filePath
+     * @param extension
+     * @param build 컴파일 결과 (없으면 null)
+     * @param inputs
+     * @param mem
+     * @param timeoutSeconds 케이스당 제한 시간
+     * @return List<DockerResultDto>
+     */
+    public List<DockerResultDto> runAll(String filePath, String extension, BuildResultDto build,
+                                        List<String> inputs, int mem, float timeoutSeconds) {
+        Path workspace = workspaceRoot.resolve(UUID.randomUUID().toString());
+        try {
+            LanguageRuntime runtime = runtimeRegistry.get(extension);
+            String fileName = Path.of(filePath).getFileName().toString();
+            prepareWorkspace(workspace, Path.of(filePath), extension, build, inputs, runtime);
+
+            // 케이스마다 실행 환경을 새로 띄우므로 케이스별 제한 시간에 기동 여유를 더함
+            float caseLimit = timeoutSeconds + runtime.startupAllowance();
+            String script = runtime.zygoteScript() != null
+                    ? "cd " + WORK_DIR + " && " + runtime.zygoteCommand(fileName, zygotePath(runtime))
+                            + " " + caseLimit + " " + maxOutputBytes + " " + mem
+                    : "sh " + WORK_DIR + "/" + HARNESS_DIR + "/harness.sh " + caseLimit + " " + maxOutputBytes;
+            float batchTimeout = caseLimit * inputs.size() + STARTUP_SLACK_SECONDS;
+            // 케이스별 출력은 하네스가 제한하므로 프레임(base64) 전체를 담을 수 있는 크기로 수집
+            long frameBytes = ((long) maxOutputBytes + 1) * 4 / 3 + 128;
+            int batchOutputBytes = (int) Math.min(Integer.MAX_VALUE, frameBytes * inputs.size() + maxOutputBytes);
+            DockerResultDto batch = dockerRun.run(workspace, extension, script, StdinSource.empty(), mem, batchTimeout, null, batchOutputBytes);
+
+            return parseFrames(batch.getOutput(), inputs.size(), timeoutSeconds, runtime);
+        } catch (IOException e) {
+            throw new RuntimeException("일괄 채점 준비 실패: " + e.getMessage(), e);
+        } finally {
+            deleteRecursively(workspace);
+        }
+    }
+
+    /**
+     * 설명: 실행 파일, 하네스(또는 zygote), 테스트케이스 입력 파일을 작업 디렉터리에 준비
+     * @param workspace
+     * @param source
+     * @param extension
+     * @param build
+     * @param inputs
+     * @param runtime
+     */
+    private void prepareWorkspace(Path workspace, Path source, String extension, BuildResultDto build,
+                                  List<String> inputs, LanguageRuntime runtime) throws IOException {
+        Path harnessDir = Files.createDirectories(workspace.resolve(HARNESS_DIR));
+        String fileName = source.getFileName().toString();
+
+        if (build != null) {
+            try (Stream<Path> files = Files.list(Path.of(build.getBuildPath()))) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    Files.copy(file, workspace.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } else {
+            Files.copy(source, workspace.resolve(fileName));
+        }
+
+        try (InputStream harness = new ClassPathResource(HARNESS_RESOURCE).getInputStream()) {
+            Files.copy(harness, harnessDir.resolve("harness.sh"));
+        }
+        if (runtime.zygoteScript() != null) {
+            try (InputStream zygote = new ClassPathResource(runtime.zygoteScript()).getInputStream()) {
+                Files.copy(zygote, harnessDir.resolve(zygoteFileName(runtime)));
+            }
+        }
+        Files.writeString(harnessDir.resolve("run.sh"), dockerRun.buildLaunchCommand(fileName, extension, build) + "\n");
+        // 기동 시간 프레임을 출력하는 실행 환경만 토큰을 두며, 하네스는 이 토큰이 있는 프레임만 기동 시간으로 보고한다
+        String startupToken = dockerRun.startupToken(runtime);
+        if (startupToken != null) Files.writeString(harnessDir.resolve("token"), startupToken + "\n");
+        for (int i = 0; i < inputs.size(); i++) {
+            Files.writeString(harnessDir.resolve("in_" + i), inputs.get(i) + "\n");
+        }
+    }
+
+    private String zygotePath(LanguageRuntime runtime) {
+        return WORK_DIR + "/" + HARNESS_DIR + "/" + zygoteFileName(runtime);
+    }
+
+    private String zygoteFileName(LanguageRuntime runtime) {
+        return Path.of(runtime.zygoteScript()).getFileName().toString();
+    }
+
+    /**
+     * 설명: 하네스 출력 프레임을 케이스별 실행 결과로 변환
+     * @param output
+     * @param caseCount
+     * @param timeoutSeconds
+     * @param runtime 케이스별 출력 정규화와 기동 시간 분리에 사용할 실행 환경
+     * @return List<DockerResultDto>
+     */
+    private List<DockerResultDto> parseFrames(String output, int caseCount, float timeoutSeconds, LanguageRuntime runtime) {
+        Map<Integer, DockerResultDto> frames = new HashMap<>();
+        for (String line : output.split("\n")) {
+            if (!line.startsWith(CASE_FRAME_PREFIX)) continue;
+
+            String[] parts = line.substring(CASE_FRAME_PREFIX.length()).split(" ", 7);
+            if (parts.length < 6) continue;
+            try {
+                int index = Integer.parseInt(parts[0]);
+                int exitCode = Integer.parseInt(parts[1]);
+                float time = Long.parseLong(parts[2]) / 1_000_000.0f;
+                long peak = Long.parseLong(parts[3]);
+                Long peakMemory = peak > 0 ? peak : null;
+                float cpuTime = Long.parseLong(parts[4]) / 1_000_000.0f;
+                long startupMicros = Long.parseLong(parts[5].trim());
+                byte[] caseBytes = parts.length == 7 ? Base64.getDecoder().decode(parts[6].trim()) : new byte[0];
+                boolean truncated = caseBytes.length > maxOutputBytes;
+                String caseOutput = truncated
+                        ? new String(caseBytes, 0, maxOutputBytes, StandardCharsets.UTF_8)
+                                + "\n...[출력이 " + maxOutputBytes + " bytes 를 초과하여 중단됨]"
+                        : new String(caseBytes, StandardCharsets.UTF_8);
+
+                DockerResultDto frame;
+                if (exitCode == EXIT_TIME_OUT) {
+                    frame = new DockerResultDto(TIME_OUT, timeoutSeconds);
+                } else {
+                    frame = new DockerResultDto(null, time);
+                    dockerRun.applyStartupTime(frame, startupMicros, runtime);
+                    frame.setOutput(runtime.normalizeOutput(caseOutput));
+                }
+                frame.setExitCode(exitCode);
+                frame.setPeakMemory(peakMemory);
+                frame.setCpuTime(cpuTime);
+                frame.setTruncated(truncated);
+                frames.put(index, frame);
+            } catch (IllegalArgumentException e) {
+                log.warn("일괄 채점 프레임 해석 실패: {}", line);
+            }
+        }
+
+        // 하네스가 끝나지 못한 케이스는 전체 결과로 대체 (시간 초과 또는 하네스 오류)
+        List<DockerResultDto> results = new ArrayList<>(caseCount);
+        for (int i = 0; i < caseCount; i++) {
+            DockerResultDto frame = frames.get(i);
+            if (frame == null) {
+                frame = TIME_OUT.equals(output)
+                        ? new DockerResultDto(TIME_OUT, timeoutSeconds)
+                        : new DockerResultDto(output, 0f);
+            }
+            results.add(frame);
+        }
+        return results;
+    }
+
+    private void deleteRecursively(Path path) {
+        if (!Files.exists(path)) return;
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(entry -> entry.toFile().delete());
+        } catch (IOException e) {
+            log.warn("삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package solid.backend.Docker.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.dto.DockerResultDto;
+
+import java.util.concurrent.TimeUnit;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 실행 단계별 소요 시간 메트릭 (docker.execution.phase{phase, language})
+ * 컨테이너 기동, 컴파일, 사용자 코드 실행(벽시계/CPU), 컨테이너 정리를 나누어 히스토그램으로 기록한다.
+ * 문제 제한 시간과 비교하는 실행 시간은 사용자 코드 실행 구간뿐이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutionPhaseTimer {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 설명: 단계 소요 시간 기록
+     * @param phase
+     * @param language 확장자
+     * @param nanos
+     */
+    public void record(String phase, String language, long nanos) {
+        if (nanos < 0) return;
+        Timer.builder("docker.execution.phase")
+                .description("실행 단계별 소요 시간 (사용자 코드 실행 구간만 제한 시간과 비교)")
+                .tag("phase", phase)
+                .tag("language", language)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 설명: 초 단위 측정값 기록 (측정하지 못한 값은 무시)
+     * @param phase
+     * @param language
+     * @param seconds
+     */
+    public void record(String phase, String language, Float seconds) {
+        if (seconds != null) record(phase, language, (long) (seconds * 1_000_000_000L));
+    }
+
+    /**
+     * 설명: 사용자 코드 실행 구간의 벽시계 시간과 CPU 시간 기록
+     * @param language
+     * @param execution
+     */
+    public void recordExecution(String language, DockerResultDto execution) {
+        record(PHASE_USER, language, execution.getTime());
+        record(PHASE_CPU, language, execution.getCpuTime());
+    }
+}
@@ -0,0 +1,69 @@
+package solid.backend.Docker.executor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 실행 출력과 비교할 정답
+ * 문자열 정답은 앞뒤 공백만 무시하고 그대로 비교하며,
+ * 파일로 저장된 큰 정답은 메모리 매핑한 파일과 토큰 단위로 비교한다.
+ */
+public abstract class ExpectedOutput {
+
+    /**
+     * 설명: 문자열 정답
+     * @param text
+     * @return ExpectedOutput
+     */
+    public static ExpectedOutput of(String text) {
+        return new ExpectedOutput() {
+            @Override
+            public StreamingMatcher matcher() {
+                return new OutputMatcher(text);
+            }
+
+            @Override
+            public long outputLimit(int maxBytes) {
+                return maxBytes;
+            }
+        };
+    }
+
+    /**
+     * 설명: 파일 정답
+     * @param answerFile
+     * @return ExpectedOutput
+     */
+    public static ExpectedOutput ofFile(Path answerFile) {
+        return new ExpectedOutput() {
+            @Override
+            public StreamingMatcher matcher() {
+                return new TokenMatcher(answerFile);
+            }
+
+            @Override
+            public long outputLimit(int maxBytes) {
+                try {
+                    return Files.size(answerFile) + maxBytes;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("정답 파일을 읽을 수 없습니다: " + answerFile, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 설명: 실행 한 번에 사용할 비교기 생성
+     * @return StreamingMatcher
+     */
+    public abstract StreamingMatcher matcher();
+
+    /**
+     * 설명: 실행을 중단할 표준 출력 크기 (정답이 출력 제한보다 크면 정답 크기만큼 더 허용)
+     * @param maxBytes 기본 출력 제한
+     * @return long
+     */
+    public abstract long outputLimit(int maxBytes);
+}
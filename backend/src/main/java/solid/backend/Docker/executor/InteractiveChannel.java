@@ -0,0 +1,269 @@
+package solid.backend.Docker.executor;
+
+import solid.backend.Docker.dto.InteractiveEventDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 대화형 실행 입출력 채널
+ * 실행 중인 프로그램의 표준 출력/에러를 읽는 대로 OUTPUT 이벤트로 보내고, 사용자가 입력한 줄을 표준 입력으로 넘긴다.
+ * 클라이언트가 받은 이벤트 번호를 확인(ack)하기 전에는 windowBytes 이상 보내지 않아,
+ * 클라이언트가 느리면 출력 읽기가 멈추고 파이프가 차서 프로그램의 출력도 멈춘다 (backpressure).
+ * 전체 출력이 maxOutputBytes 를 넘으면 잘라서 보내고 프로그램을 종료한다.
+ */
+public class InteractiveChannel {
+    private static final int READ_BUFFER = 4096;
+    private static final byte[] END_OF_INPUT = new byte[0];
+
+    private final String runId;
+    private final Consumer<InteractiveEventDto> sender;
+    private final long windowBytes;
+    private final long maxOutputBytes;
+    private final BlockingQueue<byte[]> input;
+    private final Deque<long[]> unacked = new ArrayDeque<>();
+    private long seq;
+    private long inFlightBytes;
+    private long totalBytes;
+    private boolean closed;
+    private volatile boolean truncated;
+    private volatile Runnable killer;
+
+    /**
+     * @param runId
+     * @param sender 이벤트 전송 (OUTPUT, EXIT, ERROR)
+     * @param windowBytes 확인받지 않은 상태로 보낼 수 있는 최대 출력 크기
+     * @param maxOutputBytes 전체 출력 최대 크기
+     * @param maxInputLines 프로그램이 읽기 전까지 보관할 최대 입력 줄 수
+     */
+    public InteractiveChannel(String runId, Consumer<InteractiveEventDto> sender, long windowBytes, long maxOutputBytes,
+                              int maxInputLines) {
+        this.runId = runId;
+        this.sender = sender;
+        this.windowBytes = windowBytes;
+        this.maxOutputBytes = maxOutputBytes;
+        this.input = new LinkedBlockingQueue<>(maxInputLines);
+    }
+
+    /**
+     * 설명: 실행 중인 프로그램 종료 방법 등록 (출력 제한 초과, 사용자 중지 시 호출)
+     * @param killer
+     */
+    public void attach(Runnable killer) {
+        this.killer = killer;
+    }
+
+    /**
+     * 설명: 출력 스트림을 끝까지 읽어 이벤트로 보내는 스레드 시작
+     * @param stream STREAM_STDOUT, STREAM_STDERR
+     * @param in
+     * @param startupToken 첫 줄에서 제거할 이번 실행의 기동 시간 프레임(@@START <토큰>) 토큰 (없으면 null)
+     * @return Thread
+     */
+    public Thread pump(String stream, InputStream in, String startupToken) {
+        return Thread.ofVirtual().start(() -> {
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ByteBuffer pending = ByteBuffer.allocate(READ_BUFFER * 2);
+            CharBuffer chars = CharBuffer.allocate(READ_BUFFER * 2);
+            byte[] frame = startupToken != null
+                    ? (STARTUP_FRAME_PREFIX + startupToken + " ").getBytes(StandardCharsets.US_ASCII)
+                    : null;
+            boolean firstLine = frame != null;
+            try (in) {
+                byte[] buffer = new byte[READ_BUFFER];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    pending.put(buffer, 0, read);
+                    pending.flip();
+                    if (firstLine) {
+                        // 첫 줄이 끝나거나 접두사와 다르다는 것을 알 때까지 모아서 판단
+                        int lineEnd = indexOf(pending, (byte) '\n');
+                        if (lineEnd == -1 && pending.remaining() < READ_BUFFER && startsWithFrame(pending, frame, true)) {
+                            pending.compact();
+                            continue;
+                        }
+                        if (lineEnd != -1 && startsWithFrame(pending, frame, false)) pending.position(lineEnd + 1);
+                        firstLine = false;
+                    }
+                    int length = pending.remaining();
+                    decoder.decode(pending, chars, false);
+                    // 끝이 잘린 UTF-8 문자는 다음 읽기와 합쳐서 보냄
+                    int consumed = length - pending.remaining();
+                    pending.compact();
+                    chars.flip();
+                    if (chars.hasRemaining() && !send(stream, chars.toString(), consumed)) return;
+                    chars.clear();
+                }
+                // 줄바꿈 없이 끝난 마지막 출력
+                pending.flip();
+                if (pending.hasRemaining()) {
+                    int length = pending.remaining();
+                    decoder.decode(pending, chars, true);
+                    send(stream, chars.flip().toString(), length);
+                }
+            } catch (IOException e) {
+                // 프로세스 강제 종료 시 스트림이 닫히는 경우
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    /**
+     * 설명: 출력 이벤트 전송 (확인받지 않은 출력이 창 크기를 넘으면 확인될 때까지 대기)
+     * @param stream
+     * @param text
+     * @param bytes text 의 UTF-8 크기
+     * @return boolean 계속 읽을지 여부 (출력 제한 초과, 채널 종료 시 false)
+     */
+    private boolean send(String stream, String text, int bytes) throws InterruptedException {
+        long eventSeq;
+        synchronized (this) {
+            while (!closed && inFlightBytes > 0 && inFlightBytes + bytes > windowBytes) {
+                wait();
+            }
+            if (closed) return false;
+            if (totalBytes + bytes > maxOutputBytes) {
+                int allowed = (int) (maxOutputBytes - totalBytes);
+                text = truncate(text, allowed);
+                bytes = text.getBytes(StandardCharsets.UTF_8).length;
+                truncated = true;
+            }
+            eventSeq = ++seq;
+            totalBytes += bytes;
+            inFlightBytes += bytes;
+            unacked.addLast(new long[]{eventSeq, bytes});
+        }
+        if (!text.isEmpty()) {
+            sender.accept(new InteractiveEventDto(EVENT_OUTPUT, runId, eventSeq, stream, text, null, null, null, null));
+        }
+        if (truncated) {
+            kill();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 설명: 클라이언트가 받은 출력 이벤트 확인 (해당 번호까지의 출력만큼 다시 보낼 수 있음)
+     * @param ackSeq
+     */
+    public synchronized void ack(long ackSeq) {
+        while (!unacked.isEmpty() && unacked.peekFirst()[0] <= ackSeq) {
+            inFlightBytes -= unacked.pollFirst()[1];
+        }
+        notifyAll();
+    }
+
+    /**
+     * 설명: 사용자가 입력한 줄을 표준 입력 대기열에 추가 (줄바꿈이 없으면 붙임)
+     * @param line
+     * @return boolean 추가 여부 (대기열이 가득 차거나 입력을 닫은 경우 false)
+     */
+    public boolean write(String line) {
+        String text = line.endsWith("\n") ? line : line + "\n";
+        return input.offer(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 설명: 표준 입력 닫기 (EOF)
+     */
+    public void closeInput() {
+        input.offer(END_OF_INPUT);
+    }
+
+    /**
+     * 설명: 다음 입력 대기 (입력을 닫았으면 null)
+     * @return byte[]
+     */
+    public byte[] nextInput() throws InterruptedException {
+        byte[] line = input.take();
+        return line == END_OF_INPUT ? null : line;
+    }
+
+    /**
+     * 설명: 실행 중인 프로그램 종료 (사용자 중지, 출력 제한 초과)
+     */
+    public void kill() {
+        Runnable current = killer;
+        if (current != null) current.run();
+    }
+
+    /**
+     * 설명: 종료 이벤트 전송 후 채널 닫기 (출력 대기 중인 스레드도 멈춤)
+     * @param exitCode
+     * @param time 실행 시간(초)
+     */
+    public void exit(Integer exitCode, Float time) {
+        close();
+        sender.accept(new InteractiveEventDto(EVENT_EXIT, runId, null, null, null, exitCode, time, truncated, null));
+    }
+
+    /**
+     * 설명: 오류 이벤트 전송 후 채널 닫기
+     * @param error
+     */
+    public void error(String error) {
+        close();
+        sender.accept(new InteractiveEventDto(EVENT_ERROR, runId, null, null, null, null, null, null, error));
+    }
+
+    /**
+     * 설명: 출력 제한 초과로 잘렸는지 여부
+     * @return boolean
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 설명: 채널 닫기 (확인을 기다리며 출력 대기 중인 스레드도 멈추고 이후 출력은 버림)
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 설명: 버퍼가 기동 시간 프레임 접두사로 시작하는지 (partial 이면 접두사보다 짧아도 앞부분이 같으면 true)
+     */
+    private static boolean startsWithFrame(ByteBuffer buffer, byte[] prefix, boolean partial) {
+        if (!partial && buffer.remaining() < prefix.length) return false;
+        for (int i = 0; i < Math.min(prefix.length, buffer.remaining()); i++) {
+            if (buffer.get(buffer.position() + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static String truncate(String text, int maxBytes) {
+        if (maxBytes <= 0) return "";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) return text;
+        // 잘린 문자는 버림
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.IGNORE);
+        CharBuffer out = CharBuffer.allocate(maxBytes);
+        decoder.decode(ByteBuffer.wrap(bytes, 0, maxBytes), out, false);
+        return out.flip().toString();
+    }
+}
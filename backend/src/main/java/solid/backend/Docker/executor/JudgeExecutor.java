@@ -0,0 +1,116 @@
+package solid.backend.Docker.executor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import solid.backend.config.DockerProperties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 채점용 병렬 실행기
+ * 한 제출의 테스트케이스들을 여러 코어에 나누어 실행하되,
+ * 고정 크기 스레드 풀로 서버 전체의 동시 실행 수를 제한한다.
+ */
+@Slf4j
+@Component
+public class JudgeExecutor {
+    private final ExecutorService executorService;
+    private final int maxConcurrency;
+
+    public JudgeExecutor(DockerProperties dockerProperties) {
+        int configured = dockerProperties.getExecutor().getMaxConcurrency();
+        this.maxConcurrency = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(maxConcurrency, r -> {
+            Thread thread = new Thread(r, "judge-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("채점 실행기 동시 실행 수: {}", maxConcurrency);
+    }
+
+    /**
+     * 설명: 작업 목록을 병렬 실행하고 입력 순서대로 결과 반환
+     * @param tasks
+     * @return List<T>
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> futures.add(executorService.submit(task)));
+
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("채점이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new RuntimeException(e.getCause());
+        } finally {
+            // 실패 시 아직 실행되지 않은 테스트케이스는 취소
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 설명: 작업 목록을 병렬 실행하다가 중단 조건을 만족하는 결과가 나오면 나머지 작업 취소
+     * 대기 중인 작업은 실행하지 않고, 실행 중인 작업은 인터럽트해 컨테이너를 종료시킨다.
+     * @param tasks
+     * @param stopWhen 나머지 작업을 취소할 결과 조건
+     * @return List<T> 입력 순서대로의 결과 (취소된 작업은 null)
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks, Predicate<T> stopWhen) {
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executorService);
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        Map<Future<T>, Integer> indexes = new HashMap<>();
+        for (Callable<T> task : tasks) {
+            Future<T> future = completionService.submit(task);
+            indexes.put(future, futures.size());
+            futures.add(future);
+        }
+
+        List<T> results = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+        try {
+            for (int done = 0; done < tasks.size(); done++) {
+                Future<T> future = completionService.take();
+                T result = future.get();
+                results.set(indexes.get(future), result);
+                if (stopWhen.test(result)) break;
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("채점이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new RuntimeException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 설명: 전체 동시 실행 수
+     * @return int
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 설명: 애플리케이션 종료 시 실행기 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,320 @@
+package solid.backend.Docker.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.exception.JudgeOverloadedException;
+import solid.backend.config.DockerProperties;
+import solid.backend.jpaRepository.CodeFileRepository;
+import solid.backend.jpaRepository.TestCaseRepository;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 코드 실행 요청 스케줄러
+ * 실행 구간(채점/사용자 입력)마다 전체, 멤버별, 컨테이너별 동시 실행 수를 제한하고,
+ * 대기 중인 요청은 멤버 단위 가중 공정 대기열(start-time fair queuing)로 순서를 정한다.
+ * 대기열이 가득 차거나 대기 시간이 초과되면 대기 순번과 함께 거절한다.
+ */
+@Component
+public class JudgeScheduler {
+    private final DockerProperties.Scheduler schedulerProperties;
+    private final CodeFileRepository codeFileRepository;
+    private final TestCaseRepository testCaseRepository;
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final MeterRegistry meterRegistry;
+    private long sequence;
+
+    public JudgeScheduler(DockerProperties dockerProperties, CodeFileRepository codeFileRepository,
+                          TestCaseRepository testCaseRepository, MeterRegistry meterRegistry) {
+        this.schedulerProperties = dockerProperties.getScheduler();
+        this.codeFileRepository = codeFileRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.meterRegistry = meterRegistry;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        addLane(LANE_JUDGE, schedulerProperties.getJudge(), cores);
+        addLane(LANE_CUSTOM, schedulerProperties.getCustom(), Math.max(2, cores / 2));
+    }
+
+    /**
+     * 설명: 실행 요청 정보 생성 (코드 파일의 컨테이너와 테스트케이스 수 조회)
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param lane
+     * @return JudgeTicket
+     */
+    public JudgeTicket ticket(String memberId, Integer codeFileId, Integer questionId, String lane) {
+        Integer containerId = codeFileRepository.findContainerIdByCodeFileId(codeFileId).orElse(null);
+        double cost = LANE_JUDGE.equals(lane) && questionId != null
+                ? Math.max(1, testCaseRepository.countByQuestion_QuestionId(questionId))
+                : 1;
+        String memberKey = memberId != null ? memberId : "codeFile:" + codeFileId;
+        return new JudgeTicket(lane, memberKey, containerId, cost);
+    }
+
+    /**
+     * 설명: 실행 허가를 받은 뒤 작업 실행 (최대 대기 시간 초과 또는 대기열 초과 시 거절)
+     * @param ticket
+     * @param task
+     * @return T
+     */
+    public <T> T execute(JudgeTicket ticket, Supplier<T> task) {
+        return run(ticket, task, true);
+    }
+
+    /**
+     * 설명: 이미 대기열에 저장된 비동기 작업 실행 (허가를 받을 때까지 제한 없이 대기)
+     * @param ticket
+     * @param task
+     * @return T
+     */
+    public <T> T executeQueued(JudgeTicket ticket, Supplier<T> task) {
+        return run(ticket, task, false);
+    }
+
+    private <T> T run(JudgeTicket ticket, Supplier<T> task, boolean bounded) {
+        if (!schedulerProperties.isEnabled()) return task.get();
+
+        long waitStart = System.nanoTime();
+        admit(ticket, bounded);
+        lanes.get(ticket.lane()).waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        try {
+            return task.get();
+        } finally {
+            release(ticket);
+        }
+    }
+
+    /**
+     * 설명: 실행 허가 대기
+     * @param ticket
+     * @param bounded 대기열 크기, 대기 시간 제한 적용 여부
+     */
+    private void admit(JudgeTicket ticket, boolean bounded) {
+        Lane lane = lanes.get(ticket.lane());
+        if (lane == null) throw new IllegalArgumentException("지원하지 않는 실행 구간입니다: " + ticket.lane());
+
+        lock.lock();
+        Waiter waiter = null;
+        try {
+            waiter = lane.enqueue(ticket, weightOf(ticket.memberKey()), ++sequence);
+            lane.dispatch();
+            if (waiter.granted) return;
+
+            if (bounded && (lane.waiting.size() > lane.config.getMaxQueue()
+                    || lane.waitingOf(ticket.memberKey()) > lane.config.getMaxQueuePerMember())) {
+                int length = lane.waiting.size() - 1;
+                lane.cancel(waiter);
+                lane.rejected.increment();
+                throw new JudgeOverloadedException("실행 요청이 많아 대기열에 추가할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        lane.name, length + 1, length);
+            }
+
+            long remaining = TimeUnit.SECONDS.toNanos(schedulerProperties.getMaxWaitSeconds());
+            while (!waiter.granted) {
+                if (!bounded) {
+                    changed.await();
+                    continue;
+                }
+                if (remaining <= 0) {
+                    int position = lane.positionOf(waiter);
+                    int length = lane.waiting.size();
+                    lane.cancel(waiter);
+                    lane.rejected.increment();
+                    throw new JudgeOverloadedException("실행 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.",
+                            lane.name, position, length);
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (waiter.granted) {
+                lane.finish(ticket);
+                lane.dispatch();
+            } else {
+                lane.cancel(waiter);
+            }
+            throw new RuntimeException("실행 대기가 중단되었습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 설명: 실행 종료 후 다음 대기 요청에 허가
+     * @param ticket
+     */
+    private void release(JudgeTicket ticket) {
+        lock.lock();
+        try {
+            Lane lane = lanes.get(ticket.lane());
+            lane.finish(ticket);
+            lane.dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double weightOf(String memberKey) {
+        Double weight = schedulerProperties.getMemberWeights().get(memberKey);
+        return weight != null && weight > 0 ? weight : 1.0;
+    }
+
+    private void addLane(String name, DockerProperties.Scheduler.Lane config, int defaultSlots) {
+        Lane lane = new Lane(name, config, config.getSlots() > 0 ? config.getSlots() : defaultSlots);
+        lanes.put(name, lane);
+
+        List<Tag> tags = List.of(Tag.of("lane", name));
+        meterRegistry.gauge("docker.scheduler.waiting", tags, lane, l -> l.waitingCount());
+        meterRegistry.gauge("docker.scheduler.running", tags, lane, l -> l.runningCount());
+    }
+
+    /**
+     * 대기 요청 (가상 시작/종료 시각으로 순서 결정)
+     */
+    private static class Waiter {
+        private final JudgeTicket ticket;
+        private final double startTag;
+        private final double finishTag;
+        private final long sequence;
+        private boolean granted;
+
+        Waiter(JudgeTicket ticket, double startTag, double finishTag, long sequence) {
+            this.ticket = ticket;
+            this.startTag = startTag;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * 실행 구간별 상태 (락 안에서만 접근)
+     */
+    private class Lane {
+        private static final Comparator<Waiter> ORDER =
+                Comparator.<Waiter>comparingDouble(w -> w.finishTag).thenComparingLong(w -> w.sequence);
+
+        private final String name;
+        private final DockerProperties.Scheduler.Lane config;
+        private final int slots;
+        private final List<Waiter> waiting = new ArrayList<>();
+        private final Map<String, Integer> runningByMember = new HashMap<>();
+        private final Map<Integer, Integer> runningByContainer = new HashMap<>();
+        private final Map<String, Double> lastFinishByMember = new HashMap<>();
+        private final Counter rejected;
+        private final Timer waitTimer;
+        private int running;
+        private double virtualTime;
+
+        Lane(String name, DockerProperties.Scheduler.Lane config, int slots) {
+            this.name = name;
+            this.config = config;
+            this.slots = slots;
+            this.rejected = Counter.builder("docker.scheduler.rejected")
+                    .description("과부하로 거절된 실행 요청 수")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("docker.scheduler.wait")
+                    .description("실행 허가까지 대기한 시간 (실행 시간에 포함하지 않음)")
+                    .tag("lane", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        Waiter enqueue(JudgeTicket ticket, double weight, long sequence) {
+            double startTag = Math.max(virtualTime, lastFinishByMember.getOrDefault(ticket.memberKey(), 0.0));
+            double finishTag = startTag + ticket.cost() / weight;
+            lastFinishByMember.put(ticket.memberKey(), finishTag);
+
+            Waiter waiter = new Waiter(ticket, startTag, finishTag, sequence);
+            waiting.add(waiter);
+            return waiter;
+        }
+
+        /**
+         * 실행 가능한 대기 요청 중 가상 종료 시각이 가장 빠른 요청부터 허가
+         */
+        void dispatch() {
+            boolean grantedAny = false;
+            while (running < slots) {
+                Waiter next = waiting.stream().filter(w -> eligible(w.ticket)).min(ORDER).orElse(null);
+                if (next == null) break;
+
+                waiting.remove(next);
+                start(next.ticket);
+                next.granted = true;
+                virtualTime = Math.max(virtualTime, next.startTag);
+                grantedAny = true;
+            }
+            if (grantedAny) changed.signalAll();
+        }
+
+        void cancel(Waiter waiter) {
+            waiting.remove(waiter);
+            // 마지막 요청이 취소되면 해당 멤버의 가상 시각을 되돌림
+            if (lastFinishByMember.getOrDefault(waiter.ticket.memberKey(), 0.0) == waiter.finishTag) {
+                lastFinishByMember.put(waiter.ticket.memberKey(), waiter.startTag);
+            }
+        }
+
+        int positionOf(Waiter waiter) {
+            return (int) waiting.stream().filter(w -> ORDER.compare(w, waiter) < 0).count() + 1;
+        }
+
+        int waitingOf(String memberKey) {
+            return (int) waiting.stream().filter(w -> w.ticket.memberKey().equals(memberKey)).count();
+        }
+
+        int waitingCount() {
+            lock.lock();
+            try {
+                return waiting.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int runningCount() {
+            lock.lock();
+            try {
+                return running;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean eligible(JudgeTicket ticket) {
+            if (runningByMember.getOrDefault(ticket.memberKey(), 0) >= config.getPerMember()) return false;
+            return ticket.containerId() == null
+                    || runningByContainer.getOrDefault(ticket.containerId(), 0) < config.getPerContainer();
+        }
+
+        private void start(JudgeTicket ticket) {
+            running++;
+            runningByMember.merge(ticket.memberKey(), 1, Integer::sum);
+            if (ticket.containerId() != null) runningByContainer.merge(ticket.containerId(), 1, Integer::sum);
+        }
+
+        private void finish(JudgeTicket ticket) {
+            running--;
+            runningByMember.computeIfPresent(ticket.memberKey(), (key, count) -> count > 1 ? count - 1 : null);
+            if (ticket.containerId() != null) {
+                runningByContainer.computeIfPresent(ticket.containerId(), (key, count) -> count > 1 ? count - 1 : null);
+            }
+            // 대기 요청이 없으면 멤버별 가상 시각 정리
+            if (waiting.isEmpty() && running == 0) lastFinishByMember.clear();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package solid.backend.Docker.executor;
+
+/**
+ * 스케줄러 실행 요청 정보
+ * @param lane 실행 구간 (LANE_JUDGE, LANE_CUSTOM)
+ * @param memberKey 공정 분배 단위 (멤버 ID)
+ * @param containerId 코드 파일이 속한 컨테이너 ID (없으면 null)
+ * @param cost 예상 실행 비용 (테스트케이스 수)
+ */
+public record JudgeTicket(String lane, String memberKey, Integer containerId, double cost) {
+}
@@ -0,0 +1,111 @@
+package solid.backend.Docker.executor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 크기 제한이 있는 실행 출력 수집기
+ * 프로세스 출력을 별도 스레드에서 계속 읽어 파이프가 가득 차 프로세스가 멈추는 일을 막고,
+ * 앞부분(maxBytes)과 마지막 일부만 보관한다. 출력 제한을 넘으면 overflow 콜백을 호출한다.
+ * 큰 파일 정답과 비교하는 경우 출력 제한은 정답 크기만큼 늘어나지만 보관하는 크기는 그대로다.
+ */
+public class OutputCapture {
+    private static final int TAIL_BYTES = 1024;
+    private static final int READ_BUFFER = 8192;
+
+    private final int maxBytes;
+    private final long limitBytes;
+    private final StreamingMatcher matcher;
+    private final Runnable onOverflow;
+    private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+    private final byte[] tail = new byte[TAIL_BYTES];
+    private int tailStart;
+    private int tailLength;
+    private long totalBytes;
+    private volatile boolean overflowed;
+
+    /**
+     * @param maxBytes 보관할 최대 바이트 수
+     * @param expected 스트리밍 비교할 정답 (없으면 null)
+     * @param onOverflow 제한 초과 시 한 번 호출 (프로세스 강제 종료 등)
+     */
+    public OutputCapture(int maxBytes, ExpectedOutput expected, Runnable onOverflow) {
+        this.maxBytes = maxBytes;
+        this.limitBytes = expected != null ? expected.outputLimit(maxBytes) : maxBytes;
+        this.matcher = expected != null ? expected.matcher() : null;
+        this.onOverflow = onOverflow;
+    }
+
+    /**
+     * 설명: 입력 스트림을 끝까지 읽는 수집 스레드 시작
+     * @param in
+     * @return Thread
+     */
+    public Thread pump(InputStream in) {
+        return Thread.ofVirtual().start(() -> {
+            try (in) {
+                byte[] buffer = new byte[READ_BUFFER];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    accept(buffer, read);
+                }
+            } catch (IOException e) {
+                // 프로세스 강제 종료 시 스트림이 닫히는 경우
+            }
+        });
+    }
+
+    private synchronized void accept(byte[] buffer, int length) {
+        if (matcher != null) matcher.accept(buffer, length);
+
+        int headRemaining = (int) Math.max(0, maxBytes - totalBytes);
+        if (headRemaining > 0) head.write(buffer, 0, Math.min(headRemaining, length));
+        for (int i = 0; i < length; i++) {
+            tail[(tailStart + tailLength) % TAIL_BYTES] = buffer[i];
+            if (tailLength < TAIL_BYTES) tailLength++;
+            else tailStart = (tailStart + 1) % TAIL_BYTES;
+        }
+        totalBytes += length;
+
+        if (totalBytes > limitBytes && !overflowed) {
+            overflowed = true;
+            onOverflow.run();
+        }
+    }
+
+    /**
+     * 설명: 수집된 출력 (제한 초과 시 앞부분 + 생략 표시 + 마지막 일부)
+     * @return String
+     */
+    public synchronized String text() {
+        String headText = head.toString(StandardCharsets.UTF_8);
+        if (totalBytes <= maxBytes) return headText;
+
+        long skipped = totalBytes - maxBytes - Math.min(tailLength, totalBytes - maxBytes);
+        int keep = (int) Math.min(tailLength, totalBytes - maxBytes);
+        byte[] tailBytes = new byte[keep];
+        for (int i = 0; i < keep; i++) {
+            tailBytes[i] = tail[(tailStart + tailLength - keep + i) % TAIL_BYTES];
+        }
+        return headText + "\n...[출력이 " + maxBytes + " bytes 를 초과하여 " + skipped + " bytes 생략됨]...\n"
+                + new String(tailBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 설명: 출력 크기 제한 초과 여부
+     * @return boolean
+     */
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+
+    /**
+     * 설명: 정답 일치 여부 (정답이 없으면 null)
+     * @return Boolean
+     */
+    public synchronized Boolean matched() {
+        return matcher != null ? matcher.matches() : null;
+    }
+}
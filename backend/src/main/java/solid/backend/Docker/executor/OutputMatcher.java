@@ -0,0 +1,65 @@
+package solid.backend.Docker.executor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 실행 출력을 받는 즉시 정답과 비교하는 스트리밍 비교기
+ * 앞뒤 공백을 무시하고(String.trim 과 동일한 기준) 나머지는 바이트 단위로 일치해야 한다.
+ * 줄바꿈 차이(\r\n, \n)는 무시한다.
+ */
+public class OutputMatcher implements StreamingMatcher {
+    private final byte[] expected;
+    private int position;
+    private boolean started;
+    private boolean mismatch;
+
+    public OutputMatcher(String expected) {
+        this.expected = expected.replace("\r", "").trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 설명: 출력 바이트 비교
+     * @param buffer
+     * @param length
+     */
+    @Override
+    public void accept(byte[] buffer, int length) {
+        for (int i = 0; i < length && !mismatch; i++) {
+            accept(buffer[i]);
+        }
+    }
+
+    private void accept(byte b) {
+        if (b == '\r') return;
+        boolean whitespace = b >= 0 && b <= ' ';
+
+        if (!started) {
+            if (whitespace) return;
+            started = true;
+        }
+        if (position < expected.length) {
+            if (b == expected[position]) position++;
+            else mismatch = true;
+        } else if (!whitespace) {
+            mismatch = true;
+        }
+    }
+
+    /**
+     * 설명: 지금까지의 출력이 이미 오답으로 확정되었는지 여부
+     * @return boolean
+     */
+    @Override
+    public boolean isMismatch() {
+        return mismatch;
+    }
+
+    /**
+     * 설명: 출력 전체가 정답과 일치하는지 여부 (출력 종료 후 호출)
+     * @return boolean
+     */
+    @Override
+    public boolean matches() {
+        return !mismatch && position == expected.length;
+    }
+}
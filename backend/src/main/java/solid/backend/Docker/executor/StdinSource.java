@@ -0,0 +1,95 @@
+package solid.backend.Docker.executor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 실행 프로그램의 표준 입력으로 보낼 데이터
+ * 셸 명령(echo)을 거치지 않고 저장된 바이트를 그대로 채널에 쓰며,
+ * 파일 입력은 FileChannel.transferTo 로 문자열 변환 없이 전송한다.
+ */
+public abstract class StdinSource {
+    private static final StdinSource EMPTY = of(new byte[0]);
+
+    /**
+     * 설명: 빈 입력
+     * @return StdinSource
+     */
+    public static StdinSource empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 설명: 문자열 입력 (줄바꿈으로 끝나지 않으면 echo 와 같이 마지막 줄바꿈 추가)
+     * @param text
+     * @return StdinSource
+     */
+    public static StdinSource of(String text) {
+        if (text == null || text.isEmpty()) return EMPTY;
+        return of((text.endsWith("\n") ? text : text + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 설명: 바이트 입력
+     * @param bytes
+     * @return StdinSource
+     */
+    public static StdinSource of(byte[] bytes) {
+        return new StdinSource() {
+            @Override
+            public void transferTo(WritableByteChannel target) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+            }
+        };
+    }
+
+    /**
+     * 설명: 파일 입력
+     * @param file
+     * @return StdinSource
+     */
+    public static StdinSource ofFile(Path file) {
+        return new StdinSource() {
+            @Override
+            public void transferTo(WritableByteChannel target) throws IOException {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = channel.size();
+                    while (position < size) {
+                        position += channel.transferTo(position, size - position, target);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 설명: 이 입력 뒤에 다른 입력을 이어 붙인 입력
+     * @param next
+     * @return StdinSource
+     */
+    public StdinSource then(StdinSource next) {
+        StdinSource first = this;
+        return new StdinSource() {
+            @Override
+            public void transferTo(WritableByteChannel target) throws IOException {
+                first.transferTo(target);
+                next.transferTo(target);
+            }
+        };
+    }
+
+    /**
+     * 설명: 입력 전체를 채널에 쓰기 (채널은 닫지 않음)
+     * @param target
+     */
+    public abstract void transferTo(WritableByteChannel target) throws IOException;
+}
@@ -0,0 +1,26 @@
+package solid.backend.Docker.executor;
+
+/**
+ * 실행 출력을 수집하는 동안 정답과 비교하는 비교기
+ */
+public interface StreamingMatcher {
+
+    /**
+     * 설명: 출력 바이트 비교
+     * @param buffer
+     * @param length
+     */
+    void accept(byte[] buffer, int length);
+
+    /**
+     * 설명: 지금까지의 출력이 이미 오답으로 확정되었는지 여부
+     * @return boolean
+     */
+    boolean isMismatch();
+
+    /**
+     * 설명: 출력 전체가 정답과 일치하는지 여부 (출력 종료 후 호출)
+     * @return boolean
+     */
+    boolean matches();
+}
@@ -0,0 +1,86 @@
+package solid.backend.Docker.executor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일로 저장된 정답과 실행 출력을 토큰 단위로 비교하는 스트리밍 비교기
+ * 정답 파일은 메모리 매핑으로 읽어 힙에 올리지 않으며, 출력도 보관하지 않고 받는 즉시 비교한다.
+ * 공백 문자(스페이스, 탭, 줄바꿈)의 종류와 개수는 구분하지 않고 토큰 사이 구분자로만 본다.
+ */
+public class TokenMatcher implements StreamingMatcher {
+    private final MappedByteBuffer expected;
+    private final int limit;
+    private int position;
+    private boolean started;
+    private boolean pendingSeparator;
+    private boolean mismatch;
+
+    public TokenMatcher(Path answerFile) {
+        try (FileChannel channel = FileChannel.open(answerFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("정답 파일이 너무 큽니다: " + answerFile);
+            }
+            this.expected = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.limit = (int) channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("정답 파일을 읽을 수 없습니다: " + answerFile, e);
+        }
+    }
+
+    @Override
+    public void accept(byte[] buffer, int length) {
+        for (int i = 0; i < length && !mismatch; i++) {
+            accept(buffer[i]);
+        }
+    }
+
+    private void accept(byte b) {
+        if (isSeparator(b)) {
+            pendingSeparator = started;
+            return;
+        }
+
+        if (!started) {
+            skipSeparators();
+            started = true;
+        } else if (pendingSeparator) {
+            // 출력 토큰이 끝났으면 정답 토큰도 같은 위치에서 끝나야 함
+            if (position < limit && !isSeparator(expected.get(position))) {
+                mismatch = true;
+                return;
+            }
+            skipSeparators();
+            pendingSeparator = false;
+        }
+
+        if (position < limit && expected.get(position) == b) position++;
+        else mismatch = true;
+    }
+
+    @Override
+    public boolean isMismatch() {
+        return mismatch;
+    }
+
+    @Override
+    public boolean matches() {
+        if (mismatch) return false;
+        skipSeparators();
+        return position == limit;
+    }
+
+    private void skipSeparators() {
+        while (position < limit && isSeparator(expected.get(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
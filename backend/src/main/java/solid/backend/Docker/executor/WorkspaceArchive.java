@@ -0,0 +1,144 @@
+package solid.backend.Docker.executor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * tmpfs 작업 디렉터리로 보낼 실행 대상 묶음
+ * 실행 대상 파일(또는 디렉터리 내용)만 tar(ustar)로 묶어 크기(20자리 10진수)를 앞에 붙인 표준 입력으로 만든다.
+ * 컨테이너는 WORKSPACE_STAGE_SCRIPT 로 정확히 그 크기만큼 읽어 작업 디렉터리에 풀고, 뒤따르는 입력은 프로그램이 읽는다.
+ * 일반 파일만 묶고 심볼릭 링크는 제외한다 (사용자 디렉터리 밖의 파일이 컨테이너로 넘어가지 않도록).
+ */
+public final class WorkspaceArchive {
+    private static final int BLOCK = 512;
+    private static final int LENGTH_DIGITS = 20;
+    private static final int NAME_LENGTH = 100;
+    private static final int PREFIX_LENGTH = 155;
+
+    private WorkspaceArchive() {
+        // 인스턴스 생성 방지
+    }
+
+    /**
+     * 설명: 실행 대상을 묶은 표준 입력 생성 (묶음이 최대 크기를 넘거나 경로가 너무 길면 empty)
+     * @param source 실행 대상 파일 또는 디렉터리
+     * @param maxBytes 묶음 최대 크기
+     * @return Optional<StdinSource>
+     */
+    public static Optional<StdinSource> stage(Path source, long maxBytes) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Path base;
+        if (Files.isDirectory(source, LinkOption.NOFOLLOW_LINKS)) {
+            base = source;
+            try (Stream<Path> walk = Files.walk(source)) {
+                // 상위 디렉터리는 tar 가 풀 때 만들어 주므로 일반 파일만 묶음
+                walk.filter(path -> Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS))
+                        .sorted(Comparator.naturalOrder())
+                        .forEach(files::add);
+            }
+        } else {
+            base = source.getParent();
+            files.add(source);
+        }
+
+        // 큰 실행 대상은 내용을 읽기 전에 제외
+        long size = 2L * BLOCK;
+        for (Path file : files) {
+            size += BLOCK + padded(Files.size(file));
+            if (size > maxBytes) return Optional.empty();
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream((int) size);
+        for (Path file : files) {
+            byte[] content = Files.readAllBytes(file);
+            byte[] header = header(base.relativize(file).toString().replace('\\', '/'), Files.isExecutable(file), content.length,
+                    Files.getLastModifiedTime(file).to(TimeUnit.SECONDS));
+            if (header == null) return Optional.empty();
+            body.writeBytes(header);
+            body.writeBytes(content);
+            body.writeBytes(new byte[(int) (padded(content.length) - content.length)]);
+        }
+        body.writeBytes(new byte[2 * BLOCK]);
+        if (body.size() > maxBytes) return Optional.empty();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() + LENGTH_DIGITS);
+        out.writeBytes(String.format("%0" + LENGTH_DIGITS + "d", body.size()).getBytes(StandardCharsets.US_ASCII));
+        body.writeTo(out);
+        return Optional.of(StdinSource.of(out.toByteArray()));
+    }
+
+    /**
+     * 설명: 일반 파일 ustar 헤더 블록 생성 (경로가 이름/접두사 필드에 나누어 들어가지 않으면 null)
+     * @param name 작업 디렉터리 기준 경로
+     * @param executable
+     * @param size
+     * @param modifiedAt 수정 시각(epoch s)
+     * @return byte[]
+     */
+    private static byte[] header(String name, boolean executable, long size, long modifiedAt) {
+        String prefix = "";
+        if (utf8Length(name) > NAME_LENGTH) {
+            int split = name.indexOf('/');
+            while (split != -1 && utf8Length(name.substring(split + 1)) > NAME_LENGTH) {
+                split = name.indexOf('/', split + 1);
+            }
+            if (split <= 0 || utf8Length(name.substring(0, split)) > PREFIX_LENGTH) return null;
+            prefix = name.substring(0, split);
+            name = name.substring(split + 1);
+        }
+
+        byte[] header = new byte[BLOCK];
+        put(header, 0, name);
+        put(header, 100, octal(executable ? 0755 : 0644, 8));
+        put(header, 108, octal(0, 8));
+        put(header, 116, octal(0, 8));
+        put(header, 124, octal(size, 12));
+        put(header, 136, octal(Math.max(0, modifiedAt), 12));
+        header[156] = '0';
+        put(header, 257, "ustar");
+        put(header, 263, "00");
+        put(header, 345, prefix);
+
+        // 체크섬은 체크섬 필드를 공백으로 채운 상태에서 계산 (6자리 8진수, NUL, 공백)
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xFF;
+        }
+        put(header, 148, octal(checksum, 7));
+        header[154] = 0;
+        return header;
+    }
+
+    private static void put(byte[] header, int offset, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, header, offset, bytes.length);
+    }
+
+    /**
+     * 설명: 필드 길이에 맞춘 8진수 문자열 (마지막 한 자리는 NUL)
+     */
+    private static String octal(long value, int length) {
+        return String.format("%0" + (length - 1) + "o", value);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long padded(long size) {
+        return (size + BLOCK - 1) / BLOCK * BLOCK;
+    }
+}
@@ -0,0 +1,242 @@
+package solid.backend.Docker.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.engine.CliSandboxBackend;
+import solid.backend.Docker.runtime.LanguageRuntime;
+import solid.backend.Docker.runtime.LanguageRuntimeRegistry;
+import solid.backend.config.DockerProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 언어별로 미리 생성해 일시정지(pause)해 둔 샌드박스 컨테이너 풀
+ * 새 컨테이너 실행과 같은 격리(네트워크 없음, 읽기 전용 루트 파일 시스템, 루트가 아닌 사용자, tmpfs 작업 디렉터리)로 생성하며,
+ * 실행 대상은 표준 입력으로 tmpfs 작업 디렉터리에 풀기 때문에 docker.workspace.tmpfs 가 켜진 경우에만 사용한다.
+ * 대여 시 unpause 후 메모리 제한을 적용하고, 반납된 컨테이너는 재사용하지 않고 폐기한 뒤 새로 채운다.
+ * cgroup 최대 메모리(memory.peak)는 컨테이너 안에서 초기화할 수 없어, 컨테이너를 재사용하면 이전 실행의 메모리가 다음 측정값에 남는다.
+ */
+@Slf4j
+@Component
+public class DockerContainerPool {
+    private static final long CLI_TIMEOUT_SECONDS = 30;
+
+    private final DockerProperties.Pool poolProperties;
+    private final DockerProperties.Workspace workspaceProperties;
+    private final DockerProperties.Sandbox sandboxProperties;
+    private final LanguageRuntimeRegistry runtimeRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BlockingDeque<PooledContainer>> idle = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final ExecutorService replenishExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "docker-pool-replenish");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer creationTimer;
+
+    public DockerContainerPool(DockerProperties dockerProperties, LanguageRuntimeRegistry runtimeRegistry,
+                               MeterRegistry meterRegistry) {
+        this.poolProperties = dockerProperties.getPool();
+        this.workspaceProperties = dockerProperties.getWorkspace();
+        this.sandboxProperties = dockerProperties.getSandbox();
+        this.runtimeRegistry = runtimeRegistry;
+        this.meterRegistry = meterRegistry;
+        this.creationTimer = Timer.builder("docker.pool.creation")
+                .description("풀 컨테이너 생성 소요 시간")
+                .register(meterRegistry);
+        runtimeRegistry.all().stream()
+                .filter(runtime -> runtime.poolSize() > 0)
+                .map(LanguageRuntime::extension)
+                .forEach(extension -> meterRegistry.gauge("docker.pool.idle", List.of(Tag.of("language", extension)),
+                        idleQueue(extension), BlockingDeque::size));
+    }
+
+    /**
+     * 설명: 애플리케이션 기동 완료 후 언어별 대기 컨테이너 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!isEnabled()) return;
+        runtimeRegistry.all().forEach(runtime -> replenish(runtime.extension()));
+    }
+
+    /**
+     * 설명: 대기 컨테이너 대여 (없으면 빈 값 반환 후 비동기 보충)
+     * @param extension
+     * @param mem
+     * @return Optional<PooledContainer>
+     */
+    public Optional<PooledContainer> lease(String extension, int mem) {
+        if (!isEnabled() || targetSize(extension) <= 0) {
+            return Optional.empty();
+        }
+
+        PooledContainer container;
+        while ((container = idleQueue(extension).pollFirst()) != null) {
+            replenish(extension);
+            String memoryLimit = mem + "m";
+            if (runCli("docker", "unpause", container.getName())
+                    && runCli("docker", "update", "--memory=" + memoryLimit, "--memory-swap=" + memoryLimit, container.getName())) {
+                leaseCounter(extension, "hit").increment();
+                return Optional.of(container);
+            }
+            // 상태가 깨진 컨테이너는 폐기 후 다음 대기 컨테이너 시도
+            remove(container);
+        }
+
+        leaseCounter(extension, "miss").increment();
+        replenish(extension);
+        return Optional.empty();
+    }
+
+    /**
+     * 설명: 컨테이너 반납 (폐기와 보충은 요청 스레드 밖에서 비동기로 처리)
+     * @param container
+     */
+    public void release(PooledContainer container) {
+        replenishExecutor.execute(() -> {
+            remove(container);
+            replenish(container.getExtension());
+        });
+    }
+
+    /**
+     * 설명: 애플리케이션 종료 시 풀 컨테이너 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        replenishExecutor.shutdownNow();
+        idle.values().forEach(queue -> {
+            PooledContainer container;
+            while ((container = queue.pollFirst()) != null) remove(container);
+        });
+    }
+
+    /**
+     * 설명: 부족한 대기 컨테이너 수만큼 비동기 생성 요청
+     * @param extension
+     */
+    private void replenish(String extension) {
+        int target = targetSize(extension);
+        AtomicInteger inFlight = pending.computeIfAbsent(extension, key -> new AtomicInteger());
+        while (idleQueue(extension).size() + inFlight.get() < target) {
+            inFlight.incrementAndGet();
+            replenishExecutor.execute(() -> {
+                try {
+                    create(extension).ifPresent(idleQueue(extension)::offerLast);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 설명: 대기 컨테이너 생성 후 일시정지
+     * @param extension
+     * @return Optional<PooledContainer>
+     */
+    private Optional<PooledContainer> create(String extension) {
+        String image = runtimeRegistry.find(extension).map(LanguageRuntime::image).orElse(null);
+        if (image == null) return Optional.empty();
+
+        String name = POOL_CONTAINER_PREFIX + extension + "-" + UUID.randomUUID().toString().substring(0, 8);
+        long startTime = System.nanoTime();
+
+        // 실행 대상은 실행할 때 표준 입력으로 받아 tmpfs 에 풀기 때문에 호스트 디렉터리와 연결하지 않음
+        List<String> command = new ArrayList<>(List.of("docker", "run", "-d", "--name", name, "--label", POOL_LABEL));
+        command.addAll(CliSandboxBackend.isolationOptions(sandboxProperties, poolProperties.getDefaultMem(), false));
+        command.addAll(List.of("--tmpfs", WORK_DIR + ":" + WORKSPACE_TMPFS_OPTIONS + workspaceProperties.getTmpfsMb() + "m",
+                "-w", WORK_DIR, image, "sleep", "infinity"));
+
+        boolean created = runCli(command.toArray(String[]::new))
+                && runCli("docker", "pause", name);
+
+        if (!created) {
+            log.warn("풀 컨테이너 생성 실패: {} ({})", name, image);
+            runCli("docker", "rm", "-f", name);
+            return Optional.empty();
+        }
+        creationTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        return Optional.of(new PooledContainer(name, extension));
+    }
+
+    /**
+     * 설명: 컨테이너 강제 삭제
+     * @param container
+     */
+    private void remove(PooledContainer container) {
+        runCli("docker", "rm", "-f", container.getName());
+    }
+
+    /**
+     * 설명: 도커 CLI 명령 실행 후 성공 여부 반환
+     * @param command
+     * @return boolean
+     */
+    private boolean runCli(String... command) {
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(CLI_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            log.warn("도커 명령 실행 실패: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 설명: 풀 사용 여부 (실행 대상을 tmpfs 작업 디렉터리에 풀 수 있어야 사용)
+     * @return boolean
+     */
+    private boolean isEnabled() {
+        return poolProperties.isEnabled() && workspaceProperties.isTmpfs();
+    }
+
+    private BlockingDeque<PooledContainer> idleQueue(String extension) {
+        return idle.computeIfAbsent(extension, key -> new LinkedBlockingDeque<>());
+    }
+
+    private int targetSize(String extension) {
+        return runtimeRegistry.find(extension).map(LanguageRuntime::poolSize).orElse(0);
+    }
+
+    private Counter leaseCounter(String extension, String result) {
+        return Counter.builder("docker.pool.lease")
+                .description("풀 컨테이너 대여 결과")
+                .tag("language", extension)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
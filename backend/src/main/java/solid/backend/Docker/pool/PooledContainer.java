@@ -0,0 +1,20 @@
+package solid.backend.Docker.pool;
+
+import lombok.Getter;
+
+/**
+ * 컨테이너 풀에서 대여되는 실행 컨테이너 정보
+ */
+@Getter
+public class PooledContainer {
+    /** 도커 컨테이너 이름 */
+    private final String name;
+    /** 실행 언어 확장자 */
+    private final String extension;
+
+    public PooledContainer(String name, String extension) {
+        this.name = name;
+        this.extension = extension;
+    }
+
+}
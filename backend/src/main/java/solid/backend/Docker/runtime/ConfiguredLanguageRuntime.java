@@ -0,0 +1,133 @@
+package solid.backend.Docker.runtime;
+
+import solid.backend.config.DockerProperties;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 설정(docker.runtimes.<확장자>.*)으로 만든 언어 실행 환경
+ * 명령에는 {file}(파일 이름), {name}(확장자를 뺀 파일 이름)을 쓸 수 있고, zygote 실행 명령에는 {zygote}(스크립트 경로)도 쓸 수 있다.
+ */
+public class ConfiguredLanguageRuntime implements LanguageRuntime {
+    private final String extension;
+    private final DockerProperties.Runtime properties;
+    private final Pattern outputIgnorePattern;
+
+    public ConfiguredLanguageRuntime(String extension, DockerProperties.Runtime properties) {
+        if (properties.getImage() == null || properties.getRun() == null) {
+            throw new IllegalArgumentException("실행 환경 설정에 image, run 은 필수입니다: " + extension);
+        }
+        if (properties.getCompile() != null && properties.getArtifact() == null) {
+            throw new IllegalArgumentException("컴파일 언어는 artifact 설정이 필요합니다: " + extension);
+        }
+        if ((properties.getZygote() == null) != (properties.getZygoteRun() == null)) {
+            throw new IllegalArgumentException("zygote, zygote-run 은 함께 설정해야 합니다: " + extension);
+        }
+        this.extension = extension.toLowerCase();
+        this.properties = properties;
+        this.outputIgnorePattern = properties.getOutputIgnorePattern() != null && !properties.getOutputIgnorePattern().isBlank()
+                ? Pattern.compile(properties.getOutputIgnorePattern())
+                : null;
+    }
+
+    @Override
+    public String extension() {
+        return extension;
+    }
+
+    @Override
+    public String language() {
+        return properties.getLanguage() != null ? properties.getLanguage() : extension;
+    }
+
+    @Override
+    public String displayName() {
+        return properties.getDisplayName() != null ? properties.getDisplayName() : language();
+    }
+
+    @Override
+    public String image() {
+        return properties.getImage();
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return properties.getCompile() != null;
+    }
+
+    @Override
+    public String compileCommand(String fileName) {
+        return isCompiled() ? expand(properties.getCompile(), fileName) : null;
+    }
+
+    @Override
+    public String artifact(String fileName) {
+        return isCompiled() ? expand(properties.getArtifact(), fileName) : null;
+    }
+
+    @Override
+    public String runCommand(String fileName) {
+        return expand(properties.getRun(), fileName);
+    }
+
+    @Override
+    public int defaultMem() {
+        return properties.getDefaultMem();
+    }
+
+    @Override
+    public float defaultTimeout() {
+        return properties.getDefaultTimeout();
+    }
+
+    @Override
+    public float startupAllowance() {
+        return properties.getStartupAllowance();
+    }
+
+    @Override
+    public boolean startupFrame() {
+        return properties.isStartupFrame();
+    }
+
+    @Override
+    public int poolSize() {
+        return properties.getPoolSize();
+    }
+
+    @Override
+    public String zygoteScript() {
+        return properties.getZygote();
+    }
+
+    @Override
+    public String zygoteCommand(String fileName, String zygotePath) {
+        return properties.getZygoteRun() != null ? expand(properties.getZygoteRun().replace("{zygote}", zygotePath), fileName) : null;
+    }
+
+    @Override
+    public String warmupSource() {
+        return properties.getWarmup();
+    }
+
+    /**
+     * 설명: 무시 패턴과 전체가 일치하는 줄 제거 (런타임이 출력하는 안내 문구 등)
+     * @param output
+     * @return String
+     */
+    @Override
+    public String normalizeOutput(String output) {
+        if (outputIgnorePattern == null || output == null || output.isEmpty()) return output;
+        return Arrays.stream(output.split("\n", -1))
+                .filter(line -> !outputIgnorePattern.matcher(line).matches())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String expand(String template, String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String name = dot == -1 ? fileName : fileName.substring(0, dot);
+        return template.replace("{file}", fileName).replace("{name}", name);
+    }
+}
@@ -0,0 +1,123 @@
+package solid.backend.Docker.runtime;
+
+/**
+ * 언어별 실행 환경 (SPI)
+ * 실행 이미지, 컴파일/실행 명령, 기본 제한, 출력 정규화, 대기 컨테이너 수를 제공한다.
+ * 기본 구현은 설정(docker.runtimes.*)에서 만들어지며, 이 인터페이스를 구현한 빈을 등록하면 같은 확장자의 설정보다 우선한다.
+ * 명령은 컨테이너 작업 디렉터리(/app)에서 실행된다.
+ */
+public interface LanguageRuntime {
+
+    /**
+     * 설명: 코드 파일 확장자 (소문자, 점 제외)
+     * @return String
+     */
+    String extension();
+
+    /**
+     * 설명: 실행 결과와 진행률에 저장하는 언어 이름
+     * @return String
+     */
+    String language();
+
+    /**
+     * 설명: 화면에 표시할 언어 이름
+     * @return String
+     */
+    String displayName();
+
+    /**
+     * 설명: 실행 이미지
+     * @return String
+     */
+    String image();
+
+    /**
+     * 설명: 실행 전 컴파일이 필요한 언어인지 여부
+     * @return boolean
+     */
+    boolean isCompiled();
+
+    /**
+     * 설명: 컴파일 명령 (컴파일하지 않는 언어는 null)
+     * @param fileName
+     * @return String
+     */
+    String compileCommand(String fileName);
+
+    /**
+     * 설명: 컴파일 성공 시 생성되는 실행 파일 이름 (컴파일하지 않는 언어는 null)
+     * @param fileName
+     * @return String
+     */
+    String artifact(String fileName);
+
+    /**
+     * 설명: 실행 명령 (컴파일 언어는 컴파일 결과가 작업 디렉터리에 있다고 가정)
+     * @param fileName
+     * @return String
+     */
+    String runCommand(String fileName);
+
+    /**
+     * 설명: 문제 제한이 없는 실행(사용자 입력 실행)의 메모리 제한(MB)
+     * @return int
+     */
+    int defaultMem();
+
+    /**
+     * 설명: 문제 제한이 없는 실행(사용자 입력 실행)의 제한 시간(초)
+     * @return float
+     */
+    float defaultTimeout();
+
+    /**
+     * 설명: 실행 제한 시간에 더해 주는 기동 시간 여유(초)
+     * 실행 환경이 기동 시간 프레임(@@START)을 출력하면 측정된 기동 시간은 실행 시간에서 제외된다.
+     * @return float
+     */
+    float startupAllowance();
+
+    /**
+     * 설명: 실행 명령이 기동 시간 프레임을 출력하는지 여부
+     * true 이면 실행마다 만든 토큰을 표준 입력 첫 줄로 보내며, 실행기는 사용자 코드 실행 전에 이 줄을 읽고
+     * 표준 에러 첫 줄에 "@@START <토큰> <기동 시간(us)>" 을 출력해야 한다. 토큰이 다른 프레임은 프로그램 출력으로 본다.
+     * @return boolean
+     */
+    boolean startupFrame();
+
+    /**
+     * 설명: 유지할 대기 컨테이너 수
+     * @return int
+     */
+    int poolSize();
+
+    /**
+     * 설명: 일괄 채점 zygote 스크립트의 classpath 경로 (없으면 null)
+     * zygote 는 인터프리터를 한 번만 초기화하고 테스트케이스마다 깨끗한 실행 단위를 만들어 judge-harness.sh 와 같은 프레임을 출력한다.
+     * @return String
+     */
+    String zygoteScript();
+
+    /**
+     * 설명: zygote 실행 명령 (zygote 가 없으면 null)
+     * @param fileName
+     * @param zygotePath 컨테이너 안 zygote 스크립트 경로
+     * @return String
+     */
+    String zygoteCommand(String fileName, String zygotePath);
+
+    /**
+     * 설명: 기동 예열 프로그램의 classpath 경로 (없으면 null)
+     * 예열 프로그램은 표준 입력으로 두 정수를 받아 합을 출력해야 한다.
+     * @return String
+     */
+    String warmupSource();
+
+    /**
+     * 설명: 실행 출력 정규화 (채점 비교와 응답 전)
+     * @param output
+     * @return String
+     */
+    String normalizeOutput(String output);
+}
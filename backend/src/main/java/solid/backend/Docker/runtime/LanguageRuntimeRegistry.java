@@ -0,0 +1,80 @@
+package solid.backend.Docker.runtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import solid.backend.config.DockerProperties;
+
+import java.util.*;
+
+/**
+ * 확장자별 언어 실행 환경 목록
+ * 설정(docker.runtimes.*)으로 만든 실행 환경에 LanguageRuntime 빈을 덮어써 구성한다.
+ */
+@Slf4j
+@Component
+public class LanguageRuntimeRegistry {
+    private final Map<String, LanguageRuntime> runtimes = new LinkedHashMap<>();
+
+    public LanguageRuntimeRegistry(DockerProperties dockerProperties, List<LanguageRuntime> customRuntimes) {
+        dockerProperties.getRuntimes().forEach((extension, properties) -> {
+            LanguageRuntime runtime = new ConfiguredLanguageRuntime(extension, properties);
+            runtimes.put(runtime.extension(), runtime);
+        });
+        for (LanguageRuntime runtime : customRuntimes) {
+            runtimes.put(runtime.extension().toLowerCase(), runtime);
+        }
+        log.info("실행 환경 등록: {}", runtimes.keySet());
+    }
+
+    /**
+     * 설명: 확장자의 실행 환경 조회
+     * @param extension
+     * @return Optional<LanguageRuntime>
+     */
+    public Optional<LanguageRuntime> find(String extension) {
+        return Optional.ofNullable(extension != null ? runtimes.get(extension.toLowerCase()) : null);
+    }
+
+    /**
+     * 설명: 확장자의 실행 환경 조회 (없으면 예외)
+     * @param extension
+     * @return LanguageRuntime
+     */
+    public LanguageRuntime get(String extension) {
+        return find(extension)
+                .orElseThrow(() -> new UnsupportedOperationException("지원하지 않는 언어입니다: " + extension));
+    }
+
+    /**
+     * 설명: 등록된 모든 실행 환경
+     * @return Collection<LanguageRuntime>
+     */
+    public Collection<LanguageRuntime> all() {
+        return Collections.unmodifiableCollection(runtimes.values());
+    }
+
+    /**
+     * 설명: 저장된 언어 이름을 화면 표시 이름으로 변환 (등록되지 않은 언어는 그대로 반환)
+     * @param language
+     * @return String
+     */
+    public String displayName(String language) {
+        if (language == null) return null;
+        return runtimes.values().stream()
+                .filter(runtime -> runtime.language().equalsIgnoreCase(language))
+                .map(LanguageRuntime::displayName)
+                .findFirst()
+                .orElse(language);
+    }
+
+    /**
+     * 설명: 파일 이름의 확장자로 화면 표시 언어 이름 조회 (등록되지 않은 확장자는 null)
+     * @param fileName
+     * @return String
+     */
+    public String displayNameOfFile(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot == -1) return null;
+        return find(fileName.substring(dot + 1)).map(LanguageRuntime::displayName).orElse(null);
+    }
+}
@@ -0,0 +1,247 @@
+package solid.backend.Docker.runtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.build.BuildCache;
+import solid.backend.Docker.dto.BuildResultDto;
+import solid.backend.Docker.dto.DockerResultDto;
+import solid.backend.Docker.executor.StdinSource;
+import solid.backend.Docker.pool.DockerContainerPool;
+import solid.backend.common.DockerRun;
+import solid.backend.config.DockerProperties;
+import solid.backend.config.FileStorageConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 실행 환경 기동 예열
+ * 애플리케이션 기동 후 모든 실행 이미지를 확인하고 없으면 내려받은 뒤, 언어별 예열 프로그램을 실제 채점 경로(컴파일 캐시, 컨테이너 풀)로 실행한다.
+ * 진행 상태는 RuntimeWarmupHealthIndicator 가 readiness 로 알려 예열이 끝나기 전에는 요청을 받지 않게 한다.
+ */
+@Slf4j
+@Component
+public class RuntimeWarmup {
+    private static final long INSPECT_TIMEOUT_SECONDS = 30;
+
+    private final LanguageRuntimeRegistry runtimeRegistry;
+    private final DockerRun dockerRun;
+    private final BuildCache buildCache;
+    private final DockerContainerPool containerPool;
+    private final DockerProperties.Warmup warmupProperties;
+    private final Path workspaceRoot;
+    private final Map<String, RuntimeStatus> statuses = new ConcurrentHashMap<>();
+    private volatile boolean finished;
+
+    public RuntimeWarmup(LanguageRuntimeRegistry runtimeRegistry, DockerRun dockerRun, BuildCache buildCache,
+                         DockerContainerPool containerPool, DockerProperties dockerProperties,
+                         FileStorageConfig fileStorageConfig) {
+        this.runtimeRegistry = runtimeRegistry;
+        this.dockerRun = dockerRun;
+        this.buildCache = buildCache;
+        this.containerPool = containerPool;
+        this.warmupProperties = dockerProperties.getWarmup();
+        this.workspaceRoot = Path.of(fileStorageConfig.getUploadDir(), WARMUP_DIR).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 설명: 애플리케이션 기동 완료 후 별도 스레드에서 예열 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!warmupProperties.isEnabled()) {
+            finished = true;
+            return;
+        }
+        runtimeRegistry.all().forEach(runtime ->
+                statuses.put(runtime.extension(), new RuntimeStatus(runtime.image(), RuntimeStatus.PENDING, null, null)));
+        Thread.ofPlatform().name("judge-warmup").daemon().start(this::warmUpAll);
+    }
+
+    /**
+     * 설명: 예열 사용 여부
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return warmupProperties.isEnabled();
+    }
+
+    /**
+     * 설명: 모든 실행 환경의 예열이 끝났는지 여부 (실패 포함)
+     * @return boolean
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 설명: 확장자별 예열 상태 (실행 환경 등록 순서)
+     * @return Map<String, RuntimeStatus>
+     */
+    public Map<String, RuntimeStatus> statuses() {
+        Map<String, RuntimeStatus> ordered = new LinkedHashMap<>();
+        runtimeRegistry.all().forEach(runtime -> {
+            RuntimeStatus status = statuses.get(runtime.extension());
+            if (status != null) ordered.put(runtime.extension(), status);
+        });
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    private void warmUpAll() {
+        long startTime = System.nanoTime();
+        try {
+            for (LanguageRuntime runtime : runtimeRegistry.all()) {
+                ensureImage(runtime);
+            }
+            // 이미지가 준비됐으므로 기동 시 만들지 못한 대기 컨테이너를 다시 채움
+            containerPool.warmUp();
+            for (LanguageRuntime runtime : runtimeRegistry.all()) {
+                if (!RuntimeStatus.FAILED.equals(statuses.get(runtime.extension()).state())) {
+                    runWarmup(runtime);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("실행 환경 예열 중단: {}", e.getMessage());
+            statuses.replaceAll((extension, status) -> RuntimeStatus.READY.equals(status.state())
+                    ? status
+                    : new RuntimeStatus(status.image(), RuntimeStatus.FAILED, e.getMessage(), null));
+        } finally {
+            finished = true;
+            log.info("실행 환경 예열 완료 ({}ms): {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), statuses());
+        }
+    }
+
+    /**
+     * 설명: 실행 이미지가 없으면 내려받기
+     * @param runtime
+     */
+    private void ensureImage(LanguageRuntime runtime) {
+        String image = runtime.image();
+        if (runCli(INSPECT_TIMEOUT_SECONDS, "docker", "image", "inspect", image) == null) return;
+
+        update(runtime, RuntimeStatus.PULLING, null, null);
+        String error = runCli(warmupProperties.getPullTimeoutSeconds(), "docker", "pull", image);
+        if (error != null) {
+            log.warn("실행 이미지를 내려받지 못했습니다: {} ({})", image, error);
+            update(runtime, RuntimeStatus.FAILED, "이미지를 내려받지 못했습니다: " + error, null);
+        }
+    }
+
+    /**
+     * 설명: 예열 프로그램을 컴파일 캐시와 컨테이너 풀을 거쳐 실행하고 출력 확인
+     * @param runtime
+     */
+    private void runWarmup(LanguageRuntime runtime) {
+        if (runtime.warmupSource() == null) {
+            update(runtime, RuntimeStatus.READY, null, null);
+            return;
+        }
+        update(runtime, RuntimeStatus.WARMING, null, null);
+
+        try {
+            Path source = prepareSource(runtime);
+            BuildResultDto build = runtime.isCompiled() ? buildCache.compile(source.toString(), runtime) : null;
+            if (build != null && !build.isSuccess()) {
+                update(runtime, RuntimeStatus.FAILED, "예열 프로그램 컴파일 실패: " + build.getOutput().trim(), null);
+                return;
+            }
+
+            DockerResultDto result = null;
+            for (int i = 0; i < Math.max(1, warmupProperties.getRuns()); i++) {
+                StdinSource input = StdinSource.of(WARMUP_INPUT);
+                result = build != null
+                        ? dockerRun.executeCompiled(build, input, runtime.defaultMem(), runtime.defaultTimeout())
+                        : dockerRun.execute(source.toString(), runtime.extension(), input, runtime.defaultMem(), runtime.defaultTimeout());
+                if (!WARMUP_EXPECTED.equals(result.getOutput().trim())) {
+                    update(runtime, RuntimeStatus.FAILED, "예열 프로그램 출력이 다릅니다: " + result.getOutput().trim(), result.getTime());
+                    return;
+                }
+            }
+            update(runtime, RuntimeStatus.READY, null, result.getTime());
+        } catch (IOException | RuntimeException e) {
+            log.warn("실행 환경 예열 실패: {} ({})", runtime.extension(), e.getMessage());
+            update(runtime, RuntimeStatus.FAILED, e.getMessage(), null);
+        }
+    }
+
+    /**
+     * 설명: 예열 프로그램을 언어별 작업 디렉터리에 복사
+     * @param runtime
+     * @return Path
+     */
+    private Path prepareSource(LanguageRuntime runtime) throws IOException {
+        Path directory = Files.createDirectories(workspaceRoot.resolve(runtime.extension()));
+        Path source = directory.resolve(Path.of(runtime.warmupSource()).getFileName().toString());
+        try (InputStream program = new ClassPathResource(runtime.warmupSource()).getInputStream()) {
+            Files.copy(program, source, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return source;
+    }
+
+    private void update(LanguageRuntime runtime, String state, String message, Float warmupTime) {
+        statuses.put(runtime.extension(), new RuntimeStatus(runtime.image(), state, message, warmupTime));
+    }
+
+    /**
+     * 설명: 도커 CLI 명령 실행
+     * @param timeoutSeconds
+     * @param command
+     * @return String 성공하면 null, 실패하면 출력 마지막 줄
+     */
+    private String runCli(long timeoutSeconds, String... command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            // 출력이 많은 pull 도 멈추지 않도록 읽으면서 대기
+            StringBuilder output = new StringBuilder();
+            Thread pump = Thread.ofVirtual().start(() -> {
+                try (InputStream stream = process.getInputStream()) {
+                    output.append(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    // 프로세스 종료 시 스트림이 닫힘
+                }
+            });
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return "시간 초과 (" + timeoutSeconds + "초)";
+            }
+            pump.join();
+            if (process.exitValue() == 0) return null;
+            String text = output.toString().trim();
+            return text.isEmpty() ? "종료 코드 " + process.exitValue() : text.substring(text.lastIndexOf('\n') + 1);
+        } catch (IOException e) {
+            return e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "중단됨";
+        }
+    }
+
+    /**
+     * 실행 환경별 예열 상태
+     * @param image 실행 이미지
+     * @param state PENDING, PULLING, WARMING, READY, FAILED
+     * @param message 실패 사유
+     * @param warmupTime 마지막 예열 실행 시간(초)
+     */
+    public record RuntimeStatus(String image, String state, String message, Float warmupTime) {
+        public static final String PENDING = "PENDING";
+        public static final String PULLING = "PULLING";
+        public static final String WARMING = "WARMING";
+        public static final String READY = "READY";
+        public static final String FAILED = "FAILED";
+    }
+}
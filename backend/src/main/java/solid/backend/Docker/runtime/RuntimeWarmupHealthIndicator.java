@@ -0,0 +1,36 @@
+package solid.backend.Docker.runtime;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 실행 환경 예열 상태 (health 이름: runtimeWarmup)
+ * 예열 중에는 OUT_OF_SERVICE, 실패한 실행 환경이 있으면 DOWN 으로 알려 readiness 그룹에서 요청을 받지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RuntimeWarmupHealthIndicator implements HealthIndicator {
+    private final RuntimeWarmup runtimeWarmup;
+
+    @Override
+    public Health health() {
+        if (!runtimeWarmup.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+
+        Map<String, RuntimeWarmup.RuntimeStatus> statuses = runtimeWarmup.statuses();
+        Health.Builder builder;
+        if (!runtimeWarmup.isFinished()) {
+            builder = Health.outOfService();
+        } else if (statuses.values().stream().anyMatch(status -> RuntimeWarmup.RuntimeStatus.FAILED.equals(status.state()))) {
+            builder = Health.down();
+        } else {
+            builder = Health.up();
+        }
+        return builder.withDetail("runtimes", statuses).build();
+    }
+}
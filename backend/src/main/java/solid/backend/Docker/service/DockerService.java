@@ -2,8 +2,10 @@ package solid.backend.Docker.service;
 
 import solid.backend.Docker.dto.CustomInputDto;
 import solid.backend.Docker.dto.CustomInputResultDto;
+import solid.backend.Docker.dto.DockerResultDto;
 import solid.backend.Docker.dto.ExecutionResultDto;
 import solid.backend.Docker.dto.ExecutionTestDto;
+import solid.backend.Docker.executor.InteractiveChannel;
 
 public interface DockerService {
     /**
@@ -12,6 +14,17 @@ public interface DockerService {
      */
     ExecutionResultDto runCodeFile(String memberId, Integer codeFileId, Integer questionId);
 
+    /**
+     * 설명: 언어별 코드 파일 실행 (테스트케이스별 결과 전달)
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param failFast 첫 실패에서 채점 중단 여부 (null 이면 문제 설정 사용)
+     * @param listener
+     */
+    ExecutionResultDto runCodeFile(String memberId, Integer codeFileId, Integer questionId, Boolean failFast,
+                                   JudgeListener listener);
+
     /**
      * 설명: 테스트케이스 실행
      * @param memberId
@@ -20,9 +33,25 @@ public interface DockerService {
      */
     ExecutionTestDto runTestCodeFile(String memberId, Integer codeFileId, Integer questionId);
 
+    /**
+     * 설명: 테스트케이스 실행 (테스트케이스별 결과 전달)
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param listener
+     */
+    ExecutionTestDto runTestCodeFile(String memberId, Integer codeFileId, Integer questionId, JudgeListener listener);
+
     /**
      * 설명: 사용자 입력 실행
      * @param customInputDto
      */
     CustomInputResultDto runExctCodeFile(CustomInputDto customInputDto);
+
+    /**
+     * 설명: 대화형 실행 (출력은 실행 중에 채널로 전송, 채널의 입력을 표준 입력으로 전달)
+     * @param codeFileId
+     * @param channel
+     */
+    DockerResultDto runInteractive(Integer codeFileId, InteractiveChannel channel);
 }
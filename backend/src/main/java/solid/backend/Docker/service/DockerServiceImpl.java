@@ -1,27 +1,72 @@
 package solid.backend.Docker.service;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solid.backend.Docker.build.BuildCache;
+import solid.backend.Docker.cache.JudgeResultCache;
 import solid.backend.Docker.dto.*;
+import solid.backend.Docker.executor.BatchJudgeRunner;
+import solid.backend.Docker.executor.ExecutionPhaseTimer;
+import solid.backend.Docker.executor.ExpectedOutput;
+import solid.backend.Docker.executor.InteractiveChannel;
+import solid.backend.Docker.executor.JudgeExecutor;
+import solid.backend.Docker.executor.StdinSource;
+import solid.backend.Docker.runtime.LanguageRuntime;
+import solid.backend.Docker.runtime.LanguageRuntimeRegistry;
+import solid.backend.Docker.store.JudgeOutcome;
+import solid.backend.Docker.store.JudgeOutcomeWriter;
 import solid.backend.common.DockerRun;
+import solid.backend.common.TestCaseStorage;
+import solid.backend.config.DockerProperties;
 import solid.backend.entity.*;
 import solid.backend.jpaRepository.*;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import static solid.backend.Docker.constant.DockerConstants.COMPILE_ERROR;
+import static solid.backend.Docker.constant.DockerConstants.EXIT_KILLED;
+import static solid.backend.Docker.constant.DockerConstants.MEMORY_LIMIT_EXCEEDED;
+import static solid.backend.Docker.constant.DockerConstants.SKIPPED;
+import static solid.backend.Docker.constant.DockerConstants.TIME_OUT;
+
+/**
+ * 코드 실행 및 채점
+ * 채점은 짧은 조회 트랜잭션 → 트랜잭션 밖 컨테이너 실행 → 짧은 저장 트랜잭션 순서로 진행해
+ * 컨테이너 실행 시간 동안 DB 커넥션을 점유하지 않는다.
+ * 실행 결과와 진행률은 JudgeOutcomeWriter 에 넘겨 저널에 기록한 뒤 다른 요청의 결과와 함께 일괄 저장한다.
+ * 전체 실행 결과는 테스트케이스별 판정과 지문(fingerprint)을 함께 저장해, 테스트케이스 수정 시 바뀐 케이스만 재채점한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class DockerServiceImpl implements DockerService {
     private final CodeFileRepository codeFileRepository;
     private final TestCaseRepository testcaseRepository;
-    private final ResultRepository resultRepository;
+    private final ResultCaseRepository resultCaseRepository;
     private final QuestionRepository questionRepository;
     private final MemberRepository memberRepository;
+    private final DirectoryRepository directoryRepository;
     private final DockerRun dockerRun;
     private final ProgressRepository progressRepository;
     private final TeamUserRepository teamUserRepository;
+    private final JudgeExecutor judgeExecutor;
+    private final BuildCache buildCache;
+    private final LanguageRuntimeRegistry runtimeRegistry;
+    private final BatchJudgeRunner batchJudgeRunner;
+    private final ExecutionPhaseTimer phaseTimer;
+    private final JudgeResultCache judgeResultCache;
+    private final TestCaseStorage testCaseStorage;
+    private final JudgeOutcomeWriter outcomeWriter;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final DockerProperties dockerProperties;
 
     /**
      * 설명: 코드 파일 도커 컨테이너에서 실행
@@ -30,99 +75,74 @@ public class DockerServiceImpl implements DockerService {
      * @return ExecutionResultDto
      */
     @Override
-    @Transactional
     public ExecutionResultDto runCodeFile(String memberId, Integer codeFileId, Integer questionId) {
-        CodeFile codeFile = codeFileRepository.findById(String.valueOf(codeFileId))
-                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 멤버가 존재하지 않습니다."));
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 문제가 존재하지 않습니다."));
-        List<TestCase> testcases = testcaseRepository.findByQuestion_QuestionId(questionId);
+        return runCodeFile(memberId, codeFileId, questionId, null, JudgeListener.NONE);
+    }
 
-        String filePath = codeFile.getCodeFilePath();
+    /**
+     * 설명: 코드 파일 도커 컨테이너에서 실행 (테스트케이스별 결과를 리스너로 전달)
+     * 첫 실패 중단 모드에서는 실패가 나오면 남은 테스트케이스를 취소하고, 통과한 케이스 기준으로 진행률을 기록
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param failFast 첫 실패에서 채점 중단 여부 (null 이면 문제 설정 사용)
+     * @param listener
+     * @return ExecutionResultDto
+     */
+    @Override
+    public ExecutionResultDto runCodeFile(String memberId, Integer codeFileId, Integer questionId, Boolean failFast,
+                                          JudgeListener listener) {
+        Submission submission = inReadPhase(() -> {
+            memberRepository.findById(memberId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 멤버가 존재하지 않습니다."));
+            return loadSubmission(codeFileId, questionId);
+        });
+        List<TestCase> testcases = submission.testcases();
+        boolean stopOnFailure = failFast != null ? failFast : Boolean.TRUE.equals(submission.question().getQuestionFailFast());
+
+        String filePath = submission.filePath();
         String extension = dockerRun.getFileExtension(filePath);
         String language = dockerRun.getLanguageByExtension(extension);
+        String sourceHash = judgeResultCache.sourceHash(filePath);
         float time = 0.0f;
         float memory = 0.0f;
         int count = 0;
 
-        List<TestcaseResultDto> testcaseResults = new ArrayList<>();
-        boolean allPass = true;
-        long beforeUsedMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        for (TestCase testcase : testcases) {
-            String[] command = dockerRun.buildDockerCommand(filePath, extension, testcase.getCaseEx(), question.getQuestionMem());
-
-            DockerResultDto result = dockerRun.runDockerCommand(command, question.getQuestionTime());
-            String output = result.getOutput().trim();
-            float execTime = result.getTime();
-
-            boolean pass = output.equals(testcase.getCaseAnswer().trim());
+        // 컴파일 언어는 제출당 한 번만 컴파일 (실패 시 테스트케이스 실행 생략)
+        BuildResultDto build = compile(filePath, extension);
+        String compileError = build != null && !build.isSuccess() ? build.getOutput() : null;
 
-            long afterUsedMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-            long memUsedBytes = afterUsedMem - beforeUsedMem;
-            double memUsedMb = memUsedBytes / 1024.0 / 1024.0;
-            String totalMemoryUsed = String.format("%.2f MB", memUsedMb);
+        List<TestcaseResultDto> testcaseResults = new ArrayList<>();
+        boolean allPass = compileError == null;
+        List<GradedCase> gradedCases = compileError == null
+                ? inExecutePhase(() -> judgeTestcases(filePath, extension, build, testcases, submission.question(), stopOnFailure, listener))
+                : List.of();
+        boolean skipped = gradedCases.stream().anyMatch(this::isSkipped);
 
-            if((Math.round(execTime * 100.0) / 100.0) > testcase.getQuestion().getQuestionTime()) pass = false;
-            if(memUsedMb > testcase.getQuestion().getQuestionMem()) pass = false;
+        for (GradedCase graded : gradedCases) {
+            TestcaseResultDto testcaseResult = graded.result();
 
-            if(time < (Math.round(execTime * 100.0) / 100.0)) time = (float) (Math.round(execTime * 100.0) / 100.0);
-            if(memory < (Math.round(execTime * 100.0) / 100.0)) memory = (float) (Math.round(memUsedMb * 100.0) / 100.0);
+            if(time < testcaseResult.getTime()) time = (float) testcaseResult.getTime();
+            if(memory < graded.memUsedMb()) memory = (float) (Math.round(graded.memUsedMb() * 100.0) / 100.0);
 
-            if(pass) count++;
-            allPass &= pass;
+            if(testcaseResult.getPass()) count++;
+            allPass &= testcaseResult.getPass();
 
-            testcaseResults.add(new TestcaseResultDto(
-                    Math.round(execTime * 100.0) / 100.0,
-                    totalMemoryUsed,
-                    testcase.getCaseEx(),
-                    testcase.getCaseAnswer(),
-                    output,
-                    pass
-            ));
+            testcaseResults.add(testcaseResult);
         }
         int progress = (int) ((double) count / testcases.size() * 100.0);
 
-        Result result = new Result();
-        result.setResultTime(time);
-        result.setResultAnswer(allPass ? "정답" : "실패");
-        result.setResultMemory(memory);
-        result.setResultLang(language);
-        result.setMember(member);
-        result.setQuestion(question);
-        result.setTestCase(testcases.getFirst());
+        // 재채점 시 재사용할 테스트케이스별 판정 (컴파일 실패는 모든 케이스 실패로 기록)
+        List<GradedCase> caseVerdicts = compileError == null
+                ? gradedCases
+                : testcases.stream().map(this::compileFailed).toList();
 
-        resultRepository.save(result);
+        JudgeOutcome.ResultOutcome result = new JudgeOutcome.ResultOutcome(memberId, questionId,
+                testcases.getFirst().getCaseId(), codeFileId, sourceHash, allPass ? "정답" : "실패", time, memory, language,
+                caseOutcomes(submission.question(), testcases, caseVerdicts));
 
-        // Progress 업데이트 (부분 점수 반영)
-        Directory directory = codeFile.getDirectory();
-        if (directory != null) {
-            // TeamUser 찾기
-            TeamUser teamUser = teamUserRepository.findByMember_MemberIdAndTeam_TeamId(
-                memberId, 
-                directory.getTeam().getTeamId()
-            ).orElse(null);
-            
-            if (teamUser != null) {
-                // Progress 찾기 또는 생성 (언어별로)
-                Progress progressEntity = progressRepository.findByDirectoryAndTeamUserAndLanguage(
-                    directory, teamUser, language
-                ).orElseGet(() -> {
-                    Progress newProgress = new Progress();
-                    newProgress.setDirectory(directory);
-                    newProgress.setTeamUser(teamUser);
-                    newProgress.setLanguage(language);
-                    newProgress.setProgressComplete(0);
-                    return newProgress;
-                });
-                
-                // 진행률 업데이트 (부분 점수 반영)
-                progressEntity.setProgressComplete(progress); // 계산된 퍼센트 저장
-                progressRepository.save(progressEntity);
-            }
-        }
+        // Progress 업데이트 (부분 점수 반영, 중간에 중단된 채점은 생략된 케이스 때문에 낮아지지 않도록 높을 때만)
+        inWritePhase(JudgeOutcome.of(result, progressOutcome(submission, memberId, language, progress, skipped)));
 
         return new ExecutionResultDto(
                 language,
@@ -130,7 +150,8 @@ public class DockerServiceImpl implements DockerService {
                 String.format("%.2f MB", memory),
                 allPass,
                 progress,
-                testcaseResults
+                testcaseResults,
+                compileError
         );
     }
 
@@ -142,92 +163,61 @@ public class DockerServiceImpl implements DockerService {
      * @return ExecutionTestDto
      */
     @Override
-    @Transactional
     public ExecutionTestDto runTestCodeFile(String memberId, Integer codeFileId, Integer questionId) {
-        CodeFile codeFile = codeFileRepository.findById(String.valueOf(codeFileId))
-                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."));
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 문제가 존재하지 않습니다."));
-        List<TestCase> testcases = testcaseRepository.findByQuestion_QuestionId(questionId);
+        return runTestCodeFile(memberId, codeFileId, questionId, JudgeListener.NONE);
+    }
 
-        String filePath = codeFile.getCodeFilePath();
+    /**
+     * 설명: 테스트 실행 (테스트케이스별 결과를 리스너로 전달)
+     * @param memberId
+     * @param codeFileId
+     * @param questionId
+     * @param listener
+     * @return ExecutionTestDto
+     */
+    @Override
+    public ExecutionTestDto runTestCodeFile(String memberId, Integer codeFileId, Integer questionId, JudgeListener listener) {
+        Submission submission = inReadPhase(() -> loadSubmission(codeFileId, questionId));
+
+        String filePath = submission.filePath();
         String extension = dockerRun.getFileExtension(filePath);
         String language = dockerRun.getLanguageByExtension(extension);
 
+        BuildResultDto build = compile(filePath, extension);
+        String compileError = build != null && !build.isSuccess() ? build.getOutput() : null;
+
         List<TestcaseResultDto> testcaseResults = new ArrayList<>();
-        boolean allPass = true;
+        boolean allPass = compileError == null;
         int passCount = 0;
         int totalCount = 0;
-        long beforeUsedMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        for (TestCase testcase : testcases) {
-            if (!Boolean.TRUE.equals(testcase.getCaseCheck())) continue;
+        List<TestCase> visibleTestcases = submission.testcases().stream()
+                .filter(testcase -> Boolean.TRUE.equals(testcase.getCaseCheck()))
+                .toList();
+        List<GradedCase> gradedCases = compileError == null
+                ? inExecutePhase(() -> judgeTestcases(filePath, extension, build, visibleTestcases, submission.question(), false, listener))
+                : List.of();
+
+        for (GradedCase graded : gradedCases) {
+            TestcaseResultDto testcaseResult = graded.result();
             totalCount++;
 
-            String[] command = dockerRun.buildDockerCommand(filePath, extension, testcase.getCaseEx(), question.getQuestionMem());
-
-            DockerResultDto result = dockerRun.runDockerCommand(command, question.getQuestionTime());
-            String output = result.getOutput().trim();
-            float execTime = result.getTime();
+            if (testcaseResult.getPass()) passCount++;
+            allPass &= testcaseResult.getPass();
 
-            boolean pass = output.equals(testcase.getCaseAnswer().trim());
-
-            long afterUsedMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-            long memUsedBytes = afterUsedMem - beforeUsedMem;
-            double memUsedMb = memUsedBytes / 1024.0 / 1024.0;
-            String totalMemoryUsed = String.format("%.2f MB", memUsedMb);
-
-            if((Math.round(execTime * 100.0) / 100.0) > testcase.getQuestion().getQuestionTime()) pass = false;
-            if(memUsedMb > testcase.getQuestion().getQuestionMem()) pass = false;
-
-            if (pass) passCount++;
-            allPass &= pass;
-
-            testcaseResults.add(new TestcaseResultDto(
-                    Math.round(execTime * 100.0) / 100.0,
-                    totalMemoryUsed,
-                    testcase.getCaseEx(),
-                    testcase.getCaseAnswer(),
-                    output,
-                    pass
-            ));
+            testcaseResults.add(testcaseResult);
         }
 
-        // 테스트 실행 시에도 진행률 업데이트 (테스트로 보이는 케이스만 계산)
-        Directory directory = codeFile.getDirectory();
-        if (directory != null && totalCount > 0) {
-            TeamUser teamUser = teamUserRepository.findByMember_MemberIdAndTeam_TeamId(
-                memberId, 
-                directory.getTeam().getTeamId()
-            ).orElse(null);
-            
-            if (teamUser != null) {
-                int progress = (passCount * 100) / totalCount;
-                
-                Progress progressEntity = progressRepository.findByDirectoryAndTeamUserAndLanguage(
-                    directory, teamUser, language
-                ).orElseGet(() -> {
-                    Progress newProgress = new Progress();
-                    newProgress.setDirectory(directory);
-                    newProgress.setTeamUser(teamUser);
-                    newProgress.setLanguage(language);
-                    newProgress.setProgressComplete(0);
-                    return newProgress;
-                });
-                
-                // 기존 진행률과 비교하여 더 높은 값으로 업데이트
-                Integer currentProgress = progressEntity.getProgressComplete();
-                if (currentProgress == null || progress > currentProgress) {
-                    progressEntity.setProgressComplete(progress);
-                    progressRepository.save(progressEntity);
-                }
-            }
+        // 테스트 실행 시에도 진행률 업데이트 (테스트로 보이는 케이스만 계산, 기존 진행률보다 높을 때만)
+        if (submission.directoryId() != null && totalCount > 0) {
+            int progress = (passCount * 100) / totalCount;
+            inWritePhase(JudgeOutcome.of(null, progressOutcome(submission, memberId, language, progress, true)));
         }
 
         return new ExecutionTestDto(
                 language,
                 allPass,
-                testcaseResults
+                testcaseResults,
+                compileError
         );
     }
 
@@ -237,22 +227,428 @@ public class DockerServiceImpl implements DockerService {
      * @return CustomInputResultDto
      */
     @Override
-    @Transactional
     public CustomInputResultDto runExctCodeFile(CustomInputDto customInputDto) {
         // 코드 파일 조회
-        CodeFile codeFile = codeFileRepository.findById(String.valueOf(customInputDto.getCodeFileId()))
-                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."));
-
-        String filePath = codeFile.getCodeFilePath();
+        String filePath = inReadPhase(() -> codeFileRepository.findById(String.valueOf(customInputDto.getCodeFileId()))
+                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."))
+                .getCodeFilePath());
         String extension = dockerRun.getFileExtension(filePath);
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+
+        BuildResultDto build = compile(filePath, extension);
+        if (build != null && !build.isSuccess()) {
+            return new CustomInputResultDto(build.getOutput().trim());
+        }
 
-        // 입력값으로 실행
-        String[] command = dockerRun.buildDockerCommand(filePath, extension, customInputDto.getInput(), 256);
-        DockerResultDto result = dockerRun.runDockerCommand(command, 2f);
+        // 입력값으로 실행 (문제 제한이 없으므로 언어별 기본 제한 적용)
+        int mem = runtime.defaultMem();
+        float timeout = runtime.defaultTimeout();
+        DockerResultDto result = inExecutePhase(() -> build != null
+                ? dockerRun.executeCompiled(build, StdinSource.of(customInputDto.getInput()), mem, timeout)
+                : dockerRun.execute(filePath, extension, StdinSource.of(customInputDto.getInput()), mem, timeout));
+        phaseTimer.recordExecution(extension, result);
 
         // 결과 반환
         return new CustomInputResultDto(
                 result.getOutput().trim()
         );
     }
+
+    /**
+     * 설명: 대화형 실행 (문제 제한이 없으므로 언어별 기본 메모리와 대화형 실행 제한 시간 적용)
+     * @param codeFileId
+     * @param channel
+     * @return DockerResultDto 컴파일에 실패하면 채널로 오류를 보내고 null
+     */
+    @Override
+    public DockerResultDto runInteractive(Integer codeFileId, InteractiveChannel channel) {
+        String filePath = inReadPhase(() -> codeFileRepository.findById(String.valueOf(codeFileId))
+                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."))
+                .getCodeFilePath());
+        String extension = dockerRun.getFileExtension(filePath);
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+
+        BuildResultDto build = compile(filePath, extension);
+        if (build != null && !build.isSuccess()) {
+            channel.error(build.getOutput().trim());
+            return null;
+        }
+        return inExecutePhase(() -> dockerRun.executeInteractive(filePath, extension, build, channel, runtime.defaultMem(),
+                dockerProperties.getInteractive().getTimeoutSeconds()));
+    }
+
+    /**
+     * 설명: 채점에 필요한 코드 파일, 문제, 테스트케이스 조회 (조회 트랜잭션 안에서 호출)
+     * @param codeFileId
+     * @param questionId
+     * @return Submission
+     */
+    private Submission loadSubmission(Integer codeFileId, Integer questionId) {
+        CodeFile codeFile = codeFileRepository.findById(String.valueOf(codeFileId))
+                .orElseThrow(() -> new IllegalArgumentException("코드 파일이 존재하지 않습니다."));
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 문제가 존재하지 않습니다."));
+        List<TestCase> testcases = testcaseRepository.findByQuestion_QuestionId(questionId);
+
+        Directory directory = codeFile.getDirectory();
+        Integer directoryId = directory != null ? directory.getDirectoryId() : null;
+        Integer teamId = directory != null ? directory.getTeam().getTeamId() : null;
+        return new Submission(codeFile.getCodeFilePath(), directoryId, teamId, question, testcases);
+    }
+
+    /**
+     * 설명: 재채점할 테스트케이스만 채점 (저장 없음, 컴파일 실패 시 모든 케이스 실패)
+     * @param filePath
+     * @param question
+     * @param testcases
+     * @return List<GradedCase>
+     */
+    List<GradedCase> gradeTestcases(String filePath, Question question, List<TestCase> testcases) {
+        String extension = dockerRun.getFileExtension(filePath);
+        BuildResultDto build = compile(filePath, extension);
+        if (build != null && !build.isSuccess()) {
+            return testcases.stream().map(this::compileFailed).toList();
+        }
+        return inExecutePhase(() -> judgeTestcases(filePath, extension, build, testcases, question, false, JudgeListener.NONE));
+    }
+
+    /**
+     * 설명: 테스트케이스별 판정 저장 (저장 트랜잭션 안에서 호출, 첫 실패 중단으로 생략된 케이스는 저장하지 않음)
+     * @param result
+     * @param question
+     * @param testcases
+     * @param gradedCases testcases 와 같은 순서의 채점 결과
+     */
+    void saveResultCases(Result result, Question question, List<TestCase> testcases, List<GradedCase> gradedCases) {
+        List<ResultCase> resultCases = new ArrayList<>(gradedCases.size());
+        for (int i = 0; i < gradedCases.size(); i++) {
+            GradedCase graded = gradedCases.get(i);
+            if (isSkipped(graded)) continue;
+
+            TestCase testcase = testcases.get(i);
+            ResultCase resultCase = new ResultCase();
+            resultCase.setResult(result);
+            resultCase.setTestCase(testcaseRepository.getReferenceById(testcase.getCaseId()));
+            resultCase.setCaseFingerprint(testCaseStorage.fingerprint(testcase, question));
+            resultCase.setCasePass(graded.result().getPass());
+            resultCase.setCaseTime((float) graded.result().getTime());
+            resultCase.setCaseMemory((float) (Math.round(graded.memUsedMb() * 100.0) / 100.0));
+            resultCases.add(resultCase);
+        }
+        resultCaseRepository.saveAll(resultCases);
+    }
+
+    /**
+     * 설명: 지연 저장할 테스트케이스별 판정 (첫 실패 중단으로 생략된 케이스는 제외)
+     * @param question
+     * @param testcases
+     * @param gradedCases testcases 와 같은 순서의 채점 결과
+     * @return List<JudgeOutcome.CaseOutcome>
+     */
+    private List<JudgeOutcome.CaseOutcome> caseOutcomes(Question question, List<TestCase> testcases, List<GradedCase> gradedCases) {
+        List<JudgeOutcome.CaseOutcome> caseOutcomes = new ArrayList<>(gradedCases.size());
+        for (int i = 0; i < gradedCases.size(); i++) {
+            GradedCase graded = gradedCases.get(i);
+            if (isSkipped(graded)) continue;
+
+            TestCase testcase = testcases.get(i);
+            caseOutcomes.add(new JudgeOutcome.CaseOutcome(
+                    testcase.getCaseId(),
+                    testCaseStorage.fingerprint(testcase, question),
+                    graded.result().getPass(),
+                    (float) graded.result().getTime(),
+                    (float) (Math.round(graded.memUsedMb() * 100.0) / 100.0)));
+        }
+        return caseOutcomes;
+    }
+
+    /**
+     * 설명: 지연 저장할 언어별 진행률 (코드 파일 디렉터리가 없으면 null)
+     * @param submission
+     * @param memberId
+     * @param language
+     * @param progress
+     * @param keepHighest 기존 진행률보다 높을 때만 저장할지 여부
+     * @return JudgeOutcome.ProgressOutcome
+     */
+    private JudgeOutcome.ProgressOutcome progressOutcome(Submission submission, String memberId, String language,
+                                                         int progress, boolean keepHighest) {
+        if (submission.directoryId() == null) return null;
+        return new JudgeOutcome.ProgressOutcome(submission.directoryId(), submission.teamId(), memberId, language,
+                progress, keepHighest);
+    }
+
+    /**
+     * 설명: 언어별 진행률 저장 (저장 트랜잭션 안에서 호출)
+     * @param directoryId 코드 파일 디렉터리 (없으면 저장하지 않음)
+     * @param teamId
+     * @param memberId
+     * @param language
+     * @param progress
+     * @param keepHighest 기존 진행률보다 높을 때만 저장할지 여부
+     */
+    void saveProgress(Integer directoryId, Integer teamId, String memberId, String language, int progress, boolean keepHighest) {
+        if (directoryId == null) return;
+
+        // TeamUser 찾기
+        TeamUser teamUser = teamUserRepository.findByMember_MemberIdAndTeam_TeamId(memberId, teamId)
+                .orElse(null);
+        if (teamUser == null) return;
+
+        // Progress 찾기 또는 생성 (언어별로)
+        Directory directory = directoryRepository.getReferenceById(directoryId);
+        Progress progressEntity = progressRepository.findByDirectoryAndTeamUserAndLanguage(
+            directory, teamUser, language
+        ).orElseGet(() -> {
+            Progress newProgress = new Progress();
+            newProgress.setDirectory(directory);
+            newProgress.setTeamUser(teamUser);
+            newProgress.setLanguage(language);
+            newProgress.setProgressComplete(0);
+            return newProgress;
+        });
+
+        Integer currentProgress = progressEntity.getProgressComplete();
+        if (keepHighest && currentProgress != null && progress <= currentProgress) return;
+
+        progressEntity.setProgressComplete(progress); // 계산된 퍼센트 저장
+        progressRepository.save(progressEntity);
+    }
+
+    /**
+     * 설명: 조회 단계 (읽기 전용 트랜잭션)
+     * @param work
+     * @return T
+     */
+    private <T> T inReadPhase(Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return phaseTimer("read").record(() -> transaction.execute(status -> work.get()));
+    }
+
+    /**
+     * 설명: 실행 단계 (트랜잭션 없음)
+     * @param work
+     * @return T
+     */
+    private <T> T inExecutePhase(Supplier<T> work) {
+        return phaseTimer("execute").record(work);
+    }
+
+    /**
+     * 설명: 저장 단계 (저널 기록 후 일괄 저장, 지연 저장을 사용하지 않으면 바로 저장)
+     * @param outcome
+     */
+    private void inWritePhase(JudgeOutcome outcome) {
+        phaseTimer("write").record(() -> outcomeWriter.write(outcome));
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder("docker.judge.phase")
+                .description("채점 단계별 소요 시간 (read 는 DB 트랜잭션, write 는 지연 저장 저널 기록 구간)")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설명: 컴파일이 필요한 언어는 컴파일 결과 반환, 그 외 언어는 null
+     * @param filePath
+     * @param extension
+     * @return BuildResultDto
+     */
+    private BuildResultDto compile(String filePath, String extension) {
+        return runtimeRegistry.find(extension)
+                .filter(LanguageRuntime::isCompiled)
+                .map(runtime -> buildCache.compile(filePath, runtime))
+                .orElse(null);
+    }
+
+    /**
+     * 설명: 테스트케이스 채점 (같은 소스, 제한, 테스트케이스의 이전 결과가 있으면 재사용)
+     * @param filePath
+     * @param extension
+     * @param build
+     * @param testcases
+     * @param question
+     * @param failFast 첫 실패에서 중단 여부
+     * @param listener
+     * @return List<GradedCase>
+     */
+    private List<GradedCase> judgeTestcases(String filePath, String extension, BuildResultDto build,
+                                            List<TestCase> testcases, Question question, boolean failFast,
+                                            JudgeListener listener) {
+        if (!judgeResultCache.isEnabled()) {
+            return executeTestcases(filePath, extension, build, testcases, question, failFast, listener);
+        }
+
+        String cacheKey = judgeResultCache.key(filePath, extension, question, testcases);
+        Optional<List<GradedCase>> cached = judgeResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            List<GradedCase> gradedCases = cached.get();
+            for (int i = 0; i < gradedCases.size(); i++) {
+                listener.onTestcaseResult(i, gradedCases.get(i).result());
+            }
+            return gradedCases;
+        }
+
+        List<GradedCase> gradedCases = executeTestcases(filePath, extension, build, testcases, question, failFast, listener);
+        // 중간에 중단된 결과는 전체 채점 요청에 재사용할 수 없어 저장하지 않음
+        if (gradedCases.stream().noneMatch(this::isSkipped)) {
+            judgeResultCache.put(question.getQuestionId(), cacheKey, gradedCases);
+        }
+        return gradedCases;
+    }
+
+    /**
+     * 설명: 테스트케이스 병렬 또는 일괄 실행 후 채점 (결과는 테스트케이스 순서 유지)
+     * @param filePath
+     * @param extension
+     * @param build
+     * @param testcases
+     * @param question
+     * @param failFast 첫 실패에서 중단 여부 (남은 케이스는 취소 후 생략으로 표시)
+     * @param listener
+     * @return List<GradedCase>
+     */
+    private List<GradedCase> executeTestcases(String filePath, String extension, BuildResultDto build,
+                                              List<TestCase> testcases, Question question, boolean failFast,
+                                              JudgeListener listener) {
+        int mem = question.getQuestionMem();
+        float timeout = question.getQuestionTime();
+
+        // 일괄 채점 모드: 제출당 컨테이너 하나로 모든 테스트케이스 실행 (zygote 가 있는 언어는 항상 사용)
+        // 파일 테스트케이스는 출력을 프레임으로 돌려받을 수 없어 케이스별 실행에서 스트리밍 비교
+        // 첫 실패 중단 모드는 하네스가 정답을 알 수 없어 케이스별 실행에서 취소
+        if (batchJudgeRunner.isEnabled(extension) && !failFast && testcases.stream().noneMatch(testCaseStorage::isFileBacked)) {
+            List<String> inputs = testcases.stream().map(TestCase::getCaseEx).toList();
+            Callable<List<DockerResultDto>> batch = () -> batchJudgeRunner.runAll(filePath, extension, build, inputs, mem, timeout);
+            List<DockerResultDto> executions = judgeExecutor.invokeAll(List.of(batch)).getFirst();
+
+            List<GradedCase> gradedCases = new ArrayList<>(executions.size());
+            for (int i = 0; i < executions.size(); i++) {
+                phaseTimer.recordExecution(extension, executions.get(i));
+                GradedCase graded = grade(testcases.get(i), executions.get(i), timeout, mem);
+                listener.onTestcaseResult(i, graded.result());
+                gradedCases.add(graded);
+            }
+            return gradedCases;
+        }
+
+        List<Callable<GradedCase>> tasks = new ArrayList<>(testcases.size());
+        for (int i = 0; i < testcases.size(); i++) {
+            int index = i;
+            TestCase testcase = testcases.get(i);
+            tasks.add(() -> {
+                StdinSource input = testCaseStorage.input(testcase);
+                ExpectedOutput expected = testCaseStorage.expected(testcase);
+                DockerResultDto execution = build != null
+                        ? dockerRun.executeCompiled(build, input, expected, mem, timeout)
+                        : dockerRun.execute(filePath, extension, input, expected, mem, timeout);
+                phaseTimer.recordExecution(extension, execution);
+                GradedCase graded = grade(testcase, execution, timeout, mem);
+                listener.onTestcaseResult(index, graded.result());
+                return graded;
+            });
+        }
+        if (!failFast) return judgeExecutor.invokeAll(tasks);
+
+        List<GradedCase> gradedCases = judgeExecutor.invokeAll(tasks, graded -> !graded.result().getPass());
+        List<GradedCase> results = new ArrayList<>(gradedCases.size());
+        for (int i = 0; i < gradedCases.size(); i++) {
+            GradedCase graded = gradedCases.get(i);
+            results.add(graded != null ? graded : skip(testcases.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * 설명: 첫 실패 중단으로 실행하지 않은 테스트케이스 결과
+     * @param testcase
+     * @return GradedCase
+     */
+    private GradedCase skip(TestCase testcase) {
+        return new GradedCase(new TestcaseResultDto(
+                0.0,
+                "N/A",
+                testcase.getCaseEx(),
+                testcase.getCaseAnswer(),
+                SKIPPED,
+                false,
+                null
+        ), 0.0);
+    }
+
+    /**
+     * 설명: 컴파일 실패로 실행하지 않은 테스트케이스 결과
+     * @param testcase
+     * @return GradedCase
+     */
+    private GradedCase compileFailed(TestCase testcase) {
+        return new GradedCase(new TestcaseResultDto(
+                0.0,
+                "N/A",
+                testcase.getCaseEx(),
+                testcase.getCaseAnswer(),
+                COMPILE_ERROR,
+                false,
+                null
+        ), 0.0);
+    }
+
+    private boolean isSkipped(GradedCase graded) {
+        return SKIPPED.equals(graded.result().getActual());
+    }
+
+    /**
+     * 설명: 테스트케이스 실행 결과 채점 (정답 비교, 시간/메모리 제한 확인)
+     * 메모리는 실행 컨테이너 cgroup 의 최대 사용량 기준
+     * 실행 중 스트리밍 비교 결과가 있으면 표준 출력 기준으로 판정하고, 없으면 수집된 출력 전체와 비교
+     * @param testcase
+     * @param execution
+     * @param timeLimit
+     * @param memLimit
+     * @return GradedCase
+     */
+    private GradedCase grade(TestCase testcase, DockerResultDto execution, float timeLimit, int memLimit) {
+        String output = execution.getOutput().trim();
+        double execTime = Math.round(execution.getTime() * 100.0) / 100.0;
+
+        boolean pass = execution.getMatched() != null
+                ? execution.getMatched()
+                : output.equals(testcase.getCaseAnswer().trim());
+
+        Long peakMemory = execution.getPeakMemory();
+        double memUsedMb = peakMemory != null ? peakMemory / 1024.0 / 1024.0 : 0.0;
+        String totalMemoryUsed = peakMemory != null ? String.format("%.2f MB", memUsedMb) : "N/A";
+        Double cpuTime = execution.getCpuTime() != null ? Math.round(execution.getCpuTime() * 1000.0) / 1000.0 : null;
+
+        if(execTime > timeLimit) pass = false;
+        // 메모리 제한 초과 시 커널이 프로세스를 강제 종료함 (시간 초과·출력 초과로 중단한 경우는 제외)
+        boolean killed = execution.getExitCode() != null && execution.getExitCode() == EXIT_KILLED
+                && !TIME_OUT.equals(output) && !Boolean.TRUE.equals(execution.getTruncated());
+        if(memUsedMb > memLimit || killed) {
+            pass = false;
+            output = MEMORY_LIMIT_EXCEEDED;
+        }
+        // 표준 에러로 오류를 출력하고 비정상 종료한 경우, 출력 제한을 넘겨 중단된 경우
+        if(execution.getExitCode() != null && execution.getExitCode() != 0) pass = false;
+        if(Boolean.TRUE.equals(execution.getTruncated())) pass = false;
+
+        return new GradedCase(new TestcaseResultDto(
+                execTime,
+                totalMemoryUsed,
+                testcase.getCaseEx(),
+                testcase.getCaseAnswer(),
+                output,
+                pass,
+                cpuTime
+        ), memUsedMb);
+    }
+
+    /**
+     * 조회 단계에서 읽은 채점 대상 (트랜잭션 밖에서 사용)
+     */
+    private record Submission(String filePath, Integer directoryId, Integer teamId,
+                              Question question, List<TestCase> testcases) {
+    }
 }
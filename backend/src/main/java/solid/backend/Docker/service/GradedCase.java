@@ -0,0 +1,9 @@
+package solid.backend.Docker.service;
+
+import solid.backend.Docker.dto.TestcaseResultDto;
+
+/**
+ * 채점된 테스트케이스 결과와 사용 메모리(MB)
+ */
+public record GradedCase(TestcaseResultDto result, double memUsedMb) {
+}
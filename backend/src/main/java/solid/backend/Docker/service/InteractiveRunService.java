@@ -0,0 +1,49 @@
+package solid.backend.Docker.service;
+
+import solid.backend.Docker.dto.InteractiveRunDto;
+
+public interface InteractiveRunService {
+    /**
+     * 설명: 대화형 실행 생성 (클라이언트가 출력 주소를 구독한 뒤 start 로 시작)
+     * @param memberId
+     * @param codeFileId
+     */
+    InteractiveRunDto create(String memberId, Integer codeFileId);
+
+    /**
+     * 설명: 대화형 실행 시작
+     * @param runId
+     * @param memberId
+     */
+    void start(String runId, String memberId);
+
+    /**
+     * 설명: 입력한 줄을 표준 입력으로 전달
+     * @param runId
+     * @param memberId
+     * @param line
+     */
+    void input(String runId, String memberId, String line);
+
+    /**
+     * 설명: 표준 입력 닫기 (EOF)
+     * @param runId
+     * @param memberId
+     */
+    void closeInput(String runId, String memberId);
+
+    /**
+     * 설명: 받은 출력 이벤트 확인
+     * @param runId
+     * @param memberId
+     * @param seq
+     */
+    void ack(String runId, String memberId, long seq);
+
+    /**
+     * 설명: 실행 중지
+     * @param runId
+     * @param memberId
+     */
+    void stop(String runId, String memberId);
+}
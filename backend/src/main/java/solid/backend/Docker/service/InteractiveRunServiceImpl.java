@@ -0,0 +1,179 @@
+package solid.backend.Docker.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import solid.backend.Docker.dto.DockerResultDto;
+import solid.backend.Docker.dto.InteractiveEventDto;
+import solid.backend.Docker.dto.InteractiveRunDto;
+import solid.backend.Docker.exception.JudgeOverloadedException;
+import solid.backend.Docker.executor.InteractiveChannel;
+import solid.backend.Docker.executor.JudgeScheduler;
+import solid.backend.Docker.executor.JudgeTicket;
+import solid.backend.config.DockerProperties;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 대화형 실행 세션 관리
+ * REST 로 실행을 만들면 runId 와 출력 주소(/topic/run/{runId})를 반환하고,
+ * 클라이언트가 주소를 구독한 뒤 /app/run/{runId}/start 를 보내면 사용자 입력 실행과 같은 대기열(LANE_CUSTOM)에서 실행한다.
+ * 입력, 확인(ack), 중지 메시지는 실행을 만든 멤버만 보낼 수 있다.
+ */
+@Slf4j
+@Service
+public class InteractiveRunServiceImpl implements InteractiveRunService {
+    private final DockerService dockerService;
+    private final JudgeScheduler judgeScheduler;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final DockerProperties.Interactive interactiveProperties;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public InteractiveRunServiceImpl(DockerService dockerService, JudgeScheduler judgeScheduler,
+                                     SimpMessagingTemplate simpMessagingTemplate, DockerProperties dockerProperties) {
+        this.dockerService = dockerService;
+        this.judgeScheduler = judgeScheduler;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.interactiveProperties = dockerProperties.getInteractive();
+    }
+
+    /**
+     * 설명: 대화형 실행 생성 (클라이언트가 출력 주소를 구독한 뒤 start 로 시작)
+     * @param memberId
+     * @param codeFileId
+     * @return InteractiveRunDto
+     */
+    @Override
+    public InteractiveRunDto create(String memberId, Integer codeFileId) {
+        if (codeFileId == null) throw new IllegalArgumentException("코드 파일 ID가 없습니다.");
+        String runId = UUID.randomUUID().toString();
+        String destination = INTERACTIVE_DESTINATION_PREFIX + runId;
+        InteractiveChannel channel = new InteractiveChannel(runId,
+                event -> simpMessagingTemplate.convertAndSend(destination, event),
+                interactiveProperties.getWindowBytes(), interactiveProperties.getMaxOutputBytes(),
+                interactiveProperties.getMaxInputLines());
+        sessions.put(runId, new Session(memberId, codeFileId, channel, System.currentTimeMillis(), new AtomicBoolean()));
+        return new InteractiveRunDto(runId, destination);
+    }
+
+    /**
+     * 설명: 대화형 실행 시작 (실행 허가를 기다리는 동안 요청 스레드를 점유하지 않도록 가상 스레드에서 실행)
+     * @param runId
+     * @param memberId
+     */
+    @Override
+    public void start(String runId, String memberId) {
+        Session session = owned(runId, memberId);
+        if (session == null || !session.started().compareAndSet(false, true)) return;
+
+        Thread.ofVirtual().name("interactive-" + runId).start(() -> {
+            InteractiveChannel channel = session.channel();
+            try {
+                JudgeTicket ticket = judgeScheduler.ticket(session.memberId(), session.codeFileId(), null, LANE_CUSTOM);
+                DockerResultDto result = judgeScheduler.execute(ticket,
+                        () -> dockerService.runInteractive(session.codeFileId(), channel));
+                if (result != null) channel.exit(result.getExitCode(), result.getTime());
+            } catch (JudgeOverloadedException | IllegalArgumentException e) {
+                channel.error(e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("대화형 실행 실패: {} ({})", runId, e.getMessage());
+                channel.error("실행 중 오류가 발생했습니다.");
+            } finally {
+                sessions.remove(runId);
+            }
+        });
+    }
+
+    /**
+     * 설명: 입력한 줄을 표준 입력으로 전달 (입력 대기열이 가득 차면 오류 이벤트 전송)
+     * @param runId
+     * @param memberId
+     * @param line
+     */
+    @Override
+    public void input(String runId, String memberId, String line) {
+        Session session = owned(runId, memberId);
+        if (session == null || line == null) return;
+        if (!session.channel().write(line)) {
+            simpMessagingTemplate.convertAndSend(INTERACTIVE_DESTINATION_PREFIX + runId,
+                    new InteractiveEventDto(EVENT_ERROR, runId, null, null, null, null, null, null,
+                            "입력 대기열이 가득 찼습니다."));
+        }
+    }
+
+    /**
+     * 설명: 표준 입력 닫기 (EOF)
+     * @param runId
+     * @param memberId
+     */
+    @Override
+    public void closeInput(String runId, String memberId) {
+        Session session = owned(runId, memberId);
+        if (session != null) session.channel().closeInput();
+    }
+
+    /**
+     * 설명: 받은 출력 이벤트 확인
+     * @param runId
+     * @param memberId
+     * @param seq
+     */
+    @Override
+    public void ack(String runId, String memberId, long seq) {
+        Session session = owned(runId, memberId);
+        if (session != null) session.channel().ack(seq);
+    }
+
+    /**
+     * 설명: 실행 중지 (시작 전이면 세션만 삭제)
+     * @param runId
+     * @param memberId
+     */
+    @Override
+    public void stop(String runId, String memberId) {
+        Session session = owned(runId, memberId);
+        if (session == null) return;
+        if (session.started().compareAndSet(false, true)) {
+            sessions.remove(runId);
+            return;
+        }
+        session.channel().kill();
+    }
+
+    /**
+     * 설명: 시작 대기 시간이 지나도록 시작하지 않은 세션 정리
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void evictIdle() {
+        long deadline = System.currentTimeMillis() - (long) interactiveProperties.getStartTimeoutSeconds() * 1000;
+        sessions.entrySet().removeIf(entry -> entry.getValue().createdAt() < deadline
+                && entry.getValue().started().compareAndSet(false, true));
+    }
+
+    /**
+     * 설명: 실행을 만든 멤버의 세션 조회 (없거나 다른 멤버면 null)
+     * @param runId
+     * @param memberId
+     * @return Session
+     */
+    private Session owned(String runId, String memberId) {
+        Session session = sessions.get(runId);
+        if (session == null || !Objects.equals(session.memberId(), memberId)) return null;
+        return session;
+    }
+
+    /**
+     * 대화형 실행 세션
+     */
+    private record Session(String memberId, Integer codeFileId, InteractiveChannel channel, long createdAt,
+                           AtomicBoolean started) {
+    }
+}
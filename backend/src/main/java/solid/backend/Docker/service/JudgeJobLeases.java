@@ -0,0 +1,152 @@
+package solid.backend.Docker.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solid.backend.config.DockerProperties;
+import solid.backend.entity.JudgeJob;
+import solid.backend.jpaRepository.JudgeJobRepository;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+import static solid.backend.config.SchedulingConfig.JUDGE_LEASE_SCHEDULER;
+
+/**
+ * 채점 작업 임대 (DB 대기열)
+ * 워커는 judge_job 의 대기 작업을 SELECT ... FOR UPDATE SKIP LOCKED 로 잠가 가져가고 임대 만료 시각을 기록한다.
+ * 실행 중인 작업은 주기적으로 임대를 연장하며, 연장되지 않아 만료된 작업은 어느 노드에서든 다시 대기 상태로 돌린다.
+ * 작업 종료와 반납은 임대를 가진 워커만 할 수 있어, 만료 후 다른 워커가 가져간 작업을 늦게 끝난 워커가 덮어쓰지 않는다.
+ * 가져갈 때마다 임대 세대(lease_epoch)를 올리고 종료·반납·연장은 같은 세대에서만 반영해, 같은 워커가 다시 가져간 경우도 구분한다.
+ * 임대 연장은 다른 예약 작업에 밀리지 않도록 전용 스케줄러에서 실행한다.
+ */
+@Slf4j
+@Component
+public class JudgeJobLeases {
+    private static final String LEASE_EXPIRED_ERROR = "채점 워커가 응답하지 않아 최대 시도 횟수를 넘었습니다.";
+
+    private final JudgeJobRepository judgeJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DockerProperties.Queue queueProperties;
+    private final String workerId;
+    private final Map<String, Long> held = new ConcurrentHashMap<>();
+
+    public JudgeJobLeases(JudgeJobRepository judgeJobRepository, PlatformTransactionManager transactionManager,
+                          DockerProperties dockerProperties) {
+        this.judgeJobRepository = judgeJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queueProperties = dockerProperties.getQueue();
+        this.workerId = queueProperties.getWorkerId().isBlank() ? defaultWorkerId() : queueProperties.getWorkerId();
+    }
+
+    /**
+     * 설명: 워커 ID
+     * @return String
+     */
+    public String workerId() {
+        return workerId;
+    }
+
+    /**
+     * 설명: 가장 먼저 접수된 대기 작업 하나를 임대해 실행 중으로 변경 (없으면 null)
+     * @return JudgeJob
+     */
+    public JudgeJob claim() {
+        JudgeJob job = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<JudgeJob> claimable = judgeJobRepository.findClaimable(JOB_QUEUED, now, 1);
+            if (claimable.isEmpty()) return null;
+
+            JudgeJob claimed = claimable.getFirst();
+            claimed.setJobStatus(JOB_RUNNING);
+            claimed.setLeaseOwner(workerId);
+            claimed.setLeaseUntil(now.plusSeconds(queueProperties.getLeaseSeconds()));
+            claimed.setLeaseEpoch(epoch(claimed) + 1);
+            claimed.setAttempts(attempts(claimed) + 1);
+            claimed.setStartedAt(now);
+            return judgeJobRepository.save(claimed);
+        });
+        if (job != null) held.put(job.getJobId(), job.getLeaseEpoch());
+        return job;
+    }
+
+    /**
+     * 설명: 작업 종료 기록 (임대를 잃었으면 기록하지 않음)
+     * @param job
+     * @param status JOB_DONE, JOB_FAILED
+     * @param result 채점 결과 JSON
+     * @param error 실패 사유
+     * @return boolean 기록 여부
+     */
+    public boolean finish(JudgeJob job, String status, String result, String error) {
+        held.remove(job.getJobId(), job.getLeaseEpoch());
+        Integer updated = transactionTemplate.execute(tx -> judgeJobRepository.finishLeased(
+                job.getJobId(), workerId, epoch(job), status, result, error, LocalDateTime.now()));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 설명: 다시 시도할 수 있으면 작업을 대기 상태로 반납 (시도 횟수만큼 늘어난 재시도 대기 후 다시 가져감)
+     * @param job
+     * @param error 이번 시도의 실패 사유
+     * @return boolean 반납 여부 (시도 횟수를 모두 썼거나 임대를 잃었으면 false)
+     */
+    public boolean release(JudgeJob job, String error) {
+        if (attempts(job) >= queueProperties.getMaxAttempts()) return false;
+        held.remove(job.getJobId(), job.getLeaseEpoch());
+        LocalDateTime availableAt = LocalDateTime.now()
+                .plusSeconds((long) queueProperties.getRetryBackoffSeconds() * attempts(job));
+        Integer updated = transactionTemplate.execute(tx ->
+                judgeJobRepository.releaseLeased(job.getJobId(), workerId, epoch(job), JOB_QUEUED, error, availableAt));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 설명: 실행 중인 작업 임대 연장 및 만료된 작업 회수 (모든 노드에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${docker.queue.heartbeat-seconds:15}", timeUnit = TimeUnit.SECONDS,
+            scheduler = JUDGE_LEASE_SCHEDULER)
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime leaseUntil = now.plusSeconds(queueProperties.getLeaseSeconds());
+                Map.copyOf(held).forEach((jobId, epoch) ->
+                        judgeJobRepository.extendLease(jobId, workerId, epoch, JOB_RUNNING, leaseUntil));
+                int requeued = judgeJobRepository.requeueExpired(JOB_RUNNING, JOB_QUEUED, now, queueProperties.getMaxAttempts());
+                int failed = judgeJobRepository.failExpired(JOB_RUNNING, JOB_FAILED, LEASE_EXPIRED_ERROR, now,
+                        queueProperties.getMaxAttempts());
+                if (requeued + failed > 0) log.info("임대 만료 채점 작업 회수: 재시도 {}건, 실패 {}건", requeued, failed);
+            });
+        } catch (RuntimeException e) {
+            log.warn("채점 작업 임대 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static long epoch(JudgeJob job) {
+        return job.getLeaseEpoch() == null ? 0 : job.getLeaseEpoch();
+    }
+
+    private static int attempts(JudgeJob job) {
+        return job.getAttempts() == null ? 0 : job.getAttempts();
+    }
+
+    private static String defaultWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String id = ProcessHandle.current().pid() + "@" + host;
+        return id.length() > 64 ? id.substring(0, 64) : id;
+    }
+}
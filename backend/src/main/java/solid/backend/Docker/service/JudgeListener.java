@@ -0,0 +1,20 @@
+package solid.backend.Docker.service;
+
+import solid.backend.Docker.dto.TestcaseResultDto;
+
+/**
+ * 테스트케이스 채점이 끝날 때마다 호출되는 리스너
+ * 병렬 채점 시 채점 스레드에서 완료 순서대로 호출될 수 있다.
+ */
+@FunctionalInterface
+public interface JudgeListener {
+    /** 아무 동작도 하지 않는 리스너 */
+    JudgeListener NONE = (index, result) -> { };
+
+    /**
+     * 설명: 테스트케이스 채점 완료 시 호출
+     * @param index 테스트케이스 순서
+     * @param result 채점 결과
+     */
+    void onTestcaseResult(int index, TestcaseResultDto result);
+}
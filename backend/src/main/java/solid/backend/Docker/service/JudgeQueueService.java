@@ -0,0 +1,19 @@
+package solid.backend.Docker.service;
+
+import solid.backend.Docker.dto.DockerRunDto;
+import solid.backend.Docker.dto.JudgeJobDto;
+
+public interface JudgeQueueService {
+    /**
+     * 설명: 채점 작업 접수 후 작업 ID 즉시 반환
+     * @param jobType
+     * @param dockerRunDto
+     */
+    JudgeJobDto submit(String jobType, DockerRunDto dockerRunDto);
+
+    /**
+     * 설명: 채점 작업 상태 및 결과 조회
+     * @param jobId
+     */
+    JudgeJobDto getJob(String jobId);
+}
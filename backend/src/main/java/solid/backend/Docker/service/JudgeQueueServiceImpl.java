@@ -0,0 +1,266 @@
+package solid.backend.Docker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import solid.backend.Docker.cache.SubmissionCoalescer;
+import solid.backend.Docker.dto.DockerRunDto;
+import solid.backend.Docker.dto.JudgeEventDto;
+import solid.backend.Docker.dto.JudgeJobDto;
+import solid.backend.Docker.executor.JudgeScheduler;
+import solid.backend.Docker.executor.JudgeTicket;
+import solid.backend.config.DockerProperties;
+import solid.backend.entity.JudgeJob;
+import solid.backend.jpaRepository.JudgeJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * 비동기 채점 대기열
+ * 요청은 judge_job 테이블에 저장한 뒤 작업 ID만 즉시 반환하고,
+ * 워커 스레드가 JudgeJobLeases 로 작업을 임대해 채점하면서 테스트케이스별 결과를 /topic/judge/{jobId} 로 전송한다.
+ * 작업은 DB 에서 임대하므로 어느 노드의 워커든 가져갈 수 있고 (docker.queue.worker=false 인 노드는 접수만 함),
+ * 다른 노드가 끝낸 작업은 접수한 노드가 상태를 조회해 종료 결과를 전송한다.
+ * 요청 스레드와 DB 커넥션은 채점 시간 동안 점유되지 않는다.
+ */
+@Slf4j
+@Service
+public class JudgeQueueServiceImpl implements JudgeQueueService {
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final JudgeJobRepository judgeJobRepository;
+    private final DockerService dockerService;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final JudgeScheduler judgeScheduler;
+    private final SubmissionCoalescer submissionCoalescer;
+    private final JudgeJobLeases judgeJobLeases;
+    private final DockerProperties.Queue queueProperties;
+    private final ExecutorService workers;
+    private final Object wakeup = new Object();
+    // 이 노드에 접수돼 종료 결과를 아직 전송하지 않은 작업
+    private final Set<String> watched = ConcurrentHashMap.newKeySet();
+
+    public JudgeQueueServiceImpl(JudgeJobRepository judgeJobRepository, DockerService dockerService,
+                                 SimpMessagingTemplate simpMessagingTemplate, ObjectMapper objectMapper,
+                                 JudgeScheduler judgeScheduler, SubmissionCoalescer submissionCoalescer,
+                                 JudgeJobLeases judgeJobLeases, DockerProperties dockerProperties) {
+        this.judgeJobRepository = judgeJobRepository;
+        this.dockerService = dockerService;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.objectMapper = objectMapper;
+        this.judgeScheduler = judgeScheduler;
+        this.submissionCoalescer = submissionCoalescer;
+        this.judgeJobLeases = judgeJobLeases;
+        this.queueProperties = dockerProperties.getQueue();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(queueProperties.getWorkers(), r -> {
+            Thread thread = new Thread(r, "judge-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 설명: 채점 작업 접수 후 작업 ID 즉시 반환
+     * @param jobType
+     * @param dockerRunDto
+     * @return JudgeJobDto
+     */
+    @Override
+    public JudgeJobDto submit(String jobType, DockerRunDto dockerRunDto) {
+        if (!JOB_TYPE_RUN.equals(jobType) && !JOB_TYPE_TEST.equals(jobType)) {
+            throw new IllegalArgumentException("지원하지 않는 작업 종류입니다: " + jobType);
+        }
+
+        JudgeJob job = new JudgeJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setJobType(jobType);
+        job.setJobStatus(JOB_QUEUED);
+        job.setMemberId(dockerRunDto.getMemberId());
+        job.setCodeFileId(dockerRunDto.getCodeFileId());
+        job.setQuestionId(dockerRunDto.getQuestionId());
+        job.setFailFast(dockerRunDto.getFailFast());
+        job.setCreatedAt(LocalDateTime.now());
+        job.setAttempts(0);
+        judgeJobRepository.save(job);
+
+        // 접수 노드의 워커가 대기 중이면 조회 간격을 기다리지 않고 바로 가져감
+        watched.add(job.getJobId());
+        synchronized (wakeup) {
+            wakeup.notifyAll();
+        }
+        return toDto(job);
+    }
+
+    /**
+     * 설명: 채점 작업 상태 및 결과 조회 (웹소켓을 사용할 수 없는 경우의 폴링용)
+     * @param jobId
+     * @return JudgeJobDto
+     */
+    @Override
+    public JudgeJobDto getJob(String jobId) {
+        JudgeJob job = judgeJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("채점 작업이 존재하지 않습니다."));
+        return toDto(job);
+    }
+
+    /**
+     * 설명: 애플리케이션 기동 후 워커 시작 (서버 재시작 전 실행 중이던 작업은 임대가 만료되면 다시 가져감)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!queueProperties.isWorker()) return;
+        for (int i = 0; i < queueProperties.getWorkers(); i++) {
+            workers.execute(this::poll);
+        }
+        log.info("채점 워커 {}개 시작: {}", queueProperties.getWorkers(), judgeJobLeases.workerId());
+    }
+
+    /**
+     * 설명: 다른 노드의 워커가 끝낸 작업의 종료 결과를 이 노드에 연결된 클라이언트에 전송
+     */
+    @Scheduled(fixedDelayString = "${docker.queue.poll-interval-ms:500}")
+    public void relayFinished() {
+        if (watched.isEmpty()) return;
+        for (JudgeJob job : judgeJobRepository.findAllById(Set.copyOf(watched))) {
+            boolean done = JOB_DONE.equals(job.getJobStatus());
+            if ((!done && !JOB_FAILED.equals(job.getJobStatus())) || !watched.remove(job.getJobId())) continue;
+
+            JudgeJobDto dto = toDto(job);
+            simpMessagingTemplate.convertAndSend(JUDGE_DESTINATION_PREFIX + job.getJobId(), done
+                    ? new JudgeEventDto(JOB_DONE, job.getJobId(), null, null, dto.getResult(), null)
+                    : new JudgeEventDto(JOB_FAILED, job.getJobId(), null, null, null, job.getJobError()));
+        }
+    }
+
+    /**
+     * 설명: 애플리케이션 종료 시 워커 정리 (실행 중이던 작업은 임대가 만료되면 다른 워커가 가져감)
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 설명: 워커 스레드에서 대기 작업을 임대해 채점 (대기 작업이 없으면 조회 간격만큼 또는 접수될 때까지 대기)
+     */
+    private void poll() {
+        while (!Thread.currentThread().isInterrupted()) {
+            JudgeJob job = null;
+            try {
+                job = judgeJobLeases.claim();
+            } catch (RuntimeException e) {
+                log.warn("채점 작업 임대 실패: {}", e.getMessage());
+            }
+            if (job != null) {
+                process(job);
+                continue;
+            }
+            try {
+                synchronized (wakeup) {
+                    wakeup.wait(queueProperties.getPollIntervalMs());
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 설명: 임대한 작업 채점 및 결과 전송
+     * 잘못된 요청은 바로 실패 처리하고, 실행 환경 오류는 최대 시도 횟수까지 대기열에 반납해 다시 시도
+     * @param job
+     */
+    private void process(JudgeJob job) {
+        String jobId = job.getJobId();
+        String destination = JUDGE_DESTINATION_PREFIX + jobId;
+        JudgeListener listener = (index, testcaseResult) -> simpMessagingTemplate.convertAndSend(destination,
+                new JudgeEventDto(EVENT_TESTCASE, jobId, index, testcaseResult, null, null));
+
+        try {
+            // 같은 멤버·소스·문제의 실행이 진행 중이면 합류해 결과 공유
+            // 비동기 작업도 동기 요청과 같은 멤버/컨테이너 할당량을 따름 (이미 저장된 작업이므로 거절하지 않고 대기)
+            boolean run = JOB_TYPE_RUN.equals(job.getJobType());
+            SubmissionCoalescer.FlightKey key = submissionCoalescer.key(job.getJobType(), job.getMemberId(),
+                    job.getCodeFileId(), job.getQuestionId(), run ? job.getFailFast() : null);
+            Object result = submissionCoalescer.run(key, listener, shared -> {
+                JudgeTicket ticket = judgeScheduler.ticket(job.getMemberId(), job.getCodeFileId(), job.getQuestionId(), LANE_JUDGE);
+                return judgeScheduler.executeQueued(ticket, () -> run
+                        ? dockerService.runCodeFile(job.getMemberId(), job.getCodeFileId(), job.getQuestionId(), job.getFailFast(), shared)
+                        : dockerService.runTestCodeFile(job.getMemberId(), job.getCodeFileId(), job.getQuestionId(), shared));
+            });
+
+            String json = objectMapper.writeValueAsString(result);
+            // 이 노드에 접수된 작업은 직접 전송하므로 종료 결과 중계 대상에서 먼저 제외
+            boolean local = watched.remove(jobId);
+            if (judgeJobLeases.finish(job, JOB_DONE, json, null)) {
+                simpMessagingTemplate.convertAndSend(destination, new JudgeEventDto(JOB_DONE, jobId, null, null, result, null));
+            } else {
+                lostLease(jobId, local);
+            }
+        } catch (Exception e) {
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (error.length() > ERROR_MAX_LENGTH) error = error.substring(0, ERROR_MAX_LENGTH);
+
+            if (!(e instanceof IllegalArgumentException) && judgeJobLeases.release(job, error)) {
+                log.warn("채점 작업 실패, 다시 시도합니다 ({}회째): {} ({})", job.getAttempts(), jobId, error);
+                return;
+            }
+            log.error("채점 작업 실패: {}", jobId, e);
+            boolean local = watched.remove(jobId);
+            if (judgeJobLeases.finish(job, JOB_FAILED, null, error)) {
+                simpMessagingTemplate.convertAndSend(destination, new JudgeEventDto(JOB_FAILED, jobId, null, null, null, error));
+            } else {
+                lostLease(jobId, local);
+            }
+        }
+    }
+
+    /**
+     * 설명: 임대가 만료돼 다른 워커가 가져간 작업 (그 워커의 결과를 기다려 중계)
+     * @param jobId
+     * @param local 이 노드에 접수된 작업 여부
+     */
+    private void lostLease(String jobId, boolean local) {
+        log.warn("채점 작업 임대를 잃어 결과를 기록하지 않습니다: {}", jobId);
+        if (local) watched.add(jobId);
+    }
+
+    /**
+     * 설명: 작업 엔티티를 응답 DTO로 변환
+     * @param job
+     * @return JudgeJobDto
+     */
+    private JudgeJobDto toDto(JudgeJob job) {
+        Long position = JOB_QUEUED.equals(job.getJobStatus())
+                ? judgeJobRepository.countByJobStatusAndCreatedAtBefore(JOB_QUEUED, job.getCreatedAt())
+                : null;
+
+        JsonNode result = null;
+        if (job.getJobResult() != null) {
+            try {
+                result = objectMapper.readTree(job.getJobResult());
+            } catch (JsonProcessingException e) {
+                log.warn("채점 결과 변환 실패: {}", job.getJobId());
+            }
+        }
+        return new JudgeJobDto(job.getJobId(), job.getJobStatus(), position, result, job.getJobError());
+    }
+}
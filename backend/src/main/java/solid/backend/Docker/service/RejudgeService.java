@@ -0,0 +1,9 @@
+package solid.backend.Docker.service;
+
+public interface RejudgeService {
+    /**
+     * 설명: 문제의 기존 제출 재채점 예약 (트랜잭션 안에서 호출하면 커밋 후 시작)
+     * @param questionId
+     */
+    void schedule(Integer questionId);
+}
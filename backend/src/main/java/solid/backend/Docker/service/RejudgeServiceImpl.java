@@ -0,0 +1,379 @@
+package solid.backend.Docker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solid.backend.Docker.cache.JudgeResultCache;
+import solid.backend.Docker.executor.JudgeScheduler;
+import solid.backend.Docker.executor.JudgeTicket;
+import solid.backend.common.TestCaseStorage;
+import solid.backend.config.DockerProperties;
+import solid.backend.entity.*;
+import solid.backend.jpaRepository.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static solid.backend.Docker.constant.DockerConstants.LANE_JUDGE;
+import static solid.backend.Docker.constant.DockerConstants.REJUDGE_MEMBER_KEY;
+
+/**
+ * 테스트케이스 수정 후 기존 제출 재채점
+ * 멤버·코드 파일별 최신 전체 실행 결과의 테스트케이스별 지문(fingerprint)을 현재 테스트케이스와 비교해
+ * 바뀌었거나 새로 추가된 케이스만 다시 실행하고, 나머지 판정은 그대로 재사용한다.
+ * 전용 워커 하나가 초당 제출 수 제한을 지키며 처리하고, Result/Progress 는 여러 제출을 묶어 한 트랜잭션에 저장한다.
+ * 제출 이후 소스가 바뀐 코드 파일은 저장된 결과와 맞지 않으므로 재채점하지 않는다.
+ */
+@Slf4j
+@Service
+public class RejudgeServiceImpl implements RejudgeService {
+    private final DockerProperties.Rejudge rejudgeProperties;
+    private final QuestionRepository questionRepository;
+    private final TestCaseRepository testCaseRepository;
+    private final ResultRepository resultRepository;
+    private final ResultCaseRepository resultCaseRepository;
+    private final CodeFileRepository codeFileRepository;
+    private final DockerServiceImpl dockerService;
+    private final TestCaseStorage testCaseStorage;
+    private final JudgeResultCache judgeResultCache;
+    private final JudgeScheduler judgeScheduler;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService worker;
+    private final Set<Integer> scheduled = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingSubmissions = new AtomicInteger();
+    private long nextStartNanos;
+
+    public RejudgeServiceImpl(DockerProperties dockerProperties, QuestionRepository questionRepository,
+                              TestCaseRepository testCaseRepository, ResultRepository resultRepository,
+                              ResultCaseRepository resultCaseRepository, CodeFileRepository codeFileRepository,
+                              DockerServiceImpl dockerService, TestCaseStorage testCaseStorage,
+                              JudgeResultCache judgeResultCache, JudgeScheduler judgeScheduler,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.rejudgeProperties = dockerProperties.getRejudge();
+        this.questionRepository = questionRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.resultRepository = resultRepository;
+        this.resultCaseRepository = resultCaseRepository;
+        this.codeFileRepository = codeFileRepository;
+        this.dockerService = dockerService;
+        this.testCaseStorage = testCaseStorage;
+        this.judgeResultCache = judgeResultCache;
+        this.judgeScheduler = judgeScheduler;
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "rejudge-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("docker.rejudge.pending", pendingSubmissions);
+    }
+
+    /**
+     * 설명: 문제의 기존 제출 재채점 예약 (트랜잭션 안에서 호출하면 커밋 후 시작)
+     * @param questionId
+     */
+    @Override
+    public void schedule(Integer questionId) {
+        if (!rejudgeProperties.isEnabled()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 수정된 테스트케이스가 커밋된 뒤에 읽도록 커밋 후 등록 (롤백되면 재채점하지 않음)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(questionId);
+                }
+            });
+            return;
+        }
+        enqueue(questionId);
+    }
+
+    /**
+     * 설명: 애플리케이션 종료 시 워커 정리 (진행 중인 재채점은 다음 수정 때 다시 처리)
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 설명: 재채점 대기열에 문제 등록 (아직 시작하지 않은 같은 문제 요청은 하나로 합침)
+     * @param questionId
+     */
+    private void enqueue(Integer questionId) {
+        if (scheduled.add(questionId)) {
+            worker.execute(() -> rejudge(questionId));
+        }
+    }
+
+    /**
+     * 설명: 워커 스레드에서 문제 하나의 제출 재채점
+     * @param questionId
+     */
+    private void rejudge(Integer questionId) {
+        // 시작 전에 표시를 지워 재채점 중 다시 수정되면 한 번 더 처리
+        scheduled.remove(questionId);
+
+        Plan plan = inTransaction(true, () -> plan(questionId));
+        if (plan == null) return;
+
+        int remaining = plan.targets().size();
+        pendingSubmissions.addAndGet(remaining);
+        try {
+            List<Regraded> batch = new ArrayList<>();
+            for (Target target : plan.targets()) {
+                try {
+                    Regraded regraded = regrade(plan, target);
+                    if (regraded != null) batch.add(regraded);
+                } catch (RuntimeException e) {
+                    log.warn("제출 재채점 실패: result {}", target.resultId(), e);
+                    submissionCounter("failed").increment();
+                }
+                pendingSubmissions.decrementAndGet();
+                remaining--;
+
+                if (batch.size() >= Math.max(1, rejudgeProperties.getBatchSize())) {
+                    save(plan, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) save(plan, batch);
+            log.info("문제 {} 재채점 완료: 제출 {}건", questionId, plan.targets().size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("문제 재채점 실패: {}", questionId, e);
+        } finally {
+            pendingSubmissions.addAndGet(-remaining);
+        }
+    }
+
+    /**
+     * 설명: 재채점 대상 조회 (조회 트랜잭션 안에서 호출)
+     * @param questionId
+     * @return Plan 재채점할 것이 없으면 null
+     */
+    private Plan plan(Integer questionId) {
+        Question question = questionRepository.findById(questionId).orElse(null);
+        if (question == null) return null;
+        List<TestCase> testcases = testCaseRepository.findByQuestion_QuestionId(questionId);
+        if (testcases.isEmpty()) return null;
+
+        Map<Integer, String> fingerprints = new HashMap<>();
+        for (TestCase testcase : testcases) {
+            fingerprints.put(testcase.getCaseId(), testCaseStorage.fingerprint(testcase, question));
+        }
+
+        // 멤버·코드 파일별 최신 결과만 대상 (최신순 조회)
+        Map<String, Result> latest = new LinkedHashMap<>();
+        for (Result result : resultRepository.findByQuestion_QuestionIdAndResultCodeFileIdIsNotNullOrderByResultIdDesc(questionId)) {
+            if (result.getMember() == null) continue;
+            latest.putIfAbsent(result.getMember().getMemberId() + ":" + result.getResultCodeFileId(), result);
+        }
+        if (latest.isEmpty()) return null;
+
+        Map<Integer, Map<Integer, CaseVerdict>> verdictsByResult = new HashMap<>();
+        List<Integer> resultIds = latest.values().stream().map(Result::getResultId).toList();
+        for (ResultCase resultCase : resultCaseRepository.findByResult_ResultIdIn(resultIds)) {
+            verdictsByResult.computeIfAbsent(resultCase.getResult().getResultId(), id -> new HashMap<>())
+                    .put(resultCase.getTestCase().getCaseId(), new CaseVerdict(resultCase.getResultCaseId(),
+                            resultCase.getCaseFingerprint(), resultCase.getCasePass(),
+                            resultCase.getCaseTime(), resultCase.getCaseMemory()));
+        }
+
+        // 오래된 제출부터 처리해 같은 디렉터리·언어의 진행률은 최신 제출 기준으로 남김
+        List<Result> ordered = new ArrayList<>(latest.values());
+        Collections.reverse(ordered);
+        List<Target> targets = new ArrayList<>(ordered.size());
+        for (Result result : ordered) {
+            CodeFile codeFile = codeFileRepository.findById(String.valueOf(result.getResultCodeFileId())).orElse(null);
+            if (codeFile == null) {
+                submissionCounter("stale").increment();
+                continue;
+            }
+            Directory directory = codeFile.getDirectory();
+            targets.add(new Target(
+                    result.getResultId(),
+                    result.getMember().getMemberId(),
+                    codeFile.getCodeFileId(),
+                    codeFile.getCodeFilePath(),
+                    directory != null ? directory.getDirectoryId() : null,
+                    directory != null ? directory.getTeam().getTeamId() : null,
+                    result.getResultLang(),
+                    result.getResultSourceHash(),
+                    verdictsByResult.getOrDefault(result.getResultId(), Map.of())
+            ));
+        }
+        return new Plan(question, testcases, fingerprints, targets);
+    }
+
+    /**
+     * 설명: 제출 하나의 바뀐 테스트케이스만 실행 (트랜잭션 밖에서 호출)
+     * @param plan
+     * @param target
+     * @return Regraded 저장할 것이 없으면 null
+     */
+    private Regraded regrade(Plan plan, Target target) throws InterruptedException {
+        // 제출 이후 소스가 바뀌었으면 재사용할 판정과 현재 코드가 달라 재채점하지 않음
+        if (target.sourceHash() == null || !Files.exists(Path.of(target.filePath()))
+                || !target.sourceHash().equals(judgeResultCache.sourceHash(target.filePath()))) {
+            submissionCounter("stale").increment();
+            return null;
+        }
+
+        List<TestCase> changed = plan.testcases().stream()
+                .filter(testcase -> {
+                    CaseVerdict verdict = target.verdicts().get(testcase.getCaseId());
+                    return verdict == null || !verdict.fingerprint().equals(plan.fingerprints().get(testcase.getCaseId()));
+                })
+                .toList();
+        boolean removed = target.verdicts().keySet().stream().anyMatch(caseId -> !plan.fingerprints().containsKey(caseId));
+        if (changed.isEmpty() && !removed) {
+            submissionCounter("unchanged").increment();
+            return null;
+        }
+        caseCounter("reused").increment(plan.testcases().size() - changed.size());
+        if (changed.isEmpty()) return new Regraded(target, changed, List.of());
+
+        throttle();
+        // 재채점 전체를 멤버 하나처럼 공정 분배해 실시간 채점 몫을 넘지 않도록 함
+        JudgeTicket ticket = judgeScheduler.ticket(REJUDGE_MEMBER_KEY, target.codeFileId(), plan.question().getQuestionId(), LANE_JUDGE);
+        List<GradedCase> gradedCases = judgeScheduler.executeQueued(ticket,
+                () -> dockerService.gradeTestcases(target.filePath(), plan.question(), changed));
+        caseCounter("rerun").increment(changed.size());
+        return new Regraded(target, changed, gradedCases);
+    }
+
+    /**
+     * 설명: 재채점한 제출들의 Result, 테스트케이스별 판정, Progress 를 한 트랜잭션에 저장
+     * @param plan
+     * @param batch
+     */
+    private void save(Plan plan, List<Regraded> batch) {
+        inTransaction(false, () -> {
+            for (Regraded regraded : batch) {
+                Target target = regraded.target();
+                Result result = resultRepository.findById(target.resultId()).orElse(null);
+                if (result == null) continue; // 재채점 중 삭제된 제출
+
+                // 바뀐 케이스와 삭제된 케이스의 이전 판정 제거 후 새 판정 저장
+                Set<Integer> changedIds = new HashSet<>();
+                regraded.changed().forEach(testcase -> changedIds.add(testcase.getCaseId()));
+                List<Integer> obsolete = target.verdicts().entrySet().stream()
+                        .filter(entry -> changedIds.contains(entry.getKey()) || !plan.fingerprints().containsKey(entry.getKey()))
+                        .map(entry -> entry.getValue().resultCaseId())
+                        .toList();
+                if (!obsolete.isEmpty()) resultCaseRepository.deleteAllByIdInBatch(obsolete);
+                dockerService.saveResultCases(result, plan.question(), regraded.changed(), regraded.gradedCases());
+
+                // 현재 테스트케이스 전체 기준으로 결과 다시 계산
+                Map<Integer, GradedCase> regradedById = new HashMap<>();
+                for (int i = 0; i < regraded.changed().size(); i++) {
+                    regradedById.put(regraded.changed().get(i).getCaseId(), regraded.gradedCases().get(i));
+                }
+                float time = 0.0f;
+                float memory = 0.0f;
+                int count = 0;
+                for (TestCase testcase : plan.testcases()) {
+                    GradedCase graded = regradedById.get(testcase.getCaseId());
+                    CaseVerdict verdict = graded != null
+                            ? new CaseVerdict(null, null, graded.result().getPass(), (float) graded.result().getTime(),
+                                    (float) (Math.round(graded.memUsedMb() * 100.0) / 100.0))
+                            : target.verdicts().get(testcase.getCaseId());
+
+                    if (time < verdict.time()) time = verdict.time();
+                    if (memory < verdict.memory()) memory = verdict.memory();
+                    if (verdict.pass()) count++;
+                }
+                int progress = (int) ((double) count / plan.testcases().size() * 100.0);
+
+                result.setResultAnswer(count == plan.testcases().size() ? "정답" : "실패");
+                result.setResultTime(time);
+                result.setResultMemory(memory);
+                result.setTestCase(testCaseRepository.getReferenceById(plan.testcases().getFirst().getCaseId()));
+                resultRepository.save(result);
+
+                // 테스트케이스가 바뀌었으므로 이전 진행률보다 낮아지더라도 재채점 결과로 갱신
+                dockerService.saveProgress(target.directoryId(), target.teamId(), target.memberId(),
+                        target.language(), progress, false);
+                submissionCounter("updated").increment();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 설명: 초당 제출 수 제한에 맞춰 다음 실행까지 대기
+     */
+    private void throttle() throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.01, rejudgeProperties.getSubmissionsPerSecond()));
+        long now = System.nanoTime();
+        if (nextStartNanos > now) {
+            TimeUnit.NANOSECONDS.sleep(nextStartNanos - now);
+        }
+        nextStartNanos = Math.max(now, nextStartNanos) + interval;
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> work.get());
+    }
+
+    private Counter submissionCounter(String result) {
+        return Counter.builder("docker.rejudge.submissions")
+                .description("재채점 제출 처리 결과 (updated, unchanged, stale, failed)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter caseCounter(String result) {
+        return Counter.builder("docker.rejudge.cases")
+                .description("재채점 테스트케이스 수 (rerun: 다시 실행, reused: 이전 판정 재사용)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문제 하나의 재채점 대상 (현재 테스트케이스, 케이스별 지문, 제출 목록)
+     */
+    private record Plan(Question question, List<TestCase> testcases, Map<Integer, String> fingerprints,
+                        List<Target> targets) {
+    }
+
+    /**
+     * 재채점할 제출 (최신 결과와 저장된 테스트케이스별 판정)
+     */
+    private record Target(Integer resultId, String memberId, Integer codeFileId, String filePath,
+                          Integer directoryId, Integer teamId, String language, String sourceHash,
+                          Map<Integer, CaseVerdict> verdicts) {
+    }
+
+    /**
+     * 저장된 테스트케이스 판정
+     */
+    private record CaseVerdict(Integer resultCaseId, String fingerprint, boolean pass, float time, float memory) {
+    }
+
+    /**
+     * 다시 실행한 테스트케이스와 채점 결과 (같은 순서)
+     */
+    private record Regraded(Target target, List<TestCase> changed, List<GradedCase> gradedCases) {
+    }
+}
@@ -0,0 +1,66 @@
+package solid.backend.Docker.store;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지연 저장할 채점 결과 (저널에 한 줄로 기록)
+ * 전체 실행은 결과(result)와 테스트케이스별 판정(result_case), 진행률을 함께 가지고, 테스트 실행은 진행률만 가진다.
+ * @param key 중복 저장 방지 식별자 (result.result_outcome_key)
+ * @param queuedAt 접수 시각 (epoch ms, 저장 지연 측정용)
+ * @param result 실행 결과 (없으면 진행률만 저장)
+ * @param progress 진행률 (없으면 저장하지 않음)
+ */
+public record JudgeOutcome(String key, long queuedAt, ResultOutcome result, ProgressOutcome progress) {
+
+    /**
+     * 설명: 새 식별자로 채점 결과 생성
+     * @param result
+     * @param progress
+     * @return JudgeOutcome
+     */
+    public static JudgeOutcome of(ResultOutcome result, ProgressOutcome progress) {
+        return new JudgeOutcome(UUID.randomUUID().toString(), System.currentTimeMillis(), result, progress);
+    }
+
+    /**
+     * 실행 결과 (result 행)
+     */
+    public record ResultOutcome(String memberId, Integer questionId, Integer caseId, Integer codeFileId,
+                                String sourceHash, String answer, float time, float memory, String language,
+                                List<CaseOutcome> cases) {
+    }
+
+    /**
+     * 테스트케이스별 판정 (result_case 행)
+     */
+    public record CaseOutcome(Integer caseId, String fingerprint, boolean pass, float time, float memory) {
+    }
+
+    /**
+     * 언어별 진행률 (progress 행)
+     * @param keepHighest 기존 진행률보다 높을 때만 저장할지 여부
+     */
+    public record ProgressOutcome(Integer directoryId, Integer teamId, String memberId, String language,
+                                  int progress, boolean keepHighest) {
+
+        /**
+         * 설명: 같은 진행률 행에 이어서 적용한 결과 (먼저 적용할 this 다음에 next 적용)
+         * @param next
+         * @return ProgressOutcome
+         */
+        ProgressOutcome then(ProgressOutcome next) {
+            if (!next.keepHighest()) return next;
+            return new ProgressOutcome(directoryId, teamId, memberId, language,
+                    Math.max(progress, next.progress()), keepHighest);
+        }
+
+        /**
+         * 설명: 진행률 행 식별 기준
+         * @return List<Object>
+         */
+        List<Object> target() {
+            return List.of(directoryId, teamId, memberId, String.valueOf(language));
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package solid.backend.Docker.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import solid.backend.Docker.store.JudgeOutcome.CaseOutcome;
+import solid.backend.Docker.store.JudgeOutcome.ProgressOutcome;
+import solid.backend.Docker.store.JudgeOutcome.ResultOutcome;
+import solid.backend.config.DockerProperties;
+import solid.backend.config.FileStorageConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static solid.backend.Docker.constant.DockerConstants.WRITE_BEHIND_DIR;
+
+/**
+ * 채점 결과 지연 저장 (write-behind)
+ * 채점 결과(result, result_case)와 진행률(progress)을 요청마다 저장하지 않고 저널에 기록한 뒤 모아 두었다가,
+ * 개수(batch-size) 또는 주기(flush-interval-ms)마다 한 트랜잭션에서 JDBC 일괄 insert/upsert 로 저장한다.
+ * 같은 진행률 행에 대한 여러 요청은 저장 전에 하나로 합치고, 저장에 실패한 구간은 저널에 남겨 다음 주기에 다시 저장한다.
+ */
+@Slf4j
+@Component
+public class JudgeOutcomeWriter {
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private static final String INSERT_RESULT = """
+            INSERT INTO result (result_answer, result_time, result_memory, result_lang, result_code_file_id,
+                                result_source_hash, result_outcome_key, case_id, question_id, member_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_RESULT_CASE = """
+            INSERT INTO result_case (case_fingerprint, case_pass, case_time, case_memory, result_id, case_id)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_RESULT_IDS = """
+            SELECT result_id, result_outcome_key FROM result WHERE result_outcome_key IN (:keys)""";
+
+    // 진행률 행이 없으면 만들고 (팀 멤버가 아니면 만들지 않음), 있으면 아래 UPDATE 로 반영
+    private static final String INSERT_PROGRESS = """
+            INSERT INTO progress (progress_complete, progress_updated_at, language, directory_id, team_user_id)
+            SELECT ?, ?, ?, ?, tu.team_user_id FROM team_user tu
+            WHERE tu.member_id = ? AND tu.team_id = ?
+              AND NOT EXISTS (SELECT 1 FROM progress p
+                              WHERE p.directory_id = ? AND p.team_user_id = tu.team_user_id AND p.language = ?)""";
+
+    // 진행률을 그대로 바꾸는 요청은 행에 기록된 반영 시각보다 나중에 접수된 경우에만 반영
+    // (저널을 다시 적용할 때 그 사이 저장된 더 최근 진행률을 오래된 값으로 덮어쓰지 않도록), 높을 때만 저장하는 요청은 항상 반영
+    private static final String UPDATE_PROGRESS = """
+            UPDATE progress
+            SET progress_complete = CASE WHEN ? AND progress_complete >= ? THEN progress_complete ELSE ? END,
+                progress_updated_at = CASE WHEN progress_updated_at IS NULL OR progress_updated_at < ? THEN ? ELSE progress_updated_at END
+            WHERE directory_id = ? AND language = ?
+              AND team_user_id IN (SELECT team_user_id FROM team_user WHERE member_id = ? AND team_id = ?)
+              AND (? OR progress_updated_at IS NULL OR progress_updated_at <= ?)""";
+
+    private final DockerProperties.WriteBehind writeBehindProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutcomeJournal journal;
+    private final ExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object appendLock = new Object();
+    private final Object flushLock = new Object();
+    private final Deque<Batch> sealed = new ArrayDeque<>();
+    private final MeterRegistry meterRegistry;
+    private List<JudgeOutcome> pending = new ArrayList<>();
+
+    public JudgeOutcomeWriter(DockerProperties dockerProperties, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                              FileStorageConfig fileStorageConfig, MeterRegistry meterRegistry) {
+        this.writeBehindProperties = dockerProperties.getWriteBehind();
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.journal = new OutcomeJournal(Path.of(fileStorageConfig.getUploadDir(), WRITE_BEHIND_DIR).toAbsolutePath().normalize(),
+                objectMapper, writeBehindProperties.isJournalSync());
+        this.flusher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "write-behind-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 이전 실행에서 저장하지 못한 구간은 첫 주기에 먼저 저장 (사용하지 않도록 바뀌었어도 남은 구간은 저장)
+        try {
+            for (OutcomeJournal.Segment segment : journal.recover()) {
+                sealed.add(new Batch(segment.file(), segment.outcomes(), true));
+            }
+            if (!sealed.isEmpty()) log.info("저장하지 못한 채점 결과 저널 {}개 구간 재적용 예정", sealed.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("채점 결과 저널을 읽지 못했습니다.", e);
+        }
+
+        meterRegistry.gauge("docker.write-behind.lag", this, JudgeOutcomeWriter::lagSeconds);
+        meterRegistry.gauge("docker.write-behind.pending", this, JudgeOutcomeWriter::pendingCount);
+    }
+
+    /**
+     * 설명: 채점 결과 저장 요청 (사용 시 저널에 기록 후 바로 반환, 사용하지 않으면 바로 저장)
+     * @param outcome
+     */
+    public void write(JudgeOutcome outcome) {
+        if (!writeBehindProperties.isEnabled()) {
+            persist(List.of(outcome), false);
+            return;
+        }
+
+        boolean full;
+        try {
+            synchronized (appendLock) {
+                journal.append(outcome);
+                pending.add(outcome);
+                full = pending.size() >= writeBehindProperties.getBatchSize();
+            }
+        } catch (UncheckedIOException e) {
+            // 저널에 기록할 수 없으면 유실되지 않도록 요청 스레드에서 바로 저장
+            log.warn("{} 바로 저장합니다. ({})", e.getMessage(), e.getCause().getMessage());
+            persist(List.of(outcome), false);
+            return;
+        }
+        if (full && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 설명: 모아 둔 채점 결과를 구간 순서대로 저장 (실패한 구간부터는 다음 주기에 다시 저장)
+     */
+    @Scheduled(fixedDelayString = "${docker.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        synchronized (flushLock) {
+            synchronized (appendLock) {
+                Path file = journal.seal();
+                if (!pending.isEmpty()) {
+                    sealed.add(new Batch(file, pending, false));
+                    pending = new ArrayList<>();
+                } else if (file != null) {
+                    // 기록 도중 실패해 바로 저장한 결과만 남은 구간
+                    journal.delete(file);
+                }
+            }
+
+            Batch batch;
+            while ((batch = peek()) != null) {
+                long startTime = System.nanoTime();
+                try {
+                    persist(batch.outcomes(), batch.replayed());
+                    flushTimer("success").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                } catch (RuntimeException e) {
+                    flushTimer("failure").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    log.warn("채점 결과 {}건 저장 실패, 다음 주기에 다시 저장합니다: {}", batch.outcomes().size(), e.getMessage());
+                    return;
+                }
+                synchronized (appendLock) {
+                    sealed.poll();
+                }
+                if (batch.file() != null) journal.delete(batch.file());
+            }
+        }
+    }
+
+    /**
+     * 설명: 애플리케이션 종료 시 남은 채점 결과 저장 (실패하면 저널에 남아 재시작 시 저장)
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * 설명: 가장 오래 기다린 미저장 채점 결과의 대기 시간(초)
+     * @return double
+     */
+    double lagSeconds() {
+        synchronized (appendLock) {
+            long oldest = Long.MAX_VALUE;
+            for (Batch batch : sealed) {
+                if (!batch.outcomes().isEmpty()) {
+                    oldest = batch.outcomes().getFirst().queuedAt();
+                    break;
+                }
+            }
+            if (oldest == Long.MAX_VALUE && !pending.isEmpty()) oldest = pending.getFirst().queuedAt();
+            return oldest == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+        }
+    }
+
+    /**
+     * 설명: 저장을 기다리는 채점 결과 수
+     * @return int
+     */
+    int pendingCount() {
+        synchronized (appendLock) {
+            return pending.size() + sealed.stream().mapToInt(batch -> batch.outcomes().size()).sum();
+        }
+    }
+
+    private Batch peek() {
+        synchronized (appendLock) {
+            return sealed.peek();
+        }
+    }
+
+    /**
+     * 설명: 채점 결과 일괄 저장 (한 트랜잭션)
+     * @param outcomes
+     * @param replayed 저널 재적용 여부 (이미 저장된 결과는 건너뜀)
+     */
+    private void persist(List<JudgeOutcome> outcomes, boolean replayed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<JudgeOutcome> results = outcomes.stream().filter(outcome -> outcome.result() != null).toList();
+            if (replayed && !results.isEmpty()) {
+                Set<String> stored = findResultIds(results.stream().map(JudgeOutcome::key).toList()).keySet();
+                results = results.stream().filter(outcome -> !stored.contains(outcome.key())).toList();
+            }
+            insertResults(results);
+
+            // 같은 진행률 행은 접수 순서대로 합쳐서 한 번만 반영 (반영 시각은 마지막 접수 시각)
+            Map<List<Object>, QueuedProgress> progress = new LinkedHashMap<>();
+            for (JudgeOutcome outcome : outcomes) {
+                if (outcome.progress() == null) continue;
+                progress.merge(outcome.progress().target(), new QueuedProgress(outcome.progress(), outcome.queuedAt()),
+                        QueuedProgress::then);
+            }
+            upsertProgress(progress.values());
+        });
+    }
+
+    /**
+     * 설명: 실행 결과와 테스트케이스별 판정 일괄 insert
+     * @param outcomes
+     */
+    private void insertResults(List<JudgeOutcome> outcomes) {
+        if (outcomes.isEmpty()) return;
+
+        List<Object[]> resultRows = new ArrayList<>(outcomes.size());
+        for (JudgeOutcome outcome : outcomes) {
+            ResultOutcome result = outcome.result();
+            resultRows.add(new Object[]{result.answer(), result.time(), result.memory(), result.language(),
+                    result.codeFileId(), result.sourceHash(), outcome.key(), result.caseId(), result.questionId(),
+                    result.memberId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESULT, resultRows);
+
+        // 생성된 결과 ID 는 드라이버별 일괄 생성 키 지원에 의존하지 않고 저장 식별자로 조회
+        Map<String, Integer> resultIds = findResultIds(outcomes.stream().map(JudgeOutcome::key).toList());
+        List<Object[]> caseRows = new ArrayList<>();
+        for (JudgeOutcome outcome : outcomes) {
+            Integer resultId = resultIds.get(outcome.key());
+            for (CaseOutcome graded : outcome.result().cases()) {
+                caseRows.add(new Object[]{graded.fingerprint(), graded.pass(), graded.time(), graded.memory(),
+                        resultId, graded.caseId()});
+            }
+        }
+        if (!caseRows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_RESULT_CASE, caseRows);
+    }
+
+    /**
+     * 설명: 진행률 일괄 upsert (행이 없으면 생성 후, 기존 진행률보다 높을 때만 저장하는 요청은 낮아지지 않게 갱신)
+     * @param progress
+     */
+    private void upsertProgress(Collection<QueuedProgress> progress) {
+        if (progress.isEmpty()) return;
+
+        List<Object[]> insertRows = new ArrayList<>();
+        List<Object[]> updateRows = new ArrayList<>(progress.size());
+        for (QueuedProgress queued : progress) {
+            ProgressOutcome outcome = queued.progress();
+            // 기존 진행률보다 높을 때만 저장하는 요청은 새 행(0)보다 높을 때만 생성
+            if (!outcome.keepHighest() || outcome.progress() > 0) {
+                insertRows.add(new Object[]{outcome.progress(), queued.queuedAt(), outcome.language(), outcome.directoryId(),
+                        outcome.memberId(), outcome.teamId(), outcome.directoryId(), outcome.language()});
+            }
+            updateRows.add(new Object[]{outcome.keepHighest(), outcome.progress(), outcome.progress(),
+                    queued.queuedAt(), queued.queuedAt(), outcome.directoryId(), outcome.language(), outcome.memberId(),
+                    outcome.teamId(), outcome.keepHighest(), queued.queuedAt()});
+        }
+        if (!insertRows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_PROGRESS, insertRows);
+        jdbcTemplate.batchUpdate(UPDATE_PROGRESS, updateRows);
+    }
+
+    /**
+     * 설명: 저장 식별자로 결과 ID 조회
+     * @param keys
+     * @return Map<String, Integer> 저장 식별자별 결과 ID
+     */
+    private Map<String, Integer> findResultIds(List<String> keys) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += IN_CLAUSE_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + IN_CLAUSE_SIZE));
+            namedJdbcTemplate.query(SELECT_RESULT_IDS, Map.of("keys", chunk),
+                    row -> { ids.put(row.getString("result_outcome_key"), row.getInt("result_id")); });
+        }
+        return ids;
+    }
+
+    private Timer flushTimer(String result) {
+        return Timer.builder("docker.write-behind.flush")
+                .description("지연 저장 일괄 저장 소요 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접수 시각과 함께 합친 진행률
+     */
+    private record QueuedProgress(ProgressOutcome progress, long queuedAt) {
+
+        QueuedProgress then(QueuedProgress next) {
+            return new QueuedProgress(progress.then(next.progress()), Math.max(queuedAt, next.queuedAt()));
+        }
+    }
+
+    /**
+     * 저장할 채점 결과 구간 (저널 파일이 없으면 저널 없이 모은 결과)
+     */
+    private record Batch(Path file, List<JudgeOutcome> outcomes, boolean replayed) {
+    }
+}
@@ -0,0 +1,166 @@
+package solid.backend.Docker.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 지연 저장 저널 (추가 전용)
+ * 접수한 채점 결과를 DB 에 저장하기 전에 현재 구간 파일에 한 줄씩 기록하고,
+ * 저장할 때 구간을 닫아 새 구간으로 넘긴 뒤 DB 에 저장된 구간 파일만 삭제한다.
+ * 서버가 비정상 종료되면 남은 구간 파일을 기동 시 순서대로 다시 읽어 저장한다.
+ * 업로드 디렉터리를 여러 JVM 이 함께 쓰는 경우를 위해 JVM 마다 잠금 파일로 번호 디렉터리 하나를 차지해 기록하며,
+ * 종료된 JVM 의 디렉터리는 다음에 그 번호를 차지한 JVM 이 이어서 저장한다.
+ */
+@Slf4j
+class OutcomeJournal {
+    private static final String SEGMENT_PREFIX = "outcome-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String LOCK_FILE = ".lock";
+
+    private final Path root;
+    private final ObjectMapper objectMapper;
+    private final boolean sync;
+    private Path directory;
+    private FileChannel lockChannel; // 사용하는 동안 번호 디렉터리 잠금 유지
+    private long sequence;
+    private FileChannel channel;
+    private Path current;
+
+    OutcomeJournal(Path root, ObjectMapper objectMapper, boolean sync) {
+        this.root = root;
+        this.objectMapper = objectMapper;
+        this.sync = sync;
+    }
+
+    /**
+     * 설명: 이전 실행에서 저장하지 못한 구간 읽기 (오래된 순서, 마지막 줄이 잘린 경우 해당 줄만 제외)
+     * @return List<Segment>
+     */
+    List<Segment> recover() throws IOException {
+        directory = lockSlot();
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> ordered = files.filter(file -> sequenceOf(file) >= 0)
+                    .sorted(Comparator.comparingLong(OutcomeJournal::sequenceOf))
+                    .toList();
+            for (Path file : ordered) {
+                sequence = Math.max(sequence, sequenceOf(file) + 1);
+                segments.add(new Segment(file, read(file)));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 설명: 현재 구간에 채점 결과 한 줄 기록
+     * @param outcome
+     */
+    void append(JudgeOutcome outcome) {
+        try {
+            if (channel == null) {
+                current = directory.resolve(SEGMENT_PREFIX + sequence++ + SEGMENT_SUFFIX);
+                channel = FileChannel.open(current, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            }
+            ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(outcome) + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            if (sync) channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채점 결과를 저널에 기록하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 설명: 현재 구간을 닫고 반환 (다음 기록은 새 구간에), 기록된 것이 없으면 null
+     * @return Path
+     */
+    Path seal() {
+        if (channel == null) return null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("저널 구간을 닫지 못했습니다: {} ({})", current, e.getMessage());
+        }
+        Path sealed = current;
+        channel = null;
+        current = null;
+        return sealed;
+    }
+
+    /**
+     * 설명: DB 에 저장된 구간 삭제
+     * @param segment
+     */
+    void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("저장된 저널 구간을 삭제하지 못했습니다: {} ({})", segment, e.getMessage());
+        }
+    }
+
+    /**
+     * 설명: 다른 JVM 이 사용하지 않는 첫 번호 디렉터리를 잠가 차지 (잠금은 JVM 종료 시 풀림)
+     * @return Path
+     */
+    private Path lockSlot() throws IOException {
+        for (int slot = 0; ; slot++) {
+            Path candidate = Files.createDirectories(root.resolve(String.valueOf(slot)));
+            FileChannel channel = FileChannel.open(candidate.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                if (channel.tryLock() != null) {
+                    lockChannel = channel;
+                    return candidate;
+                }
+            } catch (OverlappingFileLockException e) {
+                // 같은 JVM 이 이미 잠근 디렉터리
+            }
+            channel.close();
+        }
+    }
+
+    private List<JudgeOutcome> read(Path file) throws IOException {
+        List<JudgeOutcome> outcomes = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) continue;
+            try {
+                outcomes.add(objectMapper.readValue(line, JudgeOutcome.class));
+            } catch (JsonProcessingException e) {
+                log.warn("저널의 손상된 줄을 건너뜁니다: {} ({})", file, e.getOriginalMessage());
+            }
+        }
+        return outcomes;
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) return -1;
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 닫힌 저널 구간과 기록된 채점 결과
+     */
+    record Segment(Path file, List<JudgeOutcome> outcomes) {
+    }
+}
@@ -3,6 +3,7 @@ package solid.backend.Progress.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import solid.backend.Docker.runtime.LanguageRuntimeRegistry;
 import solid.backend.Progress.dto.ProgressDto;
 import solid.backend.Progress.dto.ProgressListDto;
 import solid.backend.Progress.dto.QuestionProgressDto;
@@ -25,6 +26,7 @@ public class ProgressServiceImpl implements ProgressService{
     private final MemberRepository memberRepository;
     private final CodeFileRepository codeFileRepository;
     private final ContainerRepository containerRepository;
+    private final LanguageRuntimeRegistry languageRuntimeRegistry;
     
 
     /**
@@ -68,23 +70,7 @@ public class ProgressServiceImpl implements ProgressService{
                     
                     // 언어 포맷팅
                     String lang = progress.getLanguage();
-                    if (lang != null) {
-                        switch (lang.toLowerCase()) {
-                            case "javascript":
-                                dto.setLanguage("JavaScript");
-                                break;
-                            case "java":
-                                dto.setLanguage("Java");
-                                break;
-                            case "python":
-                                dto.setLanguage("Python");
-                                break;
-                            default:
-                                dto.setLanguage(lang);
-                        }
-                    } else {
-                        dto.setLanguage("N/A");
-                    }
+                    dto.setLanguage(lang != null ? languageRuntimeRegistry.displayName(lang) : "N/A");
                     
                     result.add(dto);
                 }
@@ -311,16 +297,7 @@ public class ProgressServiceImpl implements ProgressService{
             // log.debug("Most recent language: {}", lang);
             
             // 언어명을 적절한 형식으로 변환
-            switch (lang.toLowerCase()) {
-                case "javascript":
-                    return "JavaScript";
-                case "java":
-                    return "Java";
-                case "python":
-                    return "Python";
-                default:
-                    return lang;
-            }
+            return languageRuntimeRegistry.displayName(lang);
         }
         
         // 결과 없음 로그는 필요시 SLF4J 로거 사용
@@ -336,16 +313,7 @@ public class ProgressServiceImpl implements ProgressService{
             return "N/A";
         }
         
-        switch (language.toLowerCase()) {
-            case "javascript":
-                return "JavaScript";
-            case "java":
-                return "Java";
-            case "python":
-                return "Python";
-            default:
-                return language;
-        }
+        return languageRuntimeRegistry.displayName(language);
     }
     
     /**
@@ -360,9 +328,8 @@ public class ProgressServiceImpl implements ProgressService{
             String fileName = codeFile.getCodeFileName();
             if (fileName != null && fileName.toLowerCase().startsWith(memberId.toLowerCase())) {
                 // 파일 확장자로 언어 판단
-                if (fileName.endsWith(".js")) return "JavaScript";
-                if (fileName.endsWith(".java")) return "Java";
-                if (fileName.endsWith(".py")) return "Python";
+                String language = languageRuntimeRegistry.displayNameOfFile(fileName);
+                if (language != null) return language;
             }
         }
         
@@ -1,7 +1,9 @@
 package solid.backend.Question.Controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -9,8 +11,10 @@ import solid.backend.Question.dto.QuestionCreateDto;
 import solid.backend.Question.dto.QuestionListDto;
 import solid.backend.Question.dto.QuestionUpdDto;
 import solid.backend.Question.dto.TestCaseListDto;
+import solid.backend.Question.dto.TestCaseUploadDto;
 import solid.backend.Question.service.QuestionService;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -109,4 +113,28 @@ public class QuestionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("FAIL");
         }
     }
+
+    /**
+     * 설명: 테스트케이스 압축 파일 일괄 등록 (큰 입력/정답은 파일로 저장)
+     * zip 은 요청 본문으로 받아 그대로 스트리밍하므로 전역 multipart 크기 제한을 받지 않는다 (docker.testcase.max-archive-bytes 로 제한)
+     * @param testCaseUploadDto
+     * @param request
+     * @return ResponseEntity<?>
+     */
+    @ResponseBody
+    @PostMapping(value = "/testcase/upload", consumes = {"application/zip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> uploadTestcases(@ModelAttribute TestCaseUploadDto testCaseUploadDto, HttpServletRequest request) {
+        try (InputStream archive = request.getInputStream()) {
+            return ResponseEntity.ok(questionService.uploadTestcases(testCaseUploadDto, archive));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (Exception e) {
+            e.printStackTrace();
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "테스트케이스 등록에 실패했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
 }
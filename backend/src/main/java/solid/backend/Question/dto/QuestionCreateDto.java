@@ -20,5 +20,6 @@ public class QuestionCreateDto {
     private String questionOutput;
     private Float questionTime;
     private Integer questionMem;
+    private Boolean questionFailFast; // 채점 시 첫 실패에서 중단 여부
     private List<TestCaseDto> testcases;
 }
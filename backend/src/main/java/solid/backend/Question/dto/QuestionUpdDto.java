@@ -18,5 +18,6 @@ public class QuestionUpdDto {
     private String questionOutput;
     private Float questionTime;
     private Integer questionMem;
+    private Boolean questionFailFast; // 채점 시 첫 실패에서 중단 여부
     private List<TestCaseUpdDto> testcases;
 }
@@ -0,0 +1,13 @@
+package solid.backend.Question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseUploadDto {
+    private Integer questionId;
+    private Boolean caseCheck; // 문제에 공개할지 여부 (기본 비공개)
+}
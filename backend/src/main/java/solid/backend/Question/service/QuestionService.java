@@ -4,7 +4,9 @@ import solid.backend.Question.dto.QuestionCreateDto;
 import solid.backend.Question.dto.QuestionListDto;
 import solid.backend.Question.dto.QuestionUpdDto;
 import solid.backend.Question.dto.TestCaseListDto;
+import solid.backend.Question.dto.TestCaseUploadDto;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface QuestionService {
@@ -43,4 +45,12 @@ public interface QuestionService {
      * @param questionId
      */
     void deleteQuestion(Integer questionId);
+
+    /**
+     * 설명: 테스트케이스 압축 파일 일괄 등록
+     * @param testCaseUploadDto
+     * @param archive <이름>.in, <이름>.out 쌍을 담은 zip 스트림
+     * @return int 등록된 테스트케이스 수
+     */
+    int uploadTestcases(TestCaseUploadDto testCaseUploadDto, InputStream archive);
 }
@@ -5,6 +5,9 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import solid.backend.CodeFile.dto.CodeFileListDto;
+import solid.backend.Docker.cache.JudgeResultCache;
+import solid.backend.Docker.service.RejudgeService;
+import solid.backend.common.TestCaseStorage;
 import solid.backend.Question.dto.*;
 import solid.backend.Question.repository.QuestionQueryRepository;
 import solid.backend.entity.Container;
@@ -17,7 +20,10 @@ import solid.backend.jpaRepository.QuestionRepository;
 import solid.backend.jpaRepository.TeamRepository;
 import solid.backend.jpaRepository.TestCaseRepository;
 import solid.backend.jpaRepository.ResultRepository;
+import solid.backend.jpaRepository.ResultCaseRepository;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,6 +37,10 @@ public class QuestionServiceImpl implements QuestionService{
     private final QuestionQueryRepository questionQueryRepository;
     private final DirectoryRepository directoryRepository;
     private final ResultRepository resultRepository;
+    private final ResultCaseRepository resultCaseRepository;
+    private final JudgeResultCache judgeResultCache;
+    private final TestCaseStorage testCaseStorage;
+    private final RejudgeService rejudgeService;
 
     /**
      * 설명: 전체 문제 조회
@@ -128,6 +138,7 @@ public class QuestionServiceImpl implements QuestionService{
         question.setQuestionOutput(questionCreateDto.getQuestionOutput());
         question.setQuestionTime(questionCreateDto.getQuestionTime());
         question.setQuestionMem(questionCreateDto.getQuestionMem());
+        question.setQuestionFailFast(questionCreateDto.getQuestionFailFast());
         question.setDirectory(directory);
 
         questionRepository.save(question);
@@ -136,8 +147,8 @@ public class QuestionServiceImpl implements QuestionService{
             TestCase testcase = new TestCase();
 
             testcase.setQuestion(question);
-            testcase.setCaseEx(testCaseDto.getCaseEx());
-            testcase.setCaseAnswer(testCaseDto.getCaseAnswer());
+            // 컬럼 크기를 넘는 입력/정답은 파일로 저장
+            testCaseStorage.store(testcase, question.getQuestionId(), testCaseDto.getCaseEx(), testCaseDto.getCaseAnswer());
             testcase.setCaseCheck(testCaseDto.getCaseCheck());
 
             testCaseRepository.save(testcase);
@@ -163,16 +174,27 @@ public class QuestionServiceImpl implements QuestionService{
         question.setQuestionOutput(questionUpdDto.getQuestionOutput());
         question.setQuestionTime(questionUpdDto.getQuestionTime());
         question.setQuestionMem(questionUpdDto.getQuestionMem());
+        question.setQuestionFailFast(questionUpdDto.getQuestionFailFast());
 
         // 테스트 케이스 수정
         for (TestCaseUpdDto testCaseUpdDto : questionUpdDto.getTestcases()) {
             TestCase testcase = testCaseRepository.findById(testCaseUpdDto.getCaseId())
                     .orElseThrow(() -> new EntityNotFoundException("해당 테스트케이스가 존재하지 않습니다."));
 
-            testcase.setCaseEx(testCaseUpdDto.getCaseEx());
-            testcase.setCaseAnswer(testCaseUpdDto.getCaseAnswer());
+            // 파일 테스트케이스는 앞부분만 내려가므로, 앞부분 그대로 돌아오면 파일 유지
+            boolean unchangedFile = testCaseStorage.isFileBacked(testcase)
+                    && testcase.getCaseEx().equals(testCaseUpdDto.getCaseEx())
+                    && testcase.getCaseAnswer().equals(testCaseUpdDto.getCaseAnswer());
+            if (!unchangedFile) {
+                testCaseStorage.store(testcase, question.getQuestionId(), testCaseUpdDto.getCaseEx(), testCaseUpdDto.getCaseAnswer());
+            }
             testcase.setCaseCheck(testCaseUpdDto.getCaseCheck());
         }
+
+        // 이전 테스트케이스 기준 채점 결과 제거
+        judgeResultCache.invalidateQuestion(question.getQuestionId());
+        // 기존 제출은 바뀐 테스트케이스만 커밋 후 백그라운드에서 재채점
+        rejudgeService.schedule(question.getQuestionId());
     }
 
     /**
@@ -185,10 +207,39 @@ public class QuestionServiceImpl implements QuestionService{
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 문제가 존재하지 않습니다."));
 
-        // 먼저 이 문제와 관련된 모든 Result 삭제
+        // 먼저 이 문제와 관련된 모든 Result (테스트케이스별 결과 포함) 삭제
+        resultCaseRepository.deleteByResult_Question(question);
         resultRepository.deleteByQuestion(question);
         
         // 그 다음 Question 삭제 (TestCase는 cascade로 자동 삭제됨)
         questionRepository.delete(question);
+        testCaseStorage.deleteQuestion(questionId);
+        judgeResultCache.invalidateQuestion(questionId);
+    }
+
+    /**
+     * 설명: 테스트케이스 압축 파일 일괄 등록 (<이름>.in / <이름>.out 쌍, 파일로 저장)
+     * @param testCaseUploadDto
+     * @param archive
+     * @return int
+     */
+    @Override
+    @Transactional
+    public int uploadTestcases(TestCaseUploadDto testCaseUploadDto, InputStream archive) {
+        Question question = questionRepository.findById(testCaseUploadDto.getQuestionId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 문제가 존재하지 않습니다."));
+
+        List<TestCase> testcases;
+        try {
+            testcases = testCaseStorage.importArchive(question, archive, Boolean.TRUE.equals(testCaseUploadDto.getCaseCheck()));
+        } catch (IOException e) {
+            throw new RuntimeException("테스트케이스 압축 파일 처리 실패: " + e.getMessage(), e);
+        }
+        testCaseRepository.saveAll(testcases);
+
+        // 테스트케이스가 바뀌었으므로 이전 채점 결과 제거
+        judgeResultCache.invalidateQuestion(question.getQuestionId());
+        rejudgeService.schedule(question.getQuestionId());
+        return testcases.size();
     }
 }
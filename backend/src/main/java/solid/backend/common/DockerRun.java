@@ -1,64 +1,511 @@
 package solid.backend.common;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import solid.backend.Docker.dto.BuildResultDto;
 import solid.backend.Docker.dto.DockerResultDto;
+import solid.backend.Docker.engine.CliSandboxBackend;
+import solid.backend.Docker.engine.EngineProcess;
+import solid.backend.Docker.engine.EngineSandboxBackend;
+import solid.backend.Docker.engine.SandboxBackend;
+import solid.backend.Docker.executor.ExecutionPhaseTimer;
+import solid.backend.Docker.executor.ExpectedOutput;
+import solid.backend.Docker.executor.InteractiveChannel;
+import solid.backend.Docker.executor.OutputCapture;
+import solid.backend.Docker.executor.StdinSource;
+import solid.backend.Docker.executor.WorkspaceArchive;
+import solid.backend.Docker.pool.DockerContainerPool;
+import solid.backend.Docker.pool.PooledContainer;
+import solid.backend.Docker.runtime.LanguageRuntime;
+import solid.backend.Docker.runtime.LanguageRuntimeRegistry;
+import solid.backend.config.DockerProperties;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class DockerRun {
+    /**
+     * 실행 전후 컨테이너 cgroup 값을 읽어 종료 코드, 최대 메모리(bytes), CPU 사용 시간(us),
+     * 사용자 코드 시작/종료 시각(epoch ns)을 표준 에러 마지막 줄에 출력
+     * cgroup v2(memory.peak, cpu.stat)를 우선 사용하고 없으면 v1(memory.max_usage_in_bytes, cpuacct.usage) 사용
+     * 최대 메모리는 컨테이너 수명 전체 값이므로 컨테이너는 실행 한 번에만 사용 (풀 컨테이너도 반납 시 폐기)
+     */
+    private static final String CGROUP_STAT_PREFIX =
+            "judge_peak() { cat /sys/fs/cgroup/memory.peak 2>/dev/null"
+                    + " || cat /sys/fs/cgroup/memory/memory.max_usage_in_bytes 2>/dev/null || echo 0; }; "
+                    + "judge_cpu() { if [ -f /sys/fs/cgroup/cpu.stat ]; then sed -n 's/^usage_usec //p' /sys/fs/cgroup/cpu.stat;"
+                    + " else echo $(( $(cat /sys/fs/cgroup/cpuacct/cpuacct.usage 2>/dev/null || echo 0) / 1000 )); fi; }; "
+                    + "judge_c0=$(judge_cpu); judge_t0=$(date +%s%N); ( ";
+    private static final String CGROUP_STAT_SUFFIX =
+            " ); judge_code=$?; judge_t1=$(date +%s%N); printf '\\n" + STAT_FRAME_PREFIX + "%s %s %s %s %s\\n'"
+                    + " \"$judge_code\" \"$(judge_peak)\" \"$(( $(judge_cpu) - judge_c0 ))\" \"$judge_t0\" \"$judge_t1\" >&2";
+
+    /**
+     * 대화형 실행 종료 후 남은 출력을 클라이언트가 확인할 때까지 기다리는 최대 시간(ms)
+     */
+    private static final long INTERACTIVE_DRAIN_MILLIS = 5000;
+
+    /**
+     * 디렉터리를 연결해 실행할 때 샌드박스 사용자가 쓸 수 있도록 여는 권한
+     */
+    private static final Set<PosixFilePermission> SANDBOX_SHARED_DIR_PERMISSIONS = PosixFilePermissions.fromString("rwxrwxrwx");
+
+    private final DockerContainerPool containerPool;
+    private final DockerProperties dockerProperties;
+    private final EngineSandboxBackend engineBackend;
+    private final CliSandboxBackend cliBackend;
+    private final LanguageRuntimeRegistry runtimeRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ExecutionPhaseTimer phaseTimer;
 
     /**
-     * 설명: 언어별 도커 컨테이너 생성 명령어 추출
+     * 설명: 풀 컨테이너를 우선 사용해 코드 실행 (풀이 비어 있으면 새 컨테이너로 실행)
      * @param filePath
      * @param extension
-     * @return String[]
+     * @param stdin
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
      */
-    public String[] buildDockerCommand(String filePath, String extension, String input, int mem) {
+    public DockerResultDto execute(String filePath, String extension, StdinSource stdin, int mem, float timeoutSeconds) {
+        return execute(filePath, extension, stdin, null, mem, timeoutSeconds);
+    }
+
+    /**
+     * 설명: 정답과 스트리밍 비교하며 코드 실행
+     * @param filePath
+     * @param extension
+     * @param stdin
+     * @param expected 정답 (없으면 null)
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    public DockerResultDto execute(String filePath, String extension, StdinSource stdin, ExpectedOutput expected,
+                                   int mem, float timeoutSeconds) {
         Path path = Path.of(filePath);
-        String dir = path.getParent().toString();
-        String fileName = path.getFileName().toString();
-        String memoryLimit = mem + "m";
-
-        return switch (extension) {
-            case "py" -> new String[]{
-                    "docker", "run", "--memory=" + memoryLimit, "--rm", "-v", dir + ":/app", "-i",
-                    "python:3.11", "sh", "-c",
-                    "echo " + input + " | python /app/" + fileName
-            };
-            case "java" -> new String[]{
-                    "docker", "run", "--memory=" + memoryLimit, "--rm", "-v", dir + ":/app", "-i",
-                    "openjdk:21", "sh", "-c",
-                    "cd /app && javac " + fileName + " && echo " + input + " | java " + fileName.replace(".java", "")
-            };
-            case "js" -> new String[]{
-                    "docker", "run", "--memory=" + memoryLimit, "--rm", "-v", dir + ":/app", "-i",
-                    "node:20", "sh", "-c",
-                    "echo " + input + " | node /app/" + fileName
-            };
-            default -> throw new UnsupportedOperationException("지원하지 않는 언어입니다: " + extension);
+        String script = buildLaunchCommand(path.getFileName().toString(), extension, null);
+        return run(path, extension, script, stdin, mem, timeoutSeconds, expected, dockerProperties.getOutput().getMaxBytes());
+    }
+
+    /**
+     * 설명: 미리 컴파일된 결과로 실행 (컴파일 생략)
+     * @param build
+     * @param stdin
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    public DockerResultDto executeCompiled(BuildResultDto build, StdinSource stdin, int mem, float timeoutSeconds) {
+        return executeCompiled(build, stdin, null, mem, timeoutSeconds);
+    }
+
+    /**
+     * 설명: 정답과 스트리밍 비교하며 컴파일된 결과 실행
+     * @param build
+     * @param stdin
+     * @param expected 정답 (없으면 null)
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    public DockerResultDto executeCompiled(BuildResultDto build, StdinSource stdin, ExpectedOutput expected,
+                                           int mem, float timeoutSeconds) {
+        String script = buildLaunchCommand(build.getFileName(), build.getExtension(), build);
+        return run(Path.of(build.getBuildPath()), build.getExtension(), script, stdin, mem, timeoutSeconds, expected,
+                dockerProperties.getOutput().getMaxBytes());
+    }
+
+    /**
+     * 설명: 실행 대상(파일 또는 디렉터리)을 컨테이너 작업 디렉터리에 올려 스크립트 실행
+     * @param source
+     * @param extension
+     * @param script
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    public DockerResultDto run(Path source, String extension, String script, int mem, float timeoutSeconds) {
+        return run(source, extension, script, StdinSource.empty(), mem, timeoutSeconds, null, dockerProperties.getOutput().getMaxBytes());
+    }
+
+    /**
+     * 설명: 실행 대상을 컨테이너에 올려 출력 크기 제한과 정답 비교를 적용해 스크립트 실행
+     * @param source
+     * @param extension
+     * @param script
+     * @param stdin 표준 입력
+     * @param mem
+     * @param timeoutSeconds
+     * @param expected 정답 (없으면 null)
+     * @param maxOutputBytes 표준 출력/에러 각각의 최대 수집 크기
+     * @return DockerResultDto
+     */
+    public DockerResultDto run(Path source, String extension, String script, StdinSource stdin, int mem, float timeoutSeconds,
+                               ExpectedOutput expected, int maxOutputBytes) {
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+        String measuredScript = CGROUP_STAT_PREFIX + script + CGROUP_STAT_SUFFIX;
+        String token = startupToken(runtime);
+        return inSandbox(source, runtime, measuredScript, mem, false, (call, stage) -> runSandbox(call, runtime,
+                stage.then(startupInput(token)).then(stdin), token, timeoutSeconds, expected, maxOutputBytes));
+    }
+
+    /**
+     * 설명: 실행 대상을 실행 감독 컨테이너에 올려 스크립트 실행 (일괄 채점 하네스, zygote)
+     * 컨테이너는 root 로 시작하고 스크립트가 사용자 코드를 docker.sandbox.user 로 권한을 내려 실행하므로,
+     * 사용자 코드는 스크립트의 출력과 작업 파일에 접근하지 못한다.
+     * 풀 컨테이너는 샌드박스 사용자로 떠 있으므로 사용하지 않고 항상 새 컨테이너로 실행한다.
+     * @param source
+     * @param extension
+     * @param script
+     * @param mem
+     * @param timeoutSeconds
+     * @param maxOutputBytes
+     * @return DockerResultDto
+     */
+    public DockerResultDto runSupervised(Path source, String extension, String script, int mem, float timeoutSeconds,
+                                         int maxOutputBytes) {
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+        String measuredScript = CGROUP_STAT_PREFIX + script + CGROUP_STAT_SUFFIX;
+        return inSandbox(source, runtime, measuredScript, mem, true,
+                (call, stage) -> runSandbox(call, runtime, stage, null, timeoutSeconds, null, maxOutputBytes));
+    }
+
+    /**
+     * 설명: 대화형 실행 (출력은 실행 중에 채널로 보내고, 채널에 들어온 입력은 표준 입력으로 전달)
+     * 사용자 입력을 기다리는 시간이 포함되므로 실행 시간은 전체 소요 시간이며 cgroup 통계는 측정하지 않는다.
+     * @param filePath
+     * @param extension
+     * @param build 컴파일 결과 (컴파일 언어가 아니면 null)
+     * @param channel
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto 종료 코드와 실행 시간 (시간 초과 또는 중단되면 출력이 TIME_OUT)
+     */
+    public DockerResultDto executeInteractive(String filePath, String extension, BuildResultDto build,
+                                              InteractiveChannel channel, int mem, float timeoutSeconds) {
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+        Path source = build != null ? Path.of(build.getBuildPath()) : Path.of(filePath);
+        String fileName = build != null ? build.getFileName() : source.getFileName().toString();
+        String script = buildLaunchCommand(fileName, extension, build);
+        String token = startupToken(runtime);
+        return inSandbox(source, runtime, script, mem, false,
+                (call, stage) -> streamSandbox(call, stage.then(startupInput(token)), token, channel, timeoutSeconds));
+    }
+
+    /**
+     * 설명: 실행 대상을 컨테이너 작업 디렉터리에 올려 실행
+     * docker.workspace.tmpfs 이면 실행 대상만 묶어 표준 입력 앞부분으로 보내 tmpfs 작업 디렉터리(풀 컨테이너 우선)에 풀고,
+     * 꺼져 있거나 묶음이 docker.workspace.max-stage-mb 를 넘으면 실행 대상 디렉터리를 연결한 새 컨테이너로 실행
+     * @param source 실행 대상 파일 또는 디렉터리
+     * @param runtime
+     * @param script
+     * @param mem
+     * @param supervised 실행 감독 컨테이너 여부 (풀 컨테이너를 사용하지 않음)
+     * @param execution 실행 방식과 표준 입력 앞에 보낼 실행 대상 묶음을 받아 실행하고 결과 반환
+     * @return DockerResultDto
+     */
+    private DockerResultDto inSandbox(Path source, LanguageRuntime runtime, String script, int mem, boolean supervised,
+                                      BiFunction<SandboxCall, StdinSource, DockerResultDto> execution) {
+        DockerProperties.Workspace workspace = dockerProperties.getWorkspace();
+        Optional<StdinSource> stage = workspace.isTmpfs() ? stageWorkspace(source, workspace) : Optional.empty();
+        workspaceCounter(stage.isPresent() ? WORKSPACE_TMPFS : WORKSPACE_BIND).increment();
+
+        if (stage.isPresent()) {
+            String stagedScript = WORKSPACE_STAGE_SCRIPT + script;
+            SandboxCall fresh = backend -> backend.runOnTmpfs(runtime.image(), stagedScript, mem, workspace.getTmpfsMb(), supervised);
+            if (supervised) return execution.apply(fresh, stage.get());
+            return inPool(runtime, mem, stagedScript, fresh, call -> execution.apply(call, stage.get()));
+        }
+
+        // 풀 컨테이너는 호스트 디렉터리를 연결하지 않으므로 묶지 못한 실행 대상은 디렉터리를 연결한 새 컨테이너로 실행
+        Path mountDir = Files.isDirectory(source) ? source : source.getParent();
+        return execution.apply(bindMounted(runtime, mountDir, script, mem, supervised), StdinSource.empty());
+    }
+
+    /**
+     * 설명: 풀 컨테이너를 우선 사용해 실행 (풀이 비어 있으면 새 컨테이너로 실행)
+     * @param runtime
+     * @param mem
+     * @param script
+     * @param fresh 새 컨테이너 실행 방식
+     * @param execution 실행 방식을 받아 실행하고 결과 반환
+     * @return DockerResultDto
+     */
+    private DockerResultDto inPool(LanguageRuntime runtime, int mem, String script, SandboxCall fresh,
+                                   Function<SandboxCall, DockerResultDto> execution) {
+        Optional<PooledContainer> leased = containerPool.lease(runtime.extension(), mem);
+        if (leased.isEmpty()) {
+            return execution.apply(fresh);
+        }
+
+        PooledContainer container = leased.get();
+        try {
+            return execution.apply(backend -> backend.exec(container.getName(), script));
+        } finally {
+            containerPool.release(container);
+        }
+    }
+
+    /**
+     * 설명: 실행 대상 묶음 생성 (최대 크기를 넘거나 읽지 못하면 empty)
+     * @param source
+     * @param workspace
+     * @return Optional<StdinSource>
+     */
+    private Optional<StdinSource> stageWorkspace(Path source, DockerProperties.Workspace workspace) {
+        try {
+            return WorkspaceArchive.stage(source, workspace.getMaxStageMb() * 1024L * 1024L);
+        } catch (IOException e) {
+            log.warn("실행 대상 묶음 생성 실패, 디렉터리 연결로 실행: {} ({})", source, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Counter workspaceCounter(String mode) {
+        return Counter.builder("docker.workspace")
+                .description("실행 대상 전달 방식 (tmpfs: 표준 입력으로 복사, bind: 호스트 디렉터리 연결)")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설명: 표준 에러 마지막 줄의 cgroup 실행 통계를 분리해 결과에 반영
+     * 사용자 코드 시작/종료 시각이 있으면 실행 시간을 그 구간으로 바꾸고, 앞뒤 구간은 컨테이너 기동/정리 시간으로 기록
+     * @param result
+     * @param errorOutput
+     * @param launchedAt 실행 요청 시각(epoch ns)
+     * @param receivedAt 실행 종료 확인 시각(epoch ns)
+     * @return String 통계 줄을 제외한 표준 에러
+     */
+    private String applyStats(DockerResultDto result, String errorOutput, long launchedAt, long receivedAt) {
+        int statIndex = errorOutput.lastIndexOf(STAT_FRAME_PREFIX);
+        if (statIndex == -1 || (statIndex > 0 && errorOutput.charAt(statIndex - 1) != '\n')) return errorOutput;
+
+        String[] stats = errorOutput.substring(statIndex + STAT_FRAME_PREFIX.length()).trim().split(" ");
+        String programError = errorOutput.substring(0, Math.max(0, statIndex - 1));
+        try {
+            long peakMemory = Long.parseLong(stats[1]);
+            result.setExitCode(Integer.parseInt(stats[0]));
+            result.setPeakMemory(peakMemory > 0 ? peakMemory : null);
+            result.setCpuTime(Long.parseLong(stats[2]) / 1_000_000.0f);
+            if (stats.length >= 5) {
+                long userStart = Long.parseLong(stats[3]);
+                long userEnd = Long.parseLong(stats[4]);
+                if (userEnd >= userStart) {
+                    result.setTime((userEnd - userStart) / 1_000_000_000.0f);
+                    result.setLaunchTime(Math.max(0, userStart - launchedAt) / 1_000_000_000.0f);
+                    result.setTeardownTime(Math.max(0, receivedAt - userEnd) / 1_000_000_000.0f);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 통계를 읽지 못한 경우 출력만 사용
+        }
+        return programError;
+    }
+
+    /**
+     * 설명: 기동 시간 프레임을 출력하는 실행 환경이면 실행마다 새 토큰 생성 (아니면 null)
+     * 토큰은 표준 입력 첫 줄로만 전달되고 실행기가 사용자 코드 실행 전에 읽어 가므로, 사용자 코드는 프레임을 만들어 낼 수 없다.
+     * @param runtime
+     * @return String
+     */
+    public String startupToken(LanguageRuntime runtime) {
+        return runtime.startupFrame() ? UUID.randomUUID().toString().replace("-", "") : null;
+    }
+
+    /**
+     * 설명: 표준 입력 첫 줄로 보낼 기동 시간 프레임 토큰 (토큰이 없으면 빈 입력)
+     * @param token
+     * @return StdinSource
+     */
+    private static StdinSource startupInput(String token) {
+        return token != null ? StdinSource.of(token) : StdinSource.empty();
+    }
+
+    /**
+     * 설명: 출력 첫 줄의 실행 환경 기동 시간 프레임을 분리해 결과에 반영
+     * 기동 시간은 채점 대상이 아니므로 실행 시간에서 제외하고 별도로 기록한다.
+     * 이번 실행의 토큰이 있는 프레임만 인정하며, 토큰이 없으면(프레임을 출력하지 않는 실행 환경) 출력을 그대로 둔다.
+     * @param result
+     * @param output
+     * @param runtime
+     * @param token 이번 실행의 기동 시간 프레임 토큰 (없으면 null)
+     * @return String 기동 시간 줄을 제외한 출력
+     */
+    private String applyStartup(DockerResultDto result, String output, LanguageRuntime runtime, String token) {
+        String prefix = token != null ? STARTUP_FRAME_PREFIX + token + " " : null;
+        if (prefix == null || !output.startsWith(prefix)) return output;
+
+        int lineEnd = output.indexOf('\n');
+        String frame = lineEnd == -1 ? output : output.substring(0, lineEnd);
+        String programOutput = lineEnd == -1 ? "" : output.substring(lineEnd + 1);
+        try {
+            applyStartupTime(result, Long.parseLong(frame.substring(prefix.length()).trim()), runtime);
+        } catch (NumberFormatException e) {
+            // 기동 시간을 읽지 못한 경우 프레임만 제거
+        }
+        return programOutput;
+    }
+
+    /**
+     * 설명: 실행 환경 기동 시간을 실행 시간에서 제외하고 기록 (음수면 기동 시간 없음)
+     * @param result
+     * @param startupMicros
+     * @param runtime
+     */
+    public void applyStartupTime(DockerResultDto result, long startupMicros, LanguageRuntime runtime) {
+        if (startupMicros < 0) return;
+
+        float startupTime = startupMicros / 1_000_000.0f;
+        result.setStartupTime(startupTime);
+        result.setTime(Math.max(0f, result.getTime() - startupTime));
+        Timer.builder("docker.runtime.startup")
+                .description("실행 환경 기동 시간 (실행 시간에서 제외)")
+                .tag("language", runtime.extension())
+                .register(meterRegistry)
+                .record(startupMicros, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * 설명: 디렉터리를 작업 디렉터리에 연결한 새 컨테이너에서 스크립트 실행
+     * @param mountDir
+     * @param extension
+     * @param script
+     * @param mem
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    public DockerResultDto runContainer(Path mountDir, String extension, String script, int mem, float timeoutSeconds) {
+        return runContainer(mountDir, runtimeRegistry.get(extension), script, StdinSource.empty(), mem, timeoutSeconds, null,
+                dockerProperties.getOutput().getMaxBytes());
+    }
+
+    private DockerResultDto runContainer(Path mountDir, LanguageRuntime runtime, String script, StdinSource stdin, int mem,
+                                         float timeoutSeconds, ExpectedOutput expected, int maxOutputBytes) {
+        return runSandbox(bindMounted(runtime, mountDir, script, mem, false), runtime, stdin, null, timeoutSeconds, expected,
+                maxOutputBytes);
+    }
+
+    /**
+     * 설명: 디렉터리를 작업 디렉터리에 연결하는 새 컨테이너 실행 방식
+     * 컨테이너는 루트가 아닌 사용자로 실행되므로 컴파일 결과 등을 쓸 수 있도록 연결할 디렉터리에 쓰기 권한을 연다.
+     * 실행 감독 컨테이너는 감독 스크립트의 작업 파일을 사용자 코드가 읽지 못하도록 권한을 그대로 둔다.
+     * @param runtime
+     * @param mountDir
+     * @param script
+     * @param mem
+     * @param supervised 실행 감독 컨테이너 여부
+     * @return SandboxCall
+     */
+    private SandboxCall bindMounted(LanguageRuntime runtime, Path mountDir, String script, int mem, boolean supervised) {
+        return backend -> {
+            if (!supervised) shareWithSandbox(mountDir);
+            return backend.run(runtime.image(), mountDir, script, mem, supervised);
         };
     }
 
     /**
-     * 설명: 생성된 명령어를 사용하여 도커 컨테이너 실행
-     * @param command
+     * 설명: 연결할 디렉터리와 하위 디렉터리를 샌드박스 사용자가 쓸 수 있도록 권한 변경 (POSIX 권한이 없는 파일 시스템은 무시)
+     * @param mountDir
+     */
+    private void shareWithSandbox(Path mountDir) throws IOException {
+        try (Stream<Path> walk = Files.walk(mountDir)) {
+            for (Path directory : walk.filter(path -> Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)).toList()) {
+                Files.setPosixFilePermissions(directory, SANDBOX_SHARED_DIR_PERMISSIONS);
+            }
+        } catch (UnsupportedOperationException e) {
+            log.debug("POSIX 권한을 지원하지 않는 파일 시스템: {}", mountDir);
+        }
+    }
+
+    /**
+     * 설명: 표준 입력을 받아 실행할 언어별 프로그램 실행 명령어 추출
+     * @param fileName
+     * @param extension
+     * @param build 컴파일 결과 (없으면 null, 컴파일 언어는 컴파일 명령 포함)
      * @return String
      */
-    public DockerResultDto runDockerCommand(String[] command, float timeoutSeconds) {
+    public String buildLaunchCommand(String fileName, String extension, BuildResultDto build) {
+        LanguageRuntime runtime = runtimeRegistry.get(extension);
+        String command = runtime.isCompiled() && build == null
+                ? runtime.compileCommand(fileName) + " && " + runtime.runCommand(fileName)
+                : runtime.runCommand(fileName);
+        return "cd " + WORK_DIR + " && " + command;
+    }
+
+    /**
+     * 설명: 실행 방식 선택 (Engine API 를 우선 사용하고 실패하면 docker CLI 로 실행)
+     * @param call
+     * @return Process
+     */
+    private Process startSandbox(SandboxCall call) throws IOException {
+        if (engineBackend.isAvailable()) {
+            try {
+                return call.start(engineBackend);
+            } catch (IOException e) {
+                log.warn("Docker Engine API 실행 실패, CLI 로 실행: {}", e.getMessage());
+            }
+        }
+        return call.start(cliBackend);
+    }
+
+    /**
+     * 설명: 표준 출력/에러를 실행 중에 나누어 수집하며 도커 컨테이너 실행
+     * 출력이 제한을 넘으면 즉시 프로세스를 종료하고 잘린 출력을 반환
+     * @param call
+     * @param runtime 출력 정규화에 사용할 실행 환경
+     * @param stdin
+     * @param startupToken 이번 실행의 기동 시간 프레임 토큰 (없으면 null)
+     * @param timeoutSeconds
+     * @param expected 표준 출력과 스트리밍 비교할 정답 (없으면 null)
+     * @param maxOutputBytes
+     * @return DockerResultDto
+     */
+    private DockerResultDto runSandbox(SandboxCall call, LanguageRuntime runtime, StdinSource stdin, String startupToken,
+                                       float timeoutSeconds, ExpectedOutput expected, int maxOutputBytes) {
+        Process process = null;
         try {
             long startTime = System.nanoTime();
-            // 명령어 가져와서 도커 실행
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
+            long launchedAt = epochNanos();
+            // 실행 방식 선택 후 도커 실행
+            process = startSandbox(call);
+
+            Runnable kill = process::destroyForcibly;
+            OutputCapture stdout = new OutputCapture(maxOutputBytes, expected, kill);
+            OutputCapture stderr = new OutputCapture(maxOutputBytes, null, kill);
+            Thread stdoutPump = stdout.pump(process.getInputStream());
+            Thread stderrPump = stderr.pump(process.getErrorStream());
+            feedStdin(process, stdin);
 
-            long timeoutMillis = (long) (timeoutSeconds * 1000);
+            // 컨테이너 기동/정리와 실행 환경 기동 시간은 실행 시간에서 제외하므로 종료 기한에는 여유를 더함
+            float deadlineSeconds = timeoutSeconds + runtime.startupAllowance() + dockerProperties.getTiming().getLaunchAllowance();
+            long timeoutMillis = (long) (deadlineSeconds * 1000);
 
             boolean finished = process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS);
             long endTime = System.nanoTime();
@@ -66,27 +513,140 @@ public class DockerRun {
 
             if (!finished) {
                 process.destroyForcibly(); // 타임아웃이면 강제 종료
-                return new DockerResultDto("Time Out", elapsedTime);
+                return new DockerResultDto(TIME_OUT, timeoutSeconds);
             }
+            stdoutPump.join();
+            stderrPump.join();
 
-            String output; //실행 결과
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                output = reader.lines().collect(Collectors.joining("\n"));
+            // 컨테이너 안 측정값이 없으면 전체 소요 시간 사용
+            DockerResultDto result = new DockerResultDto(null, elapsedTime);
+            String errorOutput = applyStartup(result, applyStats(result, stderr.text(), launchedAt, epochNanos()), runtime,
+                    startupToken);
+            phaseTimer.record(PHASE_START, runtime.extension(), result.getLaunchTime());
+            phaseTimer.record(PHASE_TEARDOWN, runtime.extension(), result.getTeardownTime());
+            String output = stdout.text();
+            if (!errorOutput.isEmpty()) {
+                output = output.isEmpty() ? errorOutput : output + "\n" + errorOutput;
             }
+            result.setOutput(runtime.normalizeOutput(output.replace("\r\n", "\n")));
+            result.setMatched(stdout.matched());
+            result.setTruncated(stdout.isOverflowed() || stderr.isOverflowed());
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("도커 실행 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            // 판정이 취소된 경우 남은 프로세스 정리
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
 
-            // 결과 출력 조건 처리
-            if (output.contains("error:") || output.contains("Exception")) {
-                return new DockerResultDto(output, elapsedTime);
-            }
+    /**
+     * 설명: 출력을 채널로 보내고 채널의 입력을 표준 입력으로 넘기며 도커 컨테이너 실행
+     * @param call
+     * @param stage 입력보다 먼저 보낼 실행 대상 묶음과 기동 시간 프레임 토큰
+     * @param startupToken 표준 에러 첫 줄에서 제거할 기동 시간 프레임 토큰 (없으면 null)
+     * @param channel
+     * @param timeoutSeconds
+     * @return DockerResultDto
+     */
+    private DockerResultDto streamSandbox(SandboxCall call, StdinSource stage, String startupToken,
+                                          InteractiveChannel channel, float timeoutSeconds) {
+        Process process = null;
+        Thread inputWriter = null;
+        try {
+            long startTime = System.nanoTime();
+            process = startSandbox(call);
+            channel.attach(process::destroyForcibly);
+
+            Thread stdoutPump = channel.pump(STREAM_STDOUT, process.getInputStream(), null);
+            Thread stderrPump = channel.pump(STREAM_STDERR, process.getErrorStream(), startupToken);
+            inputWriter = forwardInput(process, stage, channel);
 
-            return new DockerResultDto(output, elapsedTime);
+            boolean finished = process.waitFor((long) (timeoutSeconds * 1000), TimeUnit.MILLISECONDS);
+            if (!finished) process.destroyForcibly();
+            float elapsedTime = (System.nanoTime() - startTime) / 1_000_000_000.0f;
+
+            // 클라이언트가 남은 출력을 확인하지 않으면 더 기다리지 않고 채널을 닫음
+            long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(INTERACTIVE_DRAIN_MILLIS);
+            boolean drained = stdoutPump.join(Duration.ofMillis(INTERACTIVE_DRAIN_MILLIS))
+                    && stderrPump.join(Duration.ofNanos(Math.max(1, drainDeadline - System.nanoTime())));
+            if (!drained) channel.close();
+            stdoutPump.join();
+            stderrPump.join();
+
+            // 시간 초과·출력 초과·강제 종료로 중단된 실행은 TIME_OUT 으로 표시
+            int exitCode = finished ? process.exitValue() : EXIT_TIME_OUT;
+            boolean stopped = !finished || channel.isTruncated() || exitCode == EXIT_KILLED;
+            DockerResultDto result = new DockerResultDto(stopped ? TIME_OUT : "", elapsedTime);
+            result.setExitCode(exitCode);
+            result.setTruncated(channel.isTruncated());
+            return result;
         } catch (IOException e) {
             throw new RuntimeException("도커 실행 실패: " + e.getMessage(), e);
         } catch (InterruptedException e) {
+            if (process != null) process.destroyForcibly();
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
+        } finally {
+            if (inputWriter != null) inputWriter.interrupt();
         }
     }
 
+    /**
+     * 설명: 실행 대상 묶음을 보낸 뒤 채널에 들어오는 입력을 프로그램이 끝나거나 입력이 닫힐 때까지 표준 입력으로 전달
+     * @param process
+     * @param stage
+     * @param channel
+     * @return Thread
+     */
+    private Thread forwardInput(Process process, StdinSource stage, InteractiveChannel channel) {
+        return Thread.ofVirtual().start(() -> {
+            try (WritableByteChannel stdin = process instanceof EngineProcess engine
+                    ? engine.getStdinChannel()
+                    : Channels.newChannel(process.getOutputStream())) {
+                stage.transferTo(stdin);
+                if (!(process instanceof EngineProcess)) process.getOutputStream().flush();
+                byte[] line;
+                while ((line = channel.nextInput()) != null) {
+                    ByteBuffer buffer = ByteBuffer.wrap(line);
+                    while (buffer.hasRemaining()) {
+                        stdin.write(buffer);
+                    }
+                    if (!(process instanceof EngineProcess)) process.getOutputStream().flush();
+                }
+            } catch (IOException e) {
+                // 프로그램이 입력을 읽기 전에 종료된 경우
+            } catch (InterruptedException e) {
+                // 실행 종료
+            }
+        });
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * 설명: 표준 입력을 별도 스레드에서 전송 후 닫기
+     * 출력 수집과 동시에 진행해야 입력이 커도 파이프 버퍼가 차서 멈추지 않음
+     * @param process
+     * @param stdin
+     */
+    private void feedStdin(Process process, StdinSource stdin) {
+        Thread.ofVirtual().start(() -> {
+            try (WritableByteChannel channel = process instanceof EngineProcess engine
+                    ? engine.getStdinChannel()
+                    : Channels.newChannel(process.getOutputStream())) {
+                stdin.transferTo(channel);
+            } catch (IOException e) {
+                // 프로그램이 입력을 모두 읽기 전에 종료된 경우
+            }
+        });
+    }
+
     /**
      * 설명: 코드 파일 확장자 추출
      * @param filePath
@@ -103,11 +663,14 @@ public class DockerRun {
      * @return String
      */
     public String getLanguageByExtension(String extension) {
-        return switch (extension) {
-            case "py" -> "python";
-            case "java" -> "java";
-            case "js" -> "javascript";
-            default -> "unknown";
-        };
+        return runtimeRegistry.find(extension).map(LanguageRuntime::language).orElse("unknown");
+    }
+
+    /**
+     * 실행 방식별 컨테이너 실행 호출
+     */
+    @FunctionalInterface
+    private interface SandboxCall {
+        Process start(SandboxBackend backend) throws IOException;
     }
 }
@@ -0,0 +1,399 @@
+package solid.backend.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import solid.backend.Docker.executor.ExpectedOutput;
+import solid.backend.Docker.executor.StdinSource;
+import solid.backend.config.DockerProperties;
+import solid.backend.config.FileStorageConfig;
+import solid.backend.entity.Question;
+import solid.backend.entity.TestCase;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 테스트케이스 입력/정답 저장소
+ * test_case 컬럼 크기를 넘는 입력/정답은 업로드 경로 아래 파일로 저장하고, 테이블에는 파일 경로와 앞부분만 남긴다.
+ * 파일 입력은 표준 입력으로 바로 전송하고, 파일 정답은 메모리 매핑해 토큰 단위로 비교한다.
+ */
+@Slf4j
+@Component
+public class TestCaseStorage {
+    /** test_case.case_ex, case_answer 컬럼 크기 */
+    public static final int INLINE_MAX_LENGTH = 200;
+    private static final String STORAGE_DIR = "testcases";
+    private static final String PREVIEW_SUFFIX = "...";
+
+    private final Path root;
+    private final DockerProperties.Testcase testcaseProperties;
+
+    public TestCaseStorage(FileStorageConfig fileStorageConfig, DockerProperties dockerProperties) {
+        this.root = Path.of(fileStorageConfig.getUploadDir(), STORAGE_DIR).toAbsolutePath().normalize();
+        this.testcaseProperties = dockerProperties.getTestcase();
+    }
+
+    /**
+     * 설명: 파일로 저장된 테스트케이스인지 여부
+     * @param testcase
+     * @return boolean
+     */
+    public boolean isFileBacked(TestCase testcase) {
+        return testcase.getCaseInputPath() != null && testcase.getCaseAnswerPath() != null;
+    }
+
+    /**
+     * 설명: 실행 시 표준 입력으로 보낼 테스트케이스 입력
+     * @param testcase
+     * @return StdinSource
+     */
+    public StdinSource input(TestCase testcase) {
+        return isFileBacked(testcase)
+                ? StdinSource.ofFile(resolve(testcase.getCaseInputPath()))
+                : StdinSource.of(testcase.getCaseEx());
+    }
+
+    /**
+     * 설명: 실행 출력과 비교할 테스트케이스 정답
+     * @param testcase
+     * @return ExpectedOutput
+     */
+    public ExpectedOutput expected(TestCase testcase) {
+        return isFileBacked(testcase)
+                ? ExpectedOutput.ofFile(resolve(testcase.getCaseAnswerPath()))
+                : ExpectedOutput.of(testcase.getCaseAnswer());
+    }
+
+    /**
+     * 설명: 채점 결과에 영향을 주는 테스트케이스 내용과 문제 시간/메모리 제한의 SHA-256 (재채점 대상 판별)
+     * @param testcase
+     * @param question
+     * @return String
+     */
+    public String fingerprint(TestCase testcase, Question question) {
+        MessageDigest digest = sha256();
+        for (String value : List.of(String.valueOf(testcase.getCaseEx()), String.valueOf(testcase.getCaseAnswer()),
+                String.valueOf(testcase.getCaseHash()), String.valueOf(question.getQuestionTime()),
+                String.valueOf(question.getQuestionMem()))) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 설명: 입력/정답 저장 (컬럼 크기 이내면 테이블에, 넘으면 파일로 저장)
+     * @param testcase
+     * @param questionId
+     * @param caseEx
+     * @param caseAnswer
+     */
+    public void store(TestCase testcase, Integer questionId, String caseEx, String caseAnswer) {
+        if (caseEx == null || caseAnswer == null) {
+            throw new IllegalArgumentException("테스트케이스 입력과 정답은 필수입니다.");
+        }
+        if (caseEx.length() <= INLINE_MAX_LENGTH && caseAnswer.length() <= INLINE_MAX_LENGTH) {
+            deleteFiles(testcase);
+            testcase.setCaseEx(caseEx);
+            testcase.setCaseAnswer(caseAnswer);
+            testcase.setCaseInputPath(null);
+            testcase.setCaseAnswerPath(null);
+            testcase.setCaseHash(null);
+            return;
+        }
+        try {
+            store(testcase, questionId,
+                    new ByteArrayInputStream(caseEx.getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream(caseAnswer.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new RuntimeException("테스트케이스 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 설명: 입력/정답을 파일로 저장 (기존 파일은 삭제)
+     * @param testcase
+     * @param questionId
+     * @param input
+     * @param answer
+     */
+    public void store(TestCase testcase, Integer questionId, InputStream input, InputStream answer) throws IOException {
+        Path dir = Files.createDirectories(questionDir(questionId));
+        String name = UUID.randomUUID().toString();
+        Path inputFile = dir.resolve(name + ".in");
+        Path answerFile = dir.resolve(name + ".out");
+
+        MessageDigest digest = sha256();
+        try {
+            write(input, inputFile, digest);
+            digest.update((byte) 0);
+            write(answer, answerFile, digest);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(inputFile);
+            Files.deleteIfExists(answerFile);
+            throw e;
+        }
+
+        deleteFiles(testcase);
+        testcase.setCaseInputPath(root.relativize(inputFile).toString());
+        testcase.setCaseAnswerPath(root.relativize(answerFile).toString());
+        testcase.setCaseHash(HexFormat.of().formatHex(digest.digest()));
+        testcase.setCaseEx(preview(inputFile));
+        testcase.setCaseAnswer(preview(answerFile));
+    }
+
+    /**
+     * 설명: 테스트케이스 압축 파일(zip)을 읽어 파일 테스트케이스 생성 (저장은 호출하는 쪽에서 수행)
+     * 같은 이름의 .in 과 .out(.ans) 항목을 한 케이스로 묶고, 이름 순(숫자는 크기 순)으로 정렬한다.
+     * 항목은 메모리에 올리지 않고 바로 파일로 풀어 쓰며, 압축 파일은 docker.testcase.max-archive-bytes 까지만 읽는다.
+     * @param question
+     * @param archive
+     * @param caseCheck 문제에 공개할지 여부
+     * @return List<TestCase>
+     */
+    public List<TestCase> importArchive(Question question, InputStream archive, boolean caseCheck) throws IOException {
+        Path staging = Files.createDirectories(root.resolve(".staging")).resolve(UUID.randomUUID().toString());
+        Files.createDirectories(staging);
+        List<TestCase> imported = new ArrayList<>();
+        try {
+            Map<String, Path> inputs = new HashMap<>();
+            Map<String, Path> answers = new HashMap<>();
+            int entries = 0;
+
+            try (ZipInputStream zip = new ZipInputStream(new ArchiveLimitInputStream(archive, testcaseProperties.getMaxArchiveBytes()))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    if (entry.isDirectory()) continue;
+                    if (++entries > testcaseProperties.getMaxArchiveEntries()) {
+                        throw new IllegalArgumentException(
+                                "압축 파일 항목은 " + testcaseProperties.getMaxArchiveEntries() + "개를 초과할 수 없습니다.");
+                    }
+
+                    String fileName = entry.getName().substring(entry.getName().replace('\\', '/').lastIndexOf('/') + 1);
+                    int dot = fileName.lastIndexOf('.');
+                    if (dot <= 0) continue;
+                    String caseName = fileName.substring(0, dot);
+                    String extension = fileName.substring(dot + 1).toLowerCase();
+                    Map<String, Path> target = switch (extension) {
+                        case "in" -> inputs;
+                        case "out", "ans" -> answers;
+                        default -> null;
+                    };
+                    if (target == null) continue;
+                    if (target.containsKey(caseName)) {
+                        throw new IllegalArgumentException("중복된 테스트케이스 파일입니다: " + fileName);
+                    }
+
+                    // 항목 이름은 경로로 사용하지 않음 (압축 경로 조작 방지)
+                    Path staged = staging.resolve(target.size() + "_" + extension);
+                    write(zip, staged, null);
+                    target.put(caseName, staged);
+                }
+            }
+
+            Set<String> names = new TreeSet<>(TestCaseStorage::compareCaseNames);
+            names.addAll(inputs.keySet());
+            names.addAll(answers.keySet());
+            for (String name : names) {
+                if (!inputs.containsKey(name) || !answers.containsKey(name)) {
+                    throw new IllegalArgumentException("입력/정답 짝이 맞지 않는 테스트케이스입니다: " + name);
+                }
+            }
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException("압축 파일에 테스트케이스(.in/.out)가 없습니다.");
+            }
+
+            for (String name : names) {
+                TestCase testcase = new TestCase();
+                testcase.setQuestion(question);
+                testcase.setCaseCheck(caseCheck);
+                try (InputStream input = Files.newInputStream(inputs.get(name));
+                     InputStream answer = Files.newInputStream(answers.get(name))) {
+                    store(testcase, question.getQuestionId(), input, answer);
+                }
+                imported.add(testcase);
+            }
+            return imported;
+        } catch (IOException | RuntimeException e) {
+            imported.forEach(this::deleteFiles);
+            throw e;
+        } finally {
+            deleteRecursively(staging);
+        }
+    }
+
+    /**
+     * 설명: 테스트케이스 파일 삭제
+     * @param testcase
+     */
+    public void deleteFiles(TestCase testcase) {
+        for (String path : new String[]{testcase.getCaseInputPath(), testcase.getCaseAnswerPath()}) {
+            if (path == null) continue;
+            try {
+                Files.deleteIfExists(resolve(path));
+            } catch (IOException e) {
+                log.warn("테스트케이스 파일 삭제 실패: {}", path);
+            }
+        }
+    }
+
+    /**
+     * 설명: 문제의 테스트케이스 파일 전체 삭제
+     * @param questionId
+     */
+    public void deleteQuestion(Integer questionId) {
+        deleteRecursively(questionDir(questionId));
+    }
+
+    private Path questionDir(Integer questionId) {
+        return root.resolve("question-" + questionId);
+    }
+
+    private Path resolve(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 테스트케이스 파일 경로입니다: " + relativePath);
+        }
+        return path;
+    }
+
+    /**
+     * 설명: 크기 제한을 확인하며 스트림을 파일로 저장
+     * @param in
+     * @param target
+     * @param digest 함께 계산할 해시 (없으면 null)
+     */
+    private void write(InputStream in, Path target, MessageDigest digest) throws IOException {
+        long maxBytes = testcaseProperties.getMaxFileBytes();
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(target));
+             OutputStream out = digest != null ? new DigestOutputStream(file, digest) : file) {
+            byte[] buffer = new byte[64 * 1024];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new IllegalArgumentException("테스트케이스 파일은 " + maxBytes + " bytes 를 초과할 수 없습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    /**
+     * 설명: 테이블과 화면에 표시할 파일 앞부분
+     * @param file
+     * @return String
+     */
+    private String preview(Path file) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(INLINE_MAX_LENGTH * 4);
+        }
+        String text = new String(head, StandardCharsets.UTF_8);
+        if (text.length() <= INLINE_MAX_LENGTH && Files.size(file) == head.length) return text;
+        return text.substring(0, Math.min(text.length(), INLINE_MAX_LENGTH - PREVIEW_SUFFIX.length())) + PREVIEW_SUFFIX;
+    }
+
+    /**
+     * 설명: 테스트케이스 이름 비교 (숫자 부분은 크기 순)
+     */
+    private static int compareCaseNames(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            char a = left.charAt(i);
+            char b = right.charAt(j);
+            if (Character.isDigit(a) && Character.isDigit(b)) {
+                int endA = i;
+                int endB = j;
+                while (endA < left.length() && Character.isDigit(left.charAt(endA))) endA++;
+                while (endB < right.length() && Character.isDigit(right.charAt(endB))) endB++;
+                String numberA = left.substring(i, endA).replaceFirst("^0+(?=.)", "");
+                String numberB = right.substring(j, endB).replaceFirst("^0+(?=.)", "");
+                int compare = numberA.length() != numberB.length()
+                        ? Integer.compare(numberA.length(), numberB.length())
+                        : numberA.compareTo(numberB);
+                if (compare != 0) return compare;
+                i = endA;
+                j = endB;
+            } else {
+                if (a != b) return Character.compare(a, b);
+                i++;
+                j++;
+            }
+        }
+        int compare = Integer.compare(left.length() - i, right.length() - j);
+        return compare != 0 ? compare : left.compareTo(right);
+    }
+
+    private void deleteRecursively(Path path) {
+        if (!Files.exists(path)) return;
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(entry -> entry.toFile().delete());
+        } catch (IOException e) {
+            log.warn("삭제 실패: {}", path);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 설명: 최대 크기를 넘겨 읽으면 예외를 던지는 압축 파일 스트림 (Content-Length 가 없는 요청도 제한)
+     */
+    private static class ArchiveLimitInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private long total;
+
+        ArchiveLimitInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) count(1);
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) count(read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) {
+            total += read;
+            if (total > maxBytes) {
+                throw new IllegalArgumentException("테스트케이스 압축 파일은 " + maxBytes + " bytes 를 초과할 수 없습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package solid.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "docker")
+public class DockerProperties {
+
+    private Pool pool = new Pool();
+    private Executor executor = new Executor();
+    private Build build = new Build();
+    private Batch batch = new Batch();
+    private Queue queue = new Queue();
+    private Output output = new Output();
+    private Engine engine = new Engine();
+    private ResultCache resultCache = new ResultCache();
+    private Coalesce coalesce = new Coalesce();
+    private Scheduler scheduler = new Scheduler();
+    private Testcase testcase = new Testcase();
+    private Rejudge rejudge = new Rejudge();
+    private Timing timing = new Timing();
+    private Warmup warmup = new Warmup();
+    private WriteBehind writeBehind = new WriteBehind();
+    private Interactive interactive = new Interactive();
+    private Workspace workspace = new Workspace();
+    private Sandbox sandbox = new Sandbox();
+    private Map<String, Runtime> runtimes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /** 컨테이너 풀 사용 여부 (언어별 대기 컨테이너 수는 docker.runtimes.<확장자>.pool-size) */
+        private boolean enabled = true;
+        /** 대기 컨테이너 기본 메모리 제한(MB) */
+        private int defaultMem = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Runtime {
+        /** 실행 결과와 진행률에 저장하는 언어 이름 (없으면 확장자) */
+        private String language;
+        /** 화면 표시 언어 이름 (없으면 language) */
+        private String displayName;
+        /** 실행 이미지 */
+        private String image;
+        /** 컴파일 명령 ({file}: 파일 이름, {name}: 확장자를 뺀 파일 이름), 없으면 컴파일하지 않음 */
+        private String compile;
+        /** 컴파일 성공 시 생성되는 실행 파일 (컴파일 언어는 필수) */
+        private String artifact;
+        /** 실행 명령 (작업 디렉터리에서 실행) */
+        private String run;
+        /** 사용자 입력 실행 메모리 제한(MB) */
+        private int defaultMem = 256;
+        /** 사용자 입력 실행 제한 시간(초) */
+        private float defaultTimeout = 2f;
+        /** 실행 제한 시간에 더해 주는 기동 시간 여유(초), 측정된 기동 시간은 실행 시간에서 제외 */
+        private float startupAllowance = 0f;
+        /** 실행 명령이 표준 입력 첫 줄의 토큰을 읽고 기동 시간 프레임(@@START <토큰> <us>)을 출력하는지 여부 (JudgeLauncher) */
+        private boolean startupFrame = false;
+        /** 유지할 대기 컨테이너 수 */
+        private int poolSize = 0;
+        /** 테스트케이스마다 미리 초기화된 인터프리터에서 실행을 나누어 주는 zygote 스크립트 (classpath 경로), 있으면 항상 일괄 채점 */
+        private String zygote;
+        /** zygote 실행 명령 ({zygote}: 스크립트 경로, {file}, {name}), 뒤에 케이스당 제한 시간, 최대 출력, 메모리 제한이 붙음 */
+        private String zygoteRun;
+        /** 기동 예열 프로그램 (classpath 경로, 두 정수를 읽어 합을 출력), 없으면 이미지 확인만 함 */
+        private String warmup;
+        /** 출력에서 제거할 줄 정규식 (줄 전체 일치) */
+        private String outputIgnorePattern;
+    }
+
+    @Getter
+    @Setter
+    public static class Executor {
+        /** 전체 동시 실행 가능한 테스트케이스 수 (0 이하이면 CPU 코어 수) */
+        private int maxConcurrency = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Build {
+        /** 컴파일 컨테이너 메모리 제한(MB) */
+        private int compileMem = 512;
+        /** 컴파일 제한 시간(초) */
+        private float compileTimeout = 10f;
+        /** 사용되지 않은 컴파일 결과 보관 시간(시간) */
+        private int cacheTtlHours = 24;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        /** 제출당 컨테이너 하나에서 모든 테스트케이스를 실행할지 여부 */
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+        /** 비동기 채점 작업을 처리할 워커 수 */
+        private int workers = 4;
+        /** 이 노드에서 judge_job 작업을 가져가 채점할지 여부 (false 면 접수와 결과 전달만 하는 API 노드) */
+        private boolean worker = true;
+        /** 워커 ID (비어 있으면 pid@호스트 이름) */
+        private String workerId = "";
+        /** 대기 작업이 없을 때 다시 조회할 간격(ms), 같은 노드에 접수된 작업은 바로 가져감 */
+        private long pollIntervalMs = 500;
+        /** 작업 임대 시간(초), 워커가 연장하지 못하고 지나면 다른 워커가 다시 가져감 */
+        private int leaseSeconds = 60;
+        /** 임대 연장 및 만료 작업 회수 주기(초) */
+        private int heartbeatSeconds = 15;
+        /** 작업당 최대 채점 시도 횟수 (워커 중단, 실행 환경 오류 시 재시도) */
+        private int maxAttempts = 3;
+        /** 재시도 전 대기 시간(초), 시도 횟수만큼 곱해 늘림 */
+        private int retryBackoffSeconds = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        /** 기동 시 실행 이미지 확인/내려받기와 예열 실행 여부 (끝날 때까지 readiness 는 OUT_OF_SERVICE) */
+        private boolean enabled = true;
+        /** 이미지 내려받기 제한 시간(초) */
+        private int pullTimeoutSeconds = 600;
+        /** 언어별 예열 프로그램 실행 횟수 */
+        private int runs = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Timing {
+        /** 컨테이너 기동/정리에 허용하는 추가 시간(초), 실행 시간은 컨테이너 안에서 사용자 코드 구간만 측정 */
+        private float launchAllowance = 1.0f;
+    }
+
+    @Getter
+    @Setter
+    public static class Output {
+        /** 실행 한 번에 수집할 표준 출력/에러 각각의 최대 크기(bytes), 초과 시 실행 중단 */
+        private int maxBytes = 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+        /** docker CLI 대신 Engine API(유닉스 소켓) 사용 여부, 소켓에 연결할 수 없으면 CLI 로 실행 */
+        private boolean enabled = true;
+        /** 도커 데몬 소켓 경로 */
+        private String socket = "/var/run/docker.sock";
+        /** 재사용할 유휴 소켓 연결 최대 개수 */
+        private int maxIdleConnections = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class ResultCache {
+        /** 같은 소스·제한·테스트케이스의 채점 결과 재사용 여부 */
+        private boolean enabled = true;
+        /** 보관할 최대 채점 결과 수 (초과 시 가장 오래 사용하지 않은 결과 제거) */
+        private int maxEntries = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Coalesce {
+        /** 같은 멤버·소스·문제의 동시 실행 요청을 진행 중인 실행 하나로 합칠지 여부 */
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        /** 채점 결과와 진행률을 모아 두었다가 일괄 저장할지 여부 (끄면 요청 스레드에서 바로 저장) */
+        private boolean enabled = true;
+        /** 이 개수만큼 쌓이면 주기를 기다리지 않고 저장 */
+        private int batchSize = 200;
+        /** 저장 주기(ms) */
+        private long flushIntervalMs = 200;
+        /** 저널에 기록할 때마다 디스크 동기화(fsync)할지 여부 (끄면 서버 장애 시 최근 기록이 유실될 수 있음) */
+        private boolean journalSync = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Interactive {
+        /** 대화형 실행 제한 시간(초), 사용자 입력을 기다리는 시간 포함 */
+        private float timeoutSeconds = 120f;
+        /** 전체 출력 최대 크기(bytes), 넘으면 잘라서 보내고 실행 중단 */
+        private long maxOutputBytes = 1024 * 1024;
+        /** 클라이언트가 확인(ack)하지 않은 상태로 보낼 수 있는 최대 출력 크기(bytes) */
+        private long windowBytes = 64 * 1024;
+        /** 프로그램이 읽기 전까지 보관할 최대 입력 줄 수 */
+        private int maxInputLines = 256;
+        /** 실행을 만든 뒤 시작 메시지를 기다리는 시간(초), 넘으면 취소 */
+        private int startTimeoutSeconds = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class Sandbox {
+        /** 컨테이너 실행 사용자(uid:gid), 루트 파일 시스템은 읽기 전용이고 /tmp 와 작업 디렉터리만 쓸 수 있음 */
+        private String user = "65534:65534";
+        /** /tmp tmpfs 크기(MB), 컨테이너 메모리 제한에 함께 포함됨 */
+        private int tmpMb = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class Workspace {
+        /** 실행 대상을 호스트 디렉터리 연결 대신 컨테이너의 tmpfs 작업 디렉터리로 복사해 실행할지 여부 */
+        private boolean tmpfs = true;
+        /** tmpfs 작업 디렉터리 크기(MB), 컨테이너 메모리 제한에 함께 포함됨 */
+        private int tmpfsMb = 64;
+        /** tmpfs 로 복사할 실행 대상 최대 크기(MB), 넘으면 호스트 디렉터리를 연결해 실행 */
+        private int maxStageMb = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Testcase {
+        /** 파일로 저장하는 테스트케이스 입력/정답 파일 하나의 최대 크기(bytes) */
+        private long maxFileBytes = 256L * 1024 * 1024;
+        /** 테스트케이스 압축 파일 하나에 허용하는 최대 항목 수 */
+        private int maxArchiveEntries = 2000;
+        /** 테스트케이스 압축 파일(요청 본문) 최대 크기(bytes) */
+        private long maxArchiveBytes = 100L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Rejudge {
+        /** 테스트케이스/제한 수정 시 기존 제출을 바뀐 케이스만 백그라운드에서 재채점할지 여부 */
+        private boolean enabled = true;
+        /** 초당 재채점할 최대 제출 수 (실시간 채점 부하 제한) */
+        private double submissionsPerSecond = 2.0;
+        /** 한 트랜잭션에 함께 저장할 제출 수 */
+        private int batchSize = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Scheduler {
+        /** 실행 요청 수 제한 및 공정 대기열 사용 여부 */
+        private boolean enabled = true;
+        /** 동기 요청의 최대 대기 시간(초), 초과 시 대기 순번과 함께 거절 */
+        private int maxWaitSeconds = 30;
+        /** 멤버별 가중치 (기본 1, 클수록 대기열에서 더 많은 몫을 받음) */
+        private Map<String, Double> memberWeights = new HashMap<>();
+        /** 전체/테스트 채점 구간 */
+        private Lane judge = new Lane(0, 2, 4, 50, 3);
+        /** 사용자 입력 실행 구간 (채점 대기와 분리) */
+        private Lane custom = new Lane(0, 1, 4, 50, 2);
+
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Lane {
+            /** 동시 실행 수 (0이면 CPU 코어 수) */
+            private int slots;
+            /** 멤버별 동시 실행 수 */
+            private int perMember;
+            /** 컨테이너(팀 작업 공간)별 동시 실행 수 */
+            private int perContainer;
+            /** 최대 대기 요청 수 */
+            private int maxQueue;
+            /** 멤버별 최대 대기 요청 수 */
+            private int maxQueuePerMember;
+        }
+    }
+}
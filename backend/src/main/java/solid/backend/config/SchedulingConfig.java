@@ -1,9 +1,39 @@
 package solid.backend.config;
 
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-}
\ No newline at end of file
+    /** 채점 작업 임대 연장 전용 스케줄러 이름 (@Scheduled(scheduler = ...) 로 지정) */
+    public static final String JUDGE_LEASE_SCHEDULER = "judgeLeaseScheduler";
+
+    /**
+     * 설명: @Scheduled 작업 기본 스케줄러 (spring.task.scheduling.pool.size 만큼 스레드 사용)
+     * WebSocket 메시지 브로커 스케줄러가 등록되면 기본 스케줄러가 자동 구성되지 않아 단일 스레드로 실행되므로 직접 등록
+     * @param builder
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 설명: 채점 작업 임대 연장 전용 스케줄러
+     * 다른 예약 작업이 늦어져도 임대 연장이 밀려 실행 중인 작업의 임대가 만료되지 않도록 분리
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean(name = JUDGE_LEASE_SCHEDULER)
+    public ThreadPoolTaskScheduler judgeLeaseScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("judge-lease-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
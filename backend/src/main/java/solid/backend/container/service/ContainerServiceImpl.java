@@ -26,6 +26,7 @@ import solid.backend.jpaRepository.DirectoryRepository;
 import solid.backend.jpaRepository.QuestionRepository;
 import solid.backend.jpaRepository.ProgressRepository;
 import solid.backend.jpaRepository.ResultRepository;
+import solid.backend.jpaRepository.ResultCaseRepository;
 import solid.backend.jpaRepository.CodeFileRepository;
 import solid.backend.jpaRepository.TestCaseRepository;
 
@@ -55,6 +56,8 @@ public class ContainerServiceImpl implements ContainerService {
     private final ProgressRepository progressRepository;
     /** 결과 데이터 접근 레포지토리 */
     private final ResultRepository resultRepository;
+    /** 테스트케이스별 결과 데이터 접근 레포지토리 */
+    private final ResultCaseRepository resultCaseRepository;
     /** 코드파일 데이터 접근 레포지토리 */
     private final CodeFileRepository codeFileRepository;
     /** 테스트케이스 데이터 접근 레포지토리 */
@@ -237,7 +240,8 @@ public class ContainerServiceImpl implements ContainerService {
                 for (Question question : questions) {
                     Integer questionId = question.getQuestionId();
                     
-                    // 4-1. Question의 Result 삭제
+                    // 4-1. Question의 Result 삭제 (테스트케이스별 결과 먼저)
+                    resultCaseRepository.deleteByResult_Question(question);
                     int resultCount = resultRepository.deleteByQuestion(question);
                     if (resultCount > 0) {
                         log.info("Deleted {} results for question {}", resultCount, questionId);
@@ -0,0 +1,86 @@
+package solid.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "judge_job", indexes = {
+        @Index(name = "idx_judge_job_status", columnList = "job_status, created_at"),
+        @Index(name = "idx_judge_job_lease", columnList = "job_status, lease_until")
+})
+public class JudgeJob {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    @Comment("채점 작업 ID")
+    private String jobId;
+
+    @Column(name = "job_type", length = 10, nullable = false)
+    @Comment("작업 종류 (RUN: 전체 실행, TEST: 테스트 실행)")
+    private String jobType;
+
+    @Column(name = "job_status", length = 10, nullable = false)
+    @Comment("작업 상태 (QUEUED, RUNNING, DONE, FAILED)")
+    private String jobStatus;
+
+    @Column(name = "member_id", length = 20, nullable = false)
+    @Comment("요청 회원 ID")
+    private String memberId;
+
+    @Column(name = "code_file_id", nullable = false)
+    @Comment("코드 파일 ID")
+    private Integer codeFileId;
+
+    @Column(name = "question_id", nullable = false)
+    @Comment("문제 ID")
+    private Integer questionId;
+
+    @Column(name = "fail_fast")
+    @Comment("첫 실패에서 채점 중단 여부 (null 이면 문제 설정 사용)")
+    private Boolean failFast;
+
+    @Lob
+    @Column(name = "job_result", columnDefinition = "LONGTEXT")
+    @Comment("채점 결과 (JSON)")
+    private String jobResult;
+
+    @Column(name = "job_error", length = 500)
+    @Comment("실패 사유")
+    private String jobError;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("접수 시각")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    @Comment("채점 시작 시각")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    @Comment("채점 종료 시각")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "lease_owner", length = 64)
+    @Comment("작업을 가져간 워커 ID")
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    @Comment("작업 임대 만료 시각 (워커가 주기적으로 연장, 지나면 다른 워커가 다시 가져감)")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "lease_epoch")
+    @Comment("임대 세대 (가져갈 때마다 증가, 종료·반납·연장은 같은 세대의 임대만 가능)")
+    private Long leaseEpoch;
+
+    @Column(name = "attempts")
+    @Comment("채점 시도 횟수")
+    private Integer attempts;
+
+    @Column(name = "available_at")
+    @Comment("다시 가져갈 수 있는 시각 (재시도 대기)")
+    private LocalDateTime availableAt;
+}
@@ -30,4 +30,14 @@ public class Progress {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_user_id")
     private TeamUser teamUser;
+
+    @Column(name = "progress_updated_at")
+    @Comment("진행률 반영 기준 시각 (epoch ms, 지연 저장을 다시 적용할 때 더 최근 진행률을 덮어쓰지 않도록 비교)")
+    private Long progressUpdatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        progressUpdatedAt = System.currentTimeMillis();
+    }
 }
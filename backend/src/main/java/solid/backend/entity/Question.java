@@ -47,6 +47,10 @@ public class Question {
     @Comment("메모리 제한")
     private Integer questionMem;
 
+    @Column(name = "question_fail_fast")
+    @Comment("채점 시 첫 실패 테스트케이스에서 중단 여부")
+    private Boolean questionFailFast;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "container_id")
     private Container container;
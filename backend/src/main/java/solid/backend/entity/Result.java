@@ -6,7 +6,7 @@ import org.hibernate.annotations.Comment;
 
 @Data
 @Entity
-@Table(name = "result")
+@Table(name = "result", indexes = @Index(name = "idx_result_outcome_key", columnList = "result_outcome_key"))
 public class Result {
 
     @Id
@@ -31,6 +31,18 @@ public class Result {
     @Comment("사용 언어")
     private String resultLang;
 
+    @Column(name = "result_code_file_id")
+    @Comment("채점한 코드 파일 ID (재채점 대상 식별)")
+    private Integer resultCodeFileId;
+
+    @Column(name = "result_source_hash", length = 64)
+    @Comment("채점 당시 소스 SHA-256")
+    private String resultSourceHash;
+
+    @Column(name = "result_outcome_key", length = 36)
+    @Comment("지연 저장 식별자 (저널 재적용 시 중복 저장 방지)")
+    private String resultOutcomeKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "case_id")
     private TestCase testCase;
@@ -0,0 +1,41 @@
+package solid.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Comment;
+
+@Data
+@Entity
+@Table(name = "result_case", indexes = @Index(name = "idx_result_case_result", columnList = "result_id"))
+public class ResultCase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "result_case_id")
+    @Comment("테스트케이스별 결과 ID")
+    private Integer resultCaseId;
+
+    @Column(name = "case_fingerprint", length = 64, nullable = false)
+    @Comment("채점 당시 테스트케이스 내용과 시간/메모리 제한 SHA-256")
+    private String caseFingerprint;
+
+    @Column(name = "case_pass", nullable = false)
+    @Comment("통과 여부")
+    private Boolean casePass;
+
+    @Column(name = "case_time", nullable = false)
+    @Comment("실행 시간")
+    private Float caseTime;
+
+    @Column(name = "case_memory", nullable = false)
+    @Comment("사용 메모리양")
+    private Float caseMemory;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "result_id", nullable = false)
+    private Result result;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "case_id", nullable = false)
+    private TestCase testCase;
+}
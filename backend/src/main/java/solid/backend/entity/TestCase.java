@@ -16,13 +16,25 @@ public class TestCase {
     private Integer caseId;
 
     @Column(name = "case_ex", length = 200, nullable = false)
-    @Comment("예제")
+    @Comment("예제 (파일로 저장된 경우 앞부분)")
     private String caseEx;
 
     @Column(name = "case_answer", length = 200, nullable = false)
-    @Comment("정답")
+    @Comment("정답 (파일로 저장된 경우 앞부분)")
     private String caseAnswer;
 
+    @Column(name = "case_input_path")
+    @Comment("입력 파일 경로 (테스트케이스 저장 경로 기준, 컬럼 크기를 넘는 경우)")
+    private String caseInputPath;
+
+    @Column(name = "case_answer_path")
+    @Comment("정답 파일 경로 (테스트케이스 저장 경로 기준, 컬럼 크기를 넘는 경우)")
+    private String caseAnswerPath;
+
+    @Column(name = "case_hash", length = 64)
+    @Comment("입력/정답 파일 SHA-256")
+    private String caseHash;
+
     @Column(name = "case_check", nullable = false)
     @Comment("true: 문제에 보여짐 & 채점시 적용, false: 채점시 적용")
     private Boolean caseCheck;
@@ -2,14 +2,23 @@ package solid.backend.jpaRepository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import solid.backend.entity.CodeFile;
 import solid.backend.entity.Directory;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CodeFileRepository extends JpaRepository<CodeFile, String> {
     List<CodeFile> findByDirectory_DirectoryIdOrderByCodeFileIdDesc(Integer directoryId);
+
+    @Query("select d.container.containerId from CodeFile c join c.directory d where c.codeFileId = :codeFileId")
+    Optional<Integer> findContainerIdByCodeFileId(@Param("codeFileId") Integer codeFileId);
+
+    @Query("select c.codeFilePath from CodeFile c where c.codeFileId = :codeFileId")
+    Optional<String> findCodeFilePathByCodeFileId(@Param("codeFileId") Integer codeFileId);
     
     @Modifying
     int deleteByDirectory(Directory directory);
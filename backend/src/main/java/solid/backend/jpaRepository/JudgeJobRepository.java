@@ -0,0 +1,78 @@
+package solid.backend.jpaRepository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import solid.backend.entity.JudgeJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JudgeJobRepository extends JpaRepository<JudgeJob, String> {
+    // 대기열 순번 계산용 (먼저 접수된 대기 작업 수)
+    long countByJobStatusAndCreatedAtBefore(String jobStatus, LocalDateTime createdAt);
+
+    /**
+     * 가져갈 수 있는 대기 작업 잠금 조회 (다른 워커가 잠근 행은 기다리지 않고 건너뜀, 트랜잭션 안에서 호출)
+     */
+    @Query(value = "SELECT * FROM judge_job " +
+                   "WHERE job_status = :status AND (available_at IS NULL OR available_at <= :now) " +
+                   "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<JudgeJob> findClaimable(@Param("status") String status, @Param("now") LocalDateTime now,
+                                 @Param("limit") int limit);
+
+    /**
+     * 워커가 실행 중인 작업의 임대 연장 (같은 세대의 임대만)
+     */
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.leaseUntil = :leaseUntil " +
+           "WHERE j.jobId = :jobId AND j.leaseOwner = :owner AND j.leaseEpoch = :epoch AND j.jobStatus = :status")
+    int extendLease(@Param("jobId") String jobId, @Param("owner") String owner, @Param("epoch") long epoch,
+                    @Param("status") String status, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 임대가 만료된 실행 중 작업을 다시 대기 상태로 (시도 횟수가 남은 경우, 임대 정보가 없는 이전 작업 포함)
+     */
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.jobStatus = :queued, j.leaseOwner = null, j.leaseUntil = null, j.availableAt = :now " +
+           "WHERE j.jobStatus = :running AND (j.leaseUntil IS NULL OR j.leaseUntil < :now) " +
+           "AND (j.attempts IS NULL OR j.attempts < :maxAttempts)")
+    int requeueExpired(@Param("running") String running, @Param("queued") String queued,
+                       @Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 임대가 만료된 실행 중 작업을 실패 처리 (시도 횟수를 모두 쓴 경우)
+     */
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.jobStatus = :failed, j.jobError = :error, j.finishedAt = :now, " +
+           "j.leaseOwner = null, j.leaseUntil = null " +
+           "WHERE j.jobStatus = :running AND j.leaseUntil < :now AND j.attempts >= :maxAttempts")
+    int failExpired(@Param("running") String running, @Param("failed") String failed, @Param("error") String error,
+                    @Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 임대를 가진 워커만 작업 종료 (임대가 만료돼 다른 워커나 같은 워커의 다른 시도가 가져간 작업은 바꾸지 않음)
+     */
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.jobStatus = :status, j.jobResult = :result, j.jobError = :error, " +
+           "j.finishedAt = :finishedAt, j.leaseOwner = null, j.leaseUntil = null " +
+           "WHERE j.jobId = :jobId AND j.leaseOwner = :owner AND j.leaseEpoch = :epoch")
+    int finishLeased(@Param("jobId") String jobId, @Param("owner") String owner, @Param("epoch") long epoch,
+                     @Param("status") String status,
+                     @Param("result") String result, @Param("error") String error,
+                     @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * 임대를 가진 워커가 작업을 대기 상태로 반납 (같은 세대의 임대만, 재시도 대기 후 다시 가져감)
+     */
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.jobStatus = :queued, j.jobError = :error, j.availableAt = :availableAt, " +
+           "j.leaseOwner = null, j.leaseUntil = null " +
+           "WHERE j.jobId = :jobId AND j.leaseOwner = :owner AND j.leaseEpoch = :epoch")
+    int releaseLeased(@Param("jobId") String jobId, @Param("owner") String owner, @Param("epoch") long epoch,
+                      @Param("queued") String queued,
+                      @Param("error") String error, @Param("availableAt") LocalDateTime availableAt);
+}
@@ -0,0 +1,18 @@
+package solid.backend.jpaRepository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Repository;
+import solid.backend.entity.Question;
+import solid.backend.entity.ResultCase;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResultCaseRepository extends JpaRepository<ResultCase, Integer> {
+    List<ResultCase> findByResult_ResultIdIn(Collection<Integer> resultIds);
+
+    @Modifying
+    int deleteByResult_Question(Question question);
+}
@@ -12,6 +12,8 @@ public interface ResultRepository extends JpaRepository<Result, Integer> {
     List<Result> findByQuestionAndMemberAndTestCase(Question question, Member member, TestCase testCase);
     
     List<Result> findByQuestionAndMember(Question question, Member member);
+
+    List<Result> findByQuestion_QuestionIdAndResultCodeFileIdIsNotNullOrderByResultIdDesc(Integer questionId);
     
     @Modifying
     int deleteByQuestion(Question question);
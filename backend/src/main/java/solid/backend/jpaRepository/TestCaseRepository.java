@@ -11,6 +11,8 @@ import java.util.List;
 @Repository
 public interface TestCaseRepository extends JpaRepository<TestCase, Integer> {
     List<TestCase> findByQuestion_QuestionId(Integer questionId);
+
+    long countByQuestion_QuestionId(Integer questionId);
     
     @Modifying
     int deleteByQuestion(Question question);
@@ -0,0 +1,53 @@
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 자바 채점 실행기
+ * 실행 스크립트가 -Djudge.start 로 넘긴 JVM 실행 직전 시각(epoch ns)과 main 진입 시각의 차이를
+ * 표준 에러 첫 줄(@@START <토큰> <us>)로 출력한 뒤 제출 클래스의 main 을 호출한다.
+ * 토큰은 서버가 실행마다 만들어 표준 입력 첫 줄로 보내며, 제출 코드가 읽기 전에 여기서 버퍼 없이 한 줄만 읽어 간다.
+ * 서버는 이번 실행의 토큰이 있는 프레임만 JVM 기동 시간으로 보고 실행 시간에서 제외한다.
+ */
+public final class JudgeLauncher {
+
+    private JudgeLauncher() {
+    }
+
+    public static void main(String[] args) throws Throwable {
+        String start = System.getProperty("judge.start");
+        if (start != null && !start.isEmpty()) {
+            Instant now = Instant.now();
+            long elapsedNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano() - Long.parseLong(start);
+            System.err.println("@@START " + readToken() + " " + Math.max(0, elapsedNanos / 1000));
+            System.err.flush();
+        }
+
+        Method main = Class.forName(args[0]).getMethod("main", String[].class);
+        try {
+            main.invoke(null, (Object) Arrays.copyOfRange(args, 1, args.length));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 표준 입력 첫 줄(토큰)만 읽기, 버퍼를 쓰면 제출 코드의 입력까지 읽으므로 한 바이트씩 읽는다.
+     */
+    private static String readToken() throws IOException {
+        InputStream in = new FileInputStream(FileDescriptor.in);
+        ByteArrayOutputStream token = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            token.write(b);
+        }
+        return token.toString(StandardCharsets.US_ASCII).trim();
+    }
+}
@@ -0,0 +1,47 @@
+import java.io.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * CDS 아카이브 생성용 예제 프로그램
+ * 제출 코드가 자주 사용하는 입출력, 컬렉션, 문자열 클래스를 한 번씩 불러 아카이브에 포함시킨다.
+ */
+public class Warmup {
+    public static void main(String[] args) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+        int n = Integer.parseInt(reader.readLine().trim());
+        StringTokenizer tokenizer = new StringTokenizer(reader.readLine());
+        int[] numbers = new int[n];
+        for (int i = 0; i < n; i++) numbers[i] = Integer.parseInt(tokenizer.nextToken());
+        Arrays.sort(numbers);
+
+        Scanner scanner = new Scanner(reader.readLine());
+        List<String> words = new ArrayList<>();
+        while (scanner.hasNext()) words.add(scanner.next());
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) counts.merge(word, 1, Integer::sum);
+        Deque<Integer> deque = new ArrayDeque<>();
+        PriorityQueue<Long> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        TreeMap<Integer, Integer> tree = new TreeMap<>();
+        for (int number : numbers) {
+            deque.push(number);
+            queue.add((long) number * number);
+            tree.put(number, tree.getOrDefault(number, 0) + 1);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(Arrays.stream(numbers).mapToObj(String::valueOf).collect(Collectors.joining(" ")));
+        builder.append('\n').append(String.format("%.2f %d", Math.sqrt(queue.peek()), deque.size()));
+        builder.append('\n').append(counts).append(tree.firstKey()).append(new HashSet<>(words).size());
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(System.out));
+        writer.write(builder.toString());
+        writer.newLine();
+        writer.flush();
+        PrintWriter printer = new PrintWriter(System.out);
+        printer.printf("%s%n", String.join(",", words));
+        printer.flush();
+        System.out.println(Long.MAX_VALUE + " " + Double.parseDouble("1.5") + " " + Character.isDigit('1'));
+    }
+}
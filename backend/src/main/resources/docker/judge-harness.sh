@@ -0,0 +1,111 @@
+#!/bin/sh
+# 단일 컨테이너 일괄 채점 하네스
+# 사용법: sh judge-harness.sh <케이스당 제한 시간(초)> <케이스당 최대 출력(bytes)> <사용자 코드 실행 사용자(uid:gid)>
+# .judge/in_<n> 입력을 순서대로 .judge/run.sh 에 전달하고, 케이스마다 아래 한 줄을 출력한다.
+#   @@CASE <번호> <종료코드> <실행시간(us)> <최대메모리(bytes)> <CPU시간(us)> <기동시간(us), 없으면 -1> <표준 출력(base64)>
+# 표준 출력은 최대 출력 + 1 bytes 까지만 보관하며, 그 이상 출력하면 프로그램은 SIGPIPE 로 종료된다.
+# 표준 에러는 채점하지 않고 앞부분만 보관해 첫 줄의 기동 시간 프레임(@@START <토큰> <us>)만 읽는다.
+# 기동 시간 프레임은 .judge/token 이 있을 때만 읽으며, 토큰을 입력 첫 줄로 보내고 같은 토큰이 있는 프레임만 인정한다.
+# 최대 메모리는 케이스별 자식 프로세스 rusage(GNU time 의 ru_maxrss)로 측정하며, GNU time 이 없는 이미지는 0(측정 안 됨)을 출력한다.
+# 컨테이너 cgroup 최대 메모리(memory.peak)는 컨테이너 수명 전체 값이라 앞 케이스의 메모리가 남으므로 사용하지 않는다.
+# 하네스는 실행 감독 컨테이너에서 root 로 실행되고, 사용자 코드는 setpriv 로 지정한 uid/gid 로 권한을 내려 실행한다.
+# .judge 는 root 만 접근할 수 있으므로 사용자 코드는 다른 케이스 입력, 토큰, 출력/종료 코드 파일에 접근하지 못하고,
+# 하네스의 표준 출력(/proc/<pid>/fd/1)에 쓰거나 하네스를 종료시키지 못한다.
+# 권한을 내릴 수 없거나 .judge 가 사용자 코드에 보이면 채점하지 않고 @@ISOLATION <사유> 한 줄만 출력한다.
+# 케이스가 끝나면 사용자 uid 로 남은 프로세스를 모두 종료하고, 사용자 uid 가 만든 /tmp 와 작업 디렉터리 파일을 지운다.
+LIMIT="$1"
+MAX_OUTPUT="$2"
+RUN_USER="$3"
+RUN_UID="${RUN_USER%%:*}"
+RUN_GID="${RUN_USER#*:}"
+JUDGE_DIR="$(dirname "$0")"
+WORK_DIR="$(dirname "$JUDGE_DIR")"
+
+isolation_failed() {
+    echo "@@ISOLATION $1"
+    exit 125
+}
+
+case "$RUN_UID" in ''|*[!0-9]*) isolation_failed "사용자 코드 실행 사용자 형식 오류: $RUN_USER" ;; esac
+case "$RUN_GID" in ''|*[!0-9]*) isolation_failed "사용자 코드 실행 사용자 형식 오류: $RUN_USER" ;; esac
+[ "$RUN_UID" -ne 0 ] && [ "$RUN_GID" -ne 0 ] || isolation_failed "사용자 코드를 root 로 실행할 수 없습니다"
+[ "$(id -u)" -eq 0 ] || isolation_failed "하네스가 root 로 실행되지 않았습니다"
+command -v setpriv > /dev/null 2>&1 || isolation_failed "setpriv 가 없는 이미지입니다"
+AS_USER="setpriv --reuid=$RUN_UID --regid=$RUN_GID --clear-groups"
+
+# 사용자 uid 로 .judge 를 읽거나 들어갈 수 없는지 확인 (권한 전환 자체가 실패해도 채점하지 않음)
+chmod 700 "$JUDGE_DIR" 2> /dev/null
+visibility=$($AS_USER sh -c 'if [ -r "$1" ] || [ -x "$1" ]; then echo open; else echo closed; fi' sh "$JUDGE_DIR" 2> /dev/null)
+[ "$visibility" = closed ] || isolation_failed ".judge 를 사용자 코드로부터 숨길 수 없습니다"
+RUN_SCRIPT=$(cat "$JUDGE_DIR/run.sh")
+
+TIME_BIN=""
+[ -x /usr/bin/time ] && TIME_BIN=/usr/bin/time
+TOKEN=""
+[ -f "$JUDGE_DIR/token" ] && TOKEN=$(cat "$JUDGE_DIR/token")
+
+# 케이스 최대 메모리(bytes), 시간 초과로 종료되어 기록이 없으면 0
+case_memory() {
+    kb=$(tail -n 1 "$JUDGE_DIR/mem_$1" 2>/dev/null)
+    case "$kb" in
+        ''|*[!0-9]*) echo 0 ;;
+        *) echo $((kb * 1024)) ;;
+    esac
+}
+
+# 케이스 기동 시간(us), 토큰이 없거나 표준 에러 첫 줄이 이번 토큰의 @@START 프레임이 아니면 -1
+case_startup() {
+    startup=""
+    [ -n "$TOKEN" ] && startup=$(head -n 1 "$JUDGE_DIR/err_$1" 2>/dev/null | sed -n "s/^@@START $TOKEN \([0-9][0-9]*\)\$/\1/p")
+    echo "${startup:--1}"
+}
+
+# 실행 명령(run.sh)은 하네스가 읽어 사용자 uid 로 실행 (사용자 uid 는 .judge 안의 파일을 읽지 못함)
+run_case() {
+    if [ -n "$TIME_BIN" ]; then
+        timeout -k 1 "$LIMIT" "$TIME_BIN" -f %M -o "$JUDGE_DIR/mem_$1" $AS_USER sh -c "$RUN_SCRIPT"
+    else
+        timeout -k 1 "$LIMIT" $AS_USER sh -c "$RUN_SCRIPT"
+    fi
+}
+
+# 케이스 입력으로 실행 (토큰이 있으면 입력 첫 줄로 먼저 보냄)
+run_input() {
+    if [ -n "$TOKEN" ]; then
+        { echo "$TOKEN"; cat "$JUDGE_DIR/in_$1"; } | run_case "$1"
+    else
+        run_case "$1" < "$JUDGE_DIR/in_$1"
+    fi
+}
+
+# 케이스가 남긴 사용자 프로세스를 종료하고 사용자 uid 가 만든 파일 삭제 (다음 케이스로 상태가 넘어가지 않게 함)
+# 남은 프로세스가 출력 파이프를 잡고 있으면 출력 수집이 끝나지 않으므로 종료 코드 기록 직후 실행
+cleanup_case() {
+    $AS_USER sh -c 'kill -KILL -1; find /tmp "$1" -mindepth 1 -user "$2" -delete; true' sh "$WORK_DIR" "$RUN_UID" > /dev/null 2>&1
+}
+
+cpu_usage() {
+    if [ -f /sys/fs/cgroup/cpu.stat ]; then
+        sed -n 's/^usage_usec //p' /sys/fs/cgroup/cpu.stat
+    else
+        echo $(( $(cat /sys/fs/cgroup/cpuacct/cpuacct.usage 2>/dev/null || echo 0) / 1000 ))
+    fi
+}
+
+i=0
+while [ -f "$JUDGE_DIR/in_$i" ]; do
+    cpu_start=$(cpu_usage)
+    start=$(date +%s%N)
+    # 표준 출력은 fd 3 으로 출력 파일에, 표준 에러는 앞부분만 에러 파일에 보관 (나머지는 버려 프로그램이 멈추지 않게 함)
+    {
+        {
+            run_input $i 2>&1 >&3 3>&-
+            echo $? > "$JUDGE_DIR/code_$i"
+            cleanup_case 3>&-
+        } | { head -c 1024 > "$JUDGE_DIR/err_$i"; cat > /dev/null; }
+    } 3>&1 | head -c $((MAX_OUTPUT + 1)) > "$JUDGE_DIR/out_$i"
+    code=$(cat "$JUDGE_DIR/code_$i" 2>/dev/null || echo 1)
+    end=$(date +%s%N)
+    echo "@@CASE $i $code $(( (end - start) / 1000 )) $(case_memory $i) $(( $(cpu_usage) - cpu_start )) $(case_startup $i) $(base64 -w0 < "$JUDGE_DIR/out_$i")"
+    i=$((i + 1))
+done
@@ -0,0 +1,3 @@
+// 기동 예열 프로그램: 두 정수를 읽어 합을 출력
+const [a, b] = require('fs').readFileSync(0, 'utf8').trim().split(/\s+/).map(Number);
+console.log(a + b);
@@ -0,0 +1,3 @@
+# 기동 예열 프로그램: 두 정수를 읽어 합을 출력
+a, b = map(int, input().split())
+print(a + b)
@@ -0,0 +1,138 @@
+// 단일 컨테이너 일괄 채점 zygote (Node.js)
+// 사용법: node node_zygote.js <코드 파일> <케이스당 제한 시간(초)> <케이스당 최대 출력(bytes)> <메모리 제한(MB)>
+// Node 는 fork 로 초기화된 인터프리터를 복제할 수 없어, 케이스마다 미리 기동한 자식 프로세스에서 제출 코드를 실행한다.
+// 자식의 표준 입력은 케이스 입력 파일, 표준 출력은 zygote 가 읽는 파이프이고 표준 에러는 버리며, 힙은 메모리 제한으로 제한된다.
+// 프레임은 zygote 의 표준 출력으로만 쓰고 자식에게는 이 fd 를 넘기지 않으므로 제출 코드가 프레임을 만들어 낼 수 없다.
+// 자식 기동이 끝나 실행 신호를 기다리는 시점부터 시간을 재므로 기동 시간은 실행 시간에 포함되지 않는다.
+// 케이스마다 judge-harness.sh 와 같은 형식의 한 줄을 출력한다 (기동 시간은 없으므로 -1).
+//   @@CASE <번호> <종료코드> <실행시간(us)> <최대메모리(bytes)> <CPU시간(us)> <기동시간(us)> <표준 출력(base64)>
+'use strict';
+
+const fs = require('fs');
+const os = require('os');
+const path = require('path');
+const { spawn } = require('child_process');
+
+const EXIT_TIME_OUT = 124;
+const EXIT_OUTPUT_LIMIT = 141;
+const SAMPLE_MS = 5;
+
+// 자식 시작 코드: 준비 완료를 알리고 실행 신호를 받으면 IPC 채널을 닫은 뒤 제출 코드를 메인 모듈로 실행
+// 직접 실행할 때처럼 제출 코드에는 process.send 가 없도록 제거
+const BOOTSTRAP = `
+const Module = require('module');
+process.once('message', () => {
+    process.disconnect();
+    delete process.send;
+    delete process.disconnect;
+    Module._load(process.argv[1], null, true);
+});
+process.send('ready');
+`;
+
+const [fileName, limitArg, maxOutputArg, memArg] = process.argv.slice(2);
+const filePath = path.resolve(fileName);
+const limitMs = parseFloat(limitArg) * 1000;
+const maxOutput = parseInt(maxOutputArg, 10);
+const memMb = parseInt(memArg, 10);
+const judgeDir = __dirname;
+
+// 자식 프로세스의 최대 메모리(VmHWM, bytes)와 CPU 시간(us, /proc 의 clock tick 은 1/100 초), 종료되어 읽을 수 없으면 null
+function processUsage(pid) {
+    try {
+        const status = fs.readFileSync('/proc/' + pid + '/status', 'utf8');
+        const hwm = /^VmHWM:\s+(\d+) kB$/m.exec(status);
+        const stat = fs.readFileSync('/proc/' + pid + '/stat', 'utf8');
+        const fields = stat.slice(stat.lastIndexOf(')') + 2).split(' ');
+        const ticks = parseInt(fields[11], 10) + parseInt(fields[12], 10);
+        return { peak: hwm ? parseInt(hwm[1], 10) * 1024 : 0, cpu: Math.round(ticks * 1_000_000 / 100) };
+    } catch (error) {
+        return null;
+    }
+}
+
+function runCase(index) {
+    return new Promise((resolve) => {
+        const chunks = [];
+        let size = 0;
+        let status = null;
+        let usage = { peak: 0, cpu: 0 };
+        let start = null;
+        let end = null;
+        let sampler = null;
+        let timer = null;
+
+        const input = fs.openSync(path.join(judgeDir, 'in_' + index), 'r');
+        const child = spawn(process.execPath, [
+            ...(memMb > 0 ? ['--max-old-space-size=' + memMb] : []),
+            '-e', BOOTSTRAP, filePath,
+        ], { stdio: [input, 'pipe', 'ignore', 'ipc'], detached: true });
+        fs.closeSync(input);
+
+        // 자식이 만든 프로세스까지 프로세스 그룹 단위로 종료
+        const kill = () => {
+            try {
+                process.kill(-child.pid, 'SIGKILL');
+            } catch (error) {
+                // 이미 종료됨
+            }
+        };
+
+        child.stdout.on('data', (chunk) => {
+            if (size > maxOutput) return;
+            chunks.push(chunk.subarray(0, maxOutput + 1 - size));
+            size += chunk.length;
+            if (size > maxOutput && status === null) {
+                status = EXIT_OUTPUT_LIMIT;
+                kill();
+            }
+        });
+
+        child.once('message', () => {
+            usage = processUsage(child.pid) || usage;
+            const base = usage.cpu;
+            sampler = setInterval(() => {
+                const sample = processUsage(child.pid);
+                if (sample) usage = { peak: Math.max(usage.peak, sample.peak), cpu: sample.cpu - base };
+            }, SAMPLE_MS);
+            usage.cpu = 0;
+            timer = setTimeout(() => {
+                if (status === null) status = EXIT_TIME_OUT;
+                kill();
+            }, limitMs);
+            start = process.hrtime.bigint();
+            child.send('run');
+        });
+
+        child.on('error', () => {
+            if (status === null) status = 1;
+        });
+        child.on('exit', (code, signal) => {
+            end = process.hrtime.bigint();
+            clearInterval(sampler);
+            clearTimeout(timer);
+            kill();
+            if (status === null) status = code !== null ? code : 128 + (os.constants.signals[signal] || 0);
+        });
+        child.on('close', () => {
+            resolve([
+                index,
+                status,
+                start !== null ? (end - start) / 1000n : 0,
+                usage.peak,
+                usage.cpu,
+                -1,
+                Buffer.concat(chunks).toString('base64'),
+            ].join(' '));
+        });
+    });
+}
+
+async function main() {
+    for (let i = 0; fs.existsSync(path.join(judgeDir, 'in_' + i)); i++) {
+        const frame = await runCase(i);
+        process.stdout.write('@@CASE ' + frame + '\n');
+    }
+}
+
+main();
@@ -0,0 +1,189 @@
+# 단일 컨테이너 일괄 채점 zygote (Python)
+# 사용법: python python_zygote.py <코드 파일> <케이스당 제한 시간(초)> <케이스당 최대 출력(bytes)> <메모리 제한(MB)>
+# 인터프리터 기동, 자주 쓰는 표준 라이브러리 import, 제출 코드 컴파일을 한 번만 하고
+# .judge/in_<n> 입력마다 fork 한 자식 프로세스에서 제출 코드를 실행한다.
+# 케이스마다 judge-harness.sh 와 같은 형식의 한 줄을 출력한다 (기동 시간은 없으므로 -1).
+#   @@CASE <번호> <종료코드> <실행시간(us)> <최대메모리(bytes)> <CPU시간(us)> <기동시간(us)> <표준 출력(base64)>
+# 표준 출력만 채점하며 표준 에러는 버린다.
+import base64
+import gc
+import math
+import os
+import resource
+import select
+import signal
+import sys
+import time
+import traceback
+
+# 제출 코드에서 자주 쓰는 모듈 미리 적재 (자식은 fork 로 적재된 상태를 그대로 물려받음)
+import array, bisect, collections, copy, dataclasses, datetime, decimal, fractions, functools, heapq  # noqa: E401,F401
+import io, itertools, json, operator, random, re, statistics, string, typing  # noqa: E401,F401
+
+EXIT_TIME_OUT = 124
+EXIT_OUTPUT_LIMIT = 128 + signal.SIGPIPE
+READ_SIZE = 65536
+
+
+def main():
+    file_name, limit, max_output = sys.argv[1], float(sys.argv[2]), int(sys.argv[3])
+    judge_dir = os.path.dirname(os.path.abspath(__file__))
+    file_path = os.path.abspath(file_name)
+    with open(file_path, "rb") as source:
+        code = compile(source.read(), file_path, "exec")
+
+    # 이후 생성 객체만 GC 대상으로 두어 fork 한 자식이 공유 페이지를 건드리지 않게 함
+    gc.collect()
+    gc.freeze()
+
+    i = 0
+    while os.path.isfile(os.path.join(judge_dir, "in_%d" % i)):
+        frame = run_case(code, file_path, os.path.join(judge_dir, "in_%d" % i), limit, max_output)
+        sys.stdout.write("@@CASE %d %s\n" % (i, frame))
+        sys.stdout.flush()
+        i += 1
+
+
+def run_case(code, file_path, input_path, limit, max_output):
+    read_fd, write_fd = os.pipe()
+    input_fd = os.open(input_path, os.O_RDONLY)
+    start = time.monotonic_ns()
+    pid = os.fork()
+    if pid == 0:
+        os.close(read_fd)
+        child(code, file_path, input_fd, write_fd, limit)
+    try:
+        # 자식과 부모 모두 프로세스 그룹을 지정해 강제 종료 전에 그룹이 만들어지도록 함
+        os.setpgid(pid, pid)
+    except OSError:
+        pass
+
+    os.close(write_fd)
+    os.close(input_fd)
+    output, status = collect(pid, read_fd, start + int(limit * 1_000_000_000), max_output)
+    _, wait_status, usage = os.wait4(pid, 0)
+    end = time.monotonic_ns()
+    os.close(read_fd)
+
+    if status is None:
+        exit_code = os.waitstatus_to_exitcode(wait_status)
+        status = 128 - exit_code if exit_code < 0 else exit_code
+    cpu_us = int((usage.ru_utime + usage.ru_stime) * 1_000_000)
+    return "%d %d %d %d -1 %s" % (status, (end - start) // 1000, usage.ru_maxrss * 1024, cpu_us,
+                               base64.b64encode(output).decode("ascii"))
+
+
+def child(code, file_path, input_fd, output_fd, limit):
+    """fork 한 자식: 표준 입출력을 케이스 입력/출력 파이프로, 표준 에러를 /dev/null 로 바꾸고 제출 코드를 __main__ 으로 실행"""
+    status = 0
+    try:
+        os.setpgid(0, 0)
+        error_fd = os.open(os.devnull, os.O_WRONLY)
+        os.dup2(input_fd, 0)
+        os.dup2(output_fd, 1)
+        os.dup2(error_fd, 2)
+        os.close(input_fd)
+        os.close(output_fd)
+        os.close(error_fd)
+        cpu_limit = int(math.ceil(limit)) + 1
+        resource.setrlimit(resource.RLIMIT_CPU, (cpu_limit, cpu_limit))
+        resource.setrlimit(resource.RLIMIT_CORE, (0, 0))
+        gc.unfreeze()
+        random.seed()
+        sys.argv = [file_path]
+        sys.path[0] = os.path.dirname(file_path)
+        exec(code, {"__name__": "__main__", "__file__": file_path, "__builtins__": __builtins__})
+    except SystemExit as e:
+        status = exit_status(e)
+    except BaseException as e:
+        # 직접 실행한 것과 같도록 zygote 프레임은 제외하고 출력
+        traceback.print_exception(type(e), e, e.__traceback__.tb_next)
+        status = 1
+    finally:
+        for stream in (sys.stdout, sys.stderr):
+            try:
+                stream.flush()
+            except BaseException:
+                status = status or 1
+        os._exit(status)
+
+
+def exit_status(e):
+    if e.code is None:
+        return 0
+    if isinstance(e.code, int):
+        return e.code & 0xFF
+    print(e.code, file=sys.stderr)
+    return 1
+
+
+def collect(pid, read_fd, deadline, max_output):
+    """자식 출력을 최대 출력 + 1 bytes 까지 모으며 종료를 기다림, 시간/출력 초과 시 강제 종료하고 종료 코드 반환"""
+    output = bytearray()
+    watch = [read_fd]
+    exit_fd = pidfd(pid)
+    if exit_fd is not None:
+        watch.append(exit_fd)
+    status = None
+    try:
+        while True:
+            remaining = (deadline - time.monotonic_ns()) / 1_000_000_000
+            if remaining <= 0:
+                status = EXIT_TIME_OUT
+                break
+            ready, _, _ = select.select(watch, [], [], min(remaining, 0.01) if exit_fd is None else remaining)
+            if read_fd in ready:
+                chunk = os.read(read_fd, READ_SIZE)
+                if not chunk:
+                    watch.remove(read_fd)
+                elif len(output) + len(chunk) > max_output:
+                    output += chunk[:max_output + 1 - len(output)]
+                    status = EXIT_OUTPUT_LIMIT
+                    break
+                else:
+                    output += chunk
+            if exit_fd in ready or (exit_fd is None and exited(pid)):
+                drain(read_fd, output, max_output)
+                return bytes(output), None
+        kill(pid)
+        return bytes(output), status
+    finally:
+        if exit_fd is not None:
+            os.close(exit_fd)
+
+
+def drain(read_fd, output, max_output):
+    os.set_blocking(read_fd, False)
+    try:
+        while len(output) <= max_output:
+            chunk = os.read(read_fd, READ_SIZE)
+            if not chunk:
+                break
+            output += chunk[:max_output + 1 - len(output)]
+    except BlockingIOError:
+        pass
+
+
+def pidfd(pid):
+    try:
+        return os.pidfd_open(pid)
+    except (AttributeError, OSError):
+        return None
+
+
+def exited(pid):
+    try:
+        return os.waitid(os.P_PID, pid, os.WEXITED | os.WNOHANG | os.WNOWAIT) is not None
+    except ChildProcessError:
+        return True
+
+
+def kill(pid):
+    try:
+        os.killpg(pid, signal.SIGKILL)
+    except ProcessLookupError:
+        pass
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,293 @@
+package solid.backend.Docker.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 유닉스 소켓 위에서 동작하는 Docker Engine API 스텁으로 DockerEngineClient 의 HTTP 처리를 확인
+ */
+class DockerEngineClientTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    private Path socket;
+    private EngineStub stub;
+    private DockerEngineClient client;
+
+    @BeforeEach
+    void setUp() {
+        socket = dir.resolve("docker.sock");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) client.close();
+        if (stub != null) stub.close();
+    }
+
+    @Test
+    void containerLifecycleReusesKeepAliveConnection() throws IOException {
+        start((request, out) -> {
+            switch (request.method() + " " + request.path()) {
+                case "POST /containers/create" -> reply(out, 201, "{\"Id\":\"abc123\"}");
+                case "POST /containers/abc123/start", "DELETE /containers/abc123?force=1" -> reply(out, 204, null);
+                case "POST /containers/abc123/wait" -> reply(out, 200, "{\"StatusCode\":3}");
+                default -> reply(out, 404, "{\"message\":\"no such route\"}");
+            }
+            return true;
+        });
+
+        String id = client.createContainer(Map.of("Image", "judge:latest", "Cmd", List.of("sh", "-c", "exit 3")));
+        client.startContainer(id);
+        int exitCode = client.waitContainer(id);
+        client.removeContainer(id);
+
+        assertThat(id).isEqualTo("abc123");
+        assertThat(exitCode).isEqualTo(3);
+        assertThat(stub.connections.get()).isEqualTo(1);
+        assertThat(stub.requests).extracting(StubRequest::path).containsExactly(
+                "/containers/create", "/containers/abc123/start", "/containers/abc123/wait", "/containers/abc123?force=1");
+
+        StubRequest create = stub.requests.get(0);
+        assertThat(create.headers()).containsEntry("content-type", "application/json");
+        JsonNode body = objectMapper.readTree(create.body());
+        assertThat(body.path("Image").asText()).isEqualTo("judge:latest");
+        assertThat(body.path("Cmd").get(2).asText()).isEqualTo("exit 3");
+    }
+
+    @Test
+    void readsChunkedResponseBody() throws IOException {
+        start((request, out) -> {
+            String json = "{\"StatusCode\":137}";
+            String head = "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nTransfer-Encoding: chunked\r\n\r\n";
+            String chunks = Integer.toHexString(5) + "\r\n" + json.substring(0, 5) + "\r\n"
+                    + Integer.toHexString(json.length() - 5) + ";ext=1\r\n" + json.substring(5) + "\r\n"
+                    + "0\r\n\r\n";
+            out.write((head + chunks).getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return true;
+        });
+
+        assertThat(client.waitContainer("abc123")).isEqualTo(137);
+    }
+
+    @Test
+    void unexpectedStatusIsReportedWithDaemonMessage() throws IOException {
+        start((request, out) -> {
+            reply(out, 500, "{\"message\":\"daemon exploded\"}");
+            return true;
+        });
+
+        assertThatThrownBy(() -> client.startContainer("abc123"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("500")
+                .hasMessageContaining("daemon exploded");
+    }
+
+    @Test
+    void killAndRemoveIgnoreAlreadyGoneContainers() throws IOException {
+        start((request, out) -> {
+            reply(out, request.path().contains("kill") ? 409 : 404, "{\"message\":\"gone\"}");
+            return true;
+        });
+
+        client.killContainer("abc123");
+        client.removeContainer("abc123");
+
+        assertThat(stub.requests).extracting(StubRequest::method).containsExactly("POST", "DELETE");
+    }
+
+    @Test
+    void retriesOnNewConnectionWhenIdleConnectionWasClosed() throws IOException {
+        // 응답 후 Connection: close 없이 연결을 닫아 클라이언트가 닫힌 연결을 재사용하게 만듦
+        start((request, out) -> {
+            reply(out, 200, "OK");
+            return false;
+        });
+
+        assertThat(client.ping()).isTrue();
+        assertThat(client.ping()).isTrue();
+        assertThat(stub.requests).hasSize(2);
+        assertThat(stub.connections.get()).isEqualTo(2);
+    }
+
+    @Test
+    void connectionCloseResponseIsNotPooled() throws IOException {
+        start((request, out) -> {
+            out.write(("HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 2\r\n\r\nOK")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return false;
+        });
+
+        assertThat(client.ping()).isTrue();
+        assertThat(client.ping()).isTrue();
+        assertThat(stub.connections.get()).isEqualTo(2);
+    }
+
+    @Test
+    void attachHijacksConnectionForRawStreams() throws Exception {
+        start((request, out) -> {
+            out.write("HTTP/1.1 101 UPGRADED\r\nConnection: Upgrade\r\nUpgrade: tcp\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            // 표준 입력이 끝날 때까지 받은 내용을 그대로 되돌려 보냄
+            request.in().transferTo(out);
+            out.flush();
+            return false;
+        });
+
+        try (DockerEngineClient.Connection connection = client.attachContainer("abc123")) {
+            WritableByteChannel stdin = connection.getStdinChannel();
+            stdin.write(ByteBuffer.wrap("1 2\n".getBytes(StandardCharsets.UTF_8)));
+            stdin.close();
+
+            byte[] echoed = connection.getInputStream().readAllBytes();
+            assertThat(new String(echoed, StandardCharsets.UTF_8)).isEqualTo("1 2\n");
+        }
+
+        StubRequest attach = stub.requests.get(0);
+        assertThat(attach.path()).isEqualTo("/containers/abc123/attach?stream=1&stdin=1&stdout=1&stderr=1");
+        assertThat(attach.headers()).containsEntry("upgrade", "tcp");
+    }
+
+    @Test
+    void pingIsFalseWithoutDaemon() {
+        client = new DockerEngineClient(socket, 1);
+
+        assertThat(client.ping()).isFalse();
+    }
+
+    private void start(Handler handler) throws IOException {
+        stub = new EngineStub(socket, handler);
+        client = new DockerEngineClient(socket, 2);
+    }
+
+    private static void reply(OutputStream out, int status, String body) throws IOException {
+        byte[] payload = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(" STUB\r\n");
+        if (status != 204) {
+            head.append("Content-Type: application/json\r\nContent-Length: ").append(payload.length).append("\r\n");
+        }
+        out.write(head.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII));
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * 스텁 응답 처리기, 같은 연결에서 다음 요청을 계속 받으려면 true 반환
+     */
+    @FunctionalInterface
+    private interface Handler {
+        boolean handle(StubRequest request, OutputStream out) throws IOException;
+    }
+
+    private record StubRequest(String method, String path, Map<String, String> headers, byte[] body, InputStream in) {
+    }
+
+    /**
+     * 연결마다 스레드를 두고 HTTP/1.1 요청을 읽어 처리기에 넘기는 유닉스 소켓 서버
+     */
+    private static class EngineStub implements Closeable {
+        private final ServerSocketChannel server;
+        private final Handler handler;
+        private final List<StubRequest> requests = new CopyOnWriteArrayList<>();
+        private final AtomicInteger connections = new AtomicInteger();
+
+        EngineStub(Path socket, Handler handler) throws IOException {
+            this.handler = handler;
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            server.bind(UnixDomainSocketAddress.of(socket));
+            Thread acceptor = new Thread(this::accept, "engine-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void accept() {
+            while (server.isOpen()) {
+                try {
+                    SocketChannel channel = server.accept();
+                    connections.incrementAndGet();
+                    Thread worker = new Thread(() -> serve(channel), "engine-stub-conn");
+                    worker.setDaemon(true);
+                    worker.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(SocketChannel channel) {
+            try (channel) {
+                InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                StubRequest request;
+                while ((request = read(in)) != null) {
+                    requests.add(request);
+                    if (!handler.handle(request, out)) return;
+                }
+            } catch (IOException e) {
+                // 클라이언트가 연결을 닫음
+            }
+        }
+
+        private StubRequest read(InputStream in) throws IOException {
+            String requestLine = readLine(in);
+            if (requestLine == null) return null;
+            String[] parts = requestLine.split(" ");
+
+            Map<String, String> headers = new HashMap<>();
+            String line;
+            while ((line = readLine(in)) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+            }
+            byte[] body = in.readNBytes(Integer.parseInt(headers.getOrDefault("content-length", "0")));
+            return new StubRequest(parts[0], parts[1], headers, body, in);
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (b != '\r') line.write(b);
+            }
+            if (b == -1 && line.size() == 0) return null;
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public void close() {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // 이미 닫힌 소켓
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package solid.backend.Docker.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutputMatcherTest {
+
+    @Test
+    void matchesIgnoringSurroundingWhitespaceAndCarriageReturns() {
+        OutputMatcher matcher = feed(new OutputMatcher("1 2\n3\n"), "\n  1 2\r\n3\r\n\r\n");
+
+        assertThat(matcher.isMismatch()).isFalse();
+        assertThat(matcher.matches()).isTrue();
+    }
+
+    @Test
+    void matchesAcrossChunkBoundaries() {
+        OutputMatcher matcher = new OutputMatcher("hello world");
+        for (String chunk : new String[]{"he", "llo w", "", "orld", "\n"}) {
+            feed(matcher, chunk);
+        }
+
+        assertThat(matcher.matches()).isTrue();
+    }
+
+    @Test
+    void innerWhitespaceMustMatchExactly() {
+        OutputMatcher matcher = feed(new OutputMatcher("1 2"), "1  2");
+
+        assertThat(matcher.isMismatch()).isTrue();
+        assertThat(matcher.matches()).isFalse();
+    }
+
+    @Test
+    void mismatchIsReportedAsSoonAsOutputDiverges() {
+        OutputMatcher matcher = feed(new OutputMatcher("abc"), "abx");
+
+        assertThat(matcher.isMismatch()).isTrue();
+    }
+
+    @Test
+    void extraOutputAfterAnswerIsMismatch() {
+        OutputMatcher matcher = feed(new OutputMatcher("abc"), "abc\nd");
+
+        assertThat(matcher.isMismatch()).isTrue();
+        assertThat(matcher.matches()).isFalse();
+    }
+
+    @Test
+    void truncatedOutputDoesNotMatch() {
+        OutputMatcher matcher = feed(new OutputMatcher("abc"), "ab");
+
+        assertThat(matcher.isMismatch()).isFalse();
+        assertThat(matcher.matches()).isFalse();
+    }
+
+    @Test
+    void comparesMultiByteCharactersByteWise() {
+        assertThat(feed(new OutputMatcher("정답"), "정답\n").matches()).isTrue();
+        assertThat(feed(new OutputMatcher("정답"), "오답\n").matches()).isFalse();
+    }
+
+    @Test
+    void emptyAnswerMatchesWhitespaceOnlyOutput() {
+        assertThat(feed(new OutputMatcher(""), " \n\t").matches()).isTrue();
+        assertThat(feed(new OutputMatcher(""), "0").matches()).isFalse();
+    }
+
+    private static OutputMatcher feed(OutputMatcher matcher, String output) {
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        matcher.accept(bytes, bytes.length);
+        return matcher;
+    }
+}
@@ -0,0 +1,103 @@
+package solid.backend.Docker.executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenMatcherTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void whitespaceKindAndCountAreIgnored() throws IOException {
+        TokenMatcher matcher = feed(matcher("1 2\n3\n"), "\n1\t\t2 3\r\n");
+
+        assertThat(matcher.isMismatch()).isFalse();
+        assertThat(matcher.matches()).isTrue();
+    }
+
+    @Test
+    void tokensMustNotBeSplitOrJoined() throws IOException {
+        assertThat(feed(matcher("12 3"), "1 23").matches()).isFalse();
+        assertThat(feed(matcher("1 2"), "12").matches()).isFalse();
+        assertThat(feed(matcher("12"), "1 2").matches()).isFalse();
+    }
+
+    @Test
+    void tokenSplitAcrossChunksStillMatches() throws IOException {
+        TokenMatcher matcher = matcher("100 200\n");
+        for (String chunk : new String[]{"10", "0 ", "2", "00"}) {
+            feed(matcher, chunk);
+        }
+
+        assertThat(matcher.matches()).isTrue();
+    }
+
+    @Test
+    void missingAndExtraTokensDoNotMatch() throws IOException {
+        TokenMatcher missing = feed(matcher("1 2 3"), "1 2");
+        assertThat(missing.isMismatch()).isFalse();
+        assertThat(missing.matches()).isFalse();
+
+        TokenMatcher extra = feed(matcher("1 2"), "1 2 3");
+        assertThat(extra.isMismatch()).isTrue();
+        assertThat(extra.matches()).isFalse();
+    }
+
+    @Test
+    void prefixTokenIsMismatch() throws IOException {
+        assertThat(feed(matcher("abc def"), "ab def").isMismatch()).isTrue();
+    }
+
+    @Test
+    void largeAnswerFileMatchesStreamedOutput() throws IOException {
+        StringBuilder answer = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            answer.append(i).append(i % 10 == 9 ? '\n' : ' ');
+        }
+        TokenMatcher matcher = matcher(answer.toString());
+
+        byte[] output = answer.toString().replace('\n', ' ').getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[8192];
+        for (int offset = 0; offset < output.length; offset += buffer.length) {
+            int length = Math.min(buffer.length, output.length - offset);
+            System.arraycopy(output, offset, buffer, 0, length);
+            matcher.accept(buffer, length);
+        }
+
+        assertThat(matcher.matches()).isTrue();
+    }
+
+    @Test
+    void emptyAnswerFileMatchesOnlyWhitespace() throws IOException {
+        assertThat(feed(matcher(""), "\n \n").matches()).isTrue();
+        assertThat(feed(matcher(""), "x").matches()).isFalse();
+    }
+
+    @Test
+    void missingAnswerFileFails() {
+        assertThatThrownBy(() -> new TokenMatcher(dir.resolve("missing.out")))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    private TokenMatcher matcher(String answer) throws IOException {
+        Path file = Files.createTempFile(dir, "answer", ".out");
+        Files.writeString(file, answer);
+        return new TokenMatcher(file);
+    }
+
+    private static TokenMatcher feed(TokenMatcher matcher, String output) {
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        matcher.accept(bytes, bytes.length);
+        return matcher;
+    }
+}
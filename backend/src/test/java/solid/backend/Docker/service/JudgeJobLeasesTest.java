@@ -0,0 +1,222 @@
+package solid.backend.Docker.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import solid.backend.config.DockerProperties;
+import solid.backend.entity.JudgeJob;
+import solid.backend.jpaRepository.JudgeJobRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static solid.backend.Docker.constant.DockerConstants.*;
+
+/**
+ * judge_job 임대 가져가기·연장·만료 회수와 임대 세대 확인 (H2, MySQL 호환 모드)
+ * 워커 두 개를 같은 DB 에 붙여 여러 노드를 흉내 내며, 각 호출이 직접 커밋하도록 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest(properties = {
+        "spring.config.on-not-found=ignore",
+        "spring.datasource.url=jdbc:h2:mem:judge_job;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JudgeJobLeasesTest {
+    private static final int LEASE_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Autowired
+    JudgeJobRepository judgeJobRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private JudgeJobLeases workerA;
+    private JudgeJobLeases workerB;
+
+    @BeforeEach
+    void setUp() {
+        workerA = leases("worker-a");
+        workerB = leases("worker-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        judgeJobRepository.deleteAll();
+    }
+
+    @Test
+    void claimTakesOldestAvailableJobOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        String older = queue(now.minusMinutes(2), null);
+        String newer = queue(now.minusMinutes(1), null);
+        queue(now.minusMinutes(3), now.plusMinutes(5)); // 재시도 대기 중
+
+        JudgeJob first = workerA.claim();
+        JudgeJob second = workerB.claim();
+
+        assertThat(first.getJobId()).isEqualTo(older);
+        assertThat(first.getJobStatus()).isEqualTo(JOB_RUNNING);
+        assertThat(first.getLeaseOwner()).isEqualTo("worker-a");
+        assertThat(first.getLeaseEpoch()).isEqualTo(1L);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLeaseUntil()).isAfter(now.plusSeconds(LEASE_SECONDS - 5));
+        assertThat(second.getJobId()).isEqualTo(newer);
+        assertThat(second.getLeaseOwner()).isEqualTo("worker-b");
+        assertThat(workerA.claim()).isNull();
+    }
+
+    @Test
+    void heartbeatExtendsOnlyHeldLeases() {
+        String jobId = queue(LocalDateTime.now(), null);
+        workerA.claim();
+        LocalDateTime soon = LocalDateTime.now().plusSeconds(5).truncatedTo(ChronoUnit.SECONDS);
+        setLeaseUntil(jobId, soon);
+
+        workerB.heartbeat();
+        assertThat(load(jobId).getLeaseUntil()).isEqualTo(soon);
+
+        workerA.heartbeat();
+        JudgeJob extended = load(jobId);
+        assertThat(extended.getLeaseUntil()).isAfter(soon);
+        assertThat(extended.getJobStatus()).isEqualTo(JOB_RUNNING);
+    }
+
+    @Test
+    void expiredLeaseIsRequeuedAndStaleOwnerIsFenced() {
+        String jobId = queue(LocalDateTime.now(), null);
+        JudgeJob stale = workerA.claim();
+        setLeaseUntil(jobId, LocalDateTime.now().minusSeconds(1));
+
+        // worker-a 가 응답하지 않는 동안 다른 노드의 heartbeat 가 작업을 회수
+        workerB.heartbeat();
+        JudgeJob requeued = load(jobId);
+        assertThat(requeued.getJobStatus()).isEqualTo(JOB_QUEUED);
+        assertThat(requeued.getLeaseOwner()).isNull();
+
+        JudgeJob current = workerB.claim();
+        assertThat(current.getLeaseEpoch()).isEqualTo(2L);
+        assertThat(current.getAttempts()).isEqualTo(2);
+
+        assertThat(workerA.finish(stale, JOB_DONE, "{}", null)).isFalse();
+        assertThat(load(jobId).getLeaseOwner()).isEqualTo("worker-b");
+
+        assertThat(workerB.finish(current, JOB_DONE, "{\"ok\":true}", null)).isTrue();
+        JudgeJob done = load(jobId);
+        assertThat(done.getJobStatus()).isEqualTo(JOB_DONE);
+        assertThat(done.getJobResult()).isEqualTo("{\"ok\":true}");
+        assertThat(done.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void reclaimBySameWorkerIsFencedByEpoch() {
+        String jobId = queue(LocalDateTime.now(), null);
+        JudgeJob firstAttempt = workerA.claim();
+        setLeaseUntil(jobId, LocalDateTime.now().minusSeconds(1));
+        workerB.heartbeat();
+
+        JudgeJob secondAttempt = workerA.claim();
+        assertThat(secondAttempt.getLeaseOwner()).isEqualTo(firstAttempt.getLeaseOwner());
+
+        // 늦게 끝난 첫 시도는 같은 워커라도 두 번째 시도의 임대를 건드리지 못함
+        assertThat(workerA.release(firstAttempt, "late")).isFalse();
+        assertThat(workerA.finish(firstAttempt, JOB_FAILED, null, "late")).isFalse();
+        assertThat(load(jobId).getJobStatus()).isEqualTo(JOB_RUNNING);
+
+        // 첫 시도 종료가 두 번째 시도의 임대 연장을 멈추지 않음
+        LocalDateTime soon = LocalDateTime.now().plusSeconds(5).truncatedTo(ChronoUnit.SECONDS);
+        setLeaseUntil(jobId, soon);
+        workerA.heartbeat();
+        assertThat(load(jobId).getLeaseUntil()).isAfter(soon);
+
+        assertThat(workerA.finish(secondAttempt, JOB_DONE, "{}", null)).isTrue();
+    }
+
+    @Test
+    void expiredLeaseFailsAfterMaxAttempts() {
+        String jobId = queue(LocalDateTime.now(), null);
+        workerA.claim();
+        setLeaseUntil(jobId, LocalDateTime.now().minusSeconds(1));
+        workerB.heartbeat();
+        workerB.claim();
+        setLeaseUntil(jobId, LocalDateTime.now().minusSeconds(1));
+
+        workerA.heartbeat();
+
+        JudgeJob failed = load(jobId);
+        assertThat(failed.getJobStatus()).isEqualTo(JOB_FAILED);
+        assertThat(failed.getJobError()).isNotBlank();
+        assertThat(failed.getFinishedAt()).isNotNull();
+        assertThat(workerA.claim()).isNull();
+    }
+
+    @Test
+    void releaseRequeuesWithBackoffUntilAttemptsRunOut() {
+        String jobId = queue(LocalDateTime.now(), null);
+        JudgeJob first = workerA.claim();
+
+        assertThat(workerA.release(first, "engine error")).isTrue();
+        JudgeJob released = load(jobId);
+        assertThat(released.getJobStatus()).isEqualTo(JOB_QUEUED);
+        assertThat(released.getJobError()).isEqualTo("engine error");
+        assertThat(released.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(workerB.claim()).isNull();
+
+        setAvailableAt(jobId, LocalDateTime.now().minusSeconds(1));
+        JudgeJob second = workerB.claim();
+        assertThat(second.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(workerB.release(second, "engine error")).isFalse();
+        assertThat(load(jobId).getJobStatus()).isEqualTo(JOB_RUNNING);
+    }
+
+    private JudgeJobLeases leases(String workerId) {
+        DockerProperties properties = new DockerProperties();
+        properties.getQueue().setWorkerId(workerId);
+        properties.getQueue().setLeaseSeconds(LEASE_SECONDS);
+        properties.getQueue().setMaxAttempts(MAX_ATTEMPTS);
+        properties.getQueue().setRetryBackoffSeconds(30);
+        return new JudgeJobLeases(judgeJobRepository, transactionManager, properties);
+    }
+
+    private String queue(LocalDateTime createdAt, LocalDateTime availableAt) {
+        JudgeJob job = new JudgeJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setJobType(JOB_TYPE_RUN);
+        job.setJobStatus(JOB_QUEUED);
+        job.setMemberId("member");
+        job.setCodeFileId(1);
+        job.setQuestionId(1);
+        job.setCreatedAt(createdAt);
+        job.setAvailableAt(availableAt);
+        return judgeJobRepository.save(job).getJobId();
+    }
+
+    private JudgeJob load(String jobId) {
+        return judgeJobRepository.findById(jobId).orElseThrow();
+    }
+
+    private void setLeaseUntil(String jobId, LocalDateTime leaseUntil) {
+        JudgeJob job = load(jobId);
+        job.setLeaseUntil(leaseUntil);
+        judgeJobRepository.save(job);
+    }
+
+    private void setAvailableAt(String jobId, LocalDateTime availableAt) {
+        JudgeJob job = load(jobId);
+        job.setAvailableAt(availableAt);
+        judgeJobRepository.save(job);
+    }
+}
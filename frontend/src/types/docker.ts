@@ -17,13 +17,15 @@ export interface ExecutionResultDto {
     mem: string,
     isCorrect: boolean,
     progress: number,
-    testcaseResults: TestcaseResultDto[]
+    testcaseResults: TestcaseResultDto[],
+    compileError?: string
 }
 
 export interface ExecutionTestDto {
     language: string,
     isCorrect: boolean,
-    testcaseResults: TestcaseResultDto[]
+    testcaseResults: TestcaseResultDto[],
+    compileError?: string
 }
 
 export interface CustomInputResultDto {
@@ -36,5 +38,6 @@ export interface TestcaseResultDto {
     input: string,
     output: string,
     actual: string,
-    pass: boolean
+    pass: boolean,
+    cpuTime?: number
 }